@@ -0,0 +1,46 @@
+package common.util.mapper.v1_0;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation marks an interface whose abstract methods copy one bean into
+ * another. {@link MapperProcessor} generates the implementation class named
+ * <code>&lt;InterfaceName&gt;Impl</code> in the same package at compile time.
+ * <p>
+ * Supported methods are <code>To map(From from)</code>, which creates the
+ * destination bean with its no-arg constructor, and
+ * <code>void map(To to, From from)</code>, which copies into an existing bean.
+ * Properties are copied the same way
+ * <code>common.util.reflection.v2_1.ReflectionUtil</code> copies them: getters
+ * (<code>get</code> or <code>is</code> for primitive booleans) are matched by
+ * name with setters. Each method of the first form also acts as an entry of
+ * the excluded classes map: a nested bean or a List/Set element of its origin
+ * type is converted to its destination type by calling that method.
+ *
+ * <pre>
+ * &#64;Mapper
+ * public interface EntityMapper {
+ * 	Bean toBean(Entity entity);
+ *
+ * 	SubBean toSubBean(SubEntity subEntity);
+ * }
+ * </pre>
+ *
+ * @author Vijay Shegokar
+ * @version 1.0
+ * @date 06-April-2018
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Mapper {
+
+	/**
+	 * @return true if null values also have to be copied to destination bean
+	 */
+	boolean strictCopy() default false;
+}
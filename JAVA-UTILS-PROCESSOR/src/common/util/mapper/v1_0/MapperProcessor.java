@@ -0,0 +1,512 @@
+package common.util.mapper.v1_0;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * This annotation processor generates the implementation of every interface
+ * annotated with {@link Mapper}. The generated class copies the beans with
+ * plain getter and setter calls, so the mapping needs no reflection at runtime
+ * and no warm up on its first call.
+ *
+ * @author Vijay Shegokar
+ * @version 1.0
+ * @date 06-April-2018
+ */
+@SupportedAnnotationTypes("common.util.mapper.v1_0.Mapper")
+public class MapperProcessor extends AbstractProcessor {
+
+	private static final String INDENT = "    ";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(Mapper.class)) {
+			if (element.getKind() != ElementKind.INTERFACE) {
+				error(element, "@Mapper can be used only on interfaces");
+				continue;
+			}
+			TypeElement mapperType = (TypeElement) element;
+			if (!mapperType.getTypeParameters().isEmpty()) {
+				error(element, "@Mapper interface can not have type parameters");
+				continue;
+			}
+			try {
+				generate(mapperType, mapperType.getAnnotation(Mapper.class).strictCopy());
+			} catch (IOException e) {
+				error(element, "Not able to write mapper implementation: " + e.getMessage());
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * This method writes the implementation class of given mapper interface.
+	 *
+	 * @param mapperType
+	 *            interface annotated with {@link Mapper}
+	 * @param strictCopy
+	 *            if true then null values are also copied
+	 * @throws IOException
+	 *             If source file can not be written
+	 */
+	private void generate(TypeElement mapperType, boolean strictCopy) throws IOException {
+		List<MapperMethod> methods = new ArrayList<MapperMethod>();
+		for (ExecutableElement method : ElementFilter.methodsIn(elements().getAllMembers(mapperType))) {
+			if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+				continue;
+			}
+			MapperMethod mapperMethod = MapperMethod.of(method, types());
+			if (mapperMethod == null) {
+				error(method, "Mapper method must be either 'To map(From from)' or 'void map(To to, From from)'"
+						+ " where To and From are classes");
+				return;
+			}
+			methods.add(mapperMethod);
+		}
+
+		PackageElement packageElement = elements().getPackageOf(mapperType);
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		String nestedName = mapperType.getQualifiedName().toString();
+		if (packageName.length() > 0) {
+			nestedName = nestedName.substring(packageName.length() + 1);
+		}
+		String implName = nestedName.replace('.', '_') + "Impl";
+
+		StringBuilder source = new StringBuilder();
+		if (packageName.length() > 0) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("/**\n * Generated by ").append(MapperProcessor.class.getName()).append(" from {@link ")
+				.append(mapperType.getQualifiedName()).append("}.\n */\n");
+		source.append("public class ").append(implName).append(" implements ").append(mapperType.getQualifiedName())
+				.append(" {\n");
+		for (MapperMethod method : methods) {
+			if (!writeMethod(source, method, methods, strictCopy)) {
+				return;
+			}
+		}
+		source.append("}\n");
+
+		String qualifiedName = packageName.length() > 0 ? packageName + "." + implName : implName;
+		Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, mapperType).openWriter();
+		try {
+			writer.write(source.toString());
+		} finally {
+			writer.close();
+		}
+	}
+
+	private boolean writeMethod(StringBuilder source, MapperMethod method, List<MapperMethod> methods,
+			boolean strictCopy) {
+		ExecutableElement element = method.element;
+		TypeElement toElement = (TypeElement) types().asElement(method.to);
+		String fromName = element.getParameters().get(method.fromIndex).getSimpleName().toString();
+		String toName;
+		source.append("\n").append(INDENT).append("@Override\n").append(INDENT).append("public ")
+				.append(method.creates ? method.to.toString() : "void").append(" ")
+				.append(element.getSimpleName()).append("(");
+		if (method.creates) {
+			source.append(method.from).append(" ").append(fromName);
+			toName = "to".equals(fromName) ? "result" : "to";
+		} else {
+			toName = element.getParameters().get(0).getSimpleName().toString();
+			source.append(method.to).append(" ").append(toName).append(", ").append(method.from).append(" ")
+					.append(fromName);
+		}
+		source.append(") {\n");
+		String body = INDENT + INDENT;
+		if (!method.creates) {
+			source.append(body).append("if (").append(toName).append(" == null) {\n").append(body).append(INDENT)
+					.append("throw new IllegalArgumentException(\"No destination bean specified\");\n").append(body)
+					.append("}\n");
+		}
+		source.append(body).append("if (").append(fromName).append(" == null) {\n").append(body).append(INDENT)
+				.append("throw new IllegalArgumentException(\"No origin bean specified\");\n").append(body)
+				.append("}\n");
+		if (method.creates) {
+			if (toElement.getModifiers().contains(Modifier.ABSTRACT) || !hasNoArgConstructor(toElement)) {
+				error(element, method.to + " must be a concrete class with public no-arg constructor");
+				return false;
+			}
+			source.append(body).append(method.to).append(" ").append(toName).append(" = new ").append(method.to)
+					.append("();\n");
+		}
+
+		List<ExecutableElement> setters = new ArrayList<ExecutableElement>();
+		for (ExecutableElement member : properties(toElement)) {
+			if (isSetter(member)) {
+				setters.add(member);
+			}
+		}
+		List<ExecutableElement> allSetters = new ArrayList<ExecutableElement>(setters);
+		TypeElement fromElement = (TypeElement) types().asElement(method.from);
+		int variable = 0;
+		for (ExecutableElement getter : properties(fromElement)) {
+			boolean isBoolean = getter.getSimpleName().toString().startsWith("is")
+					&& getter.getReturnType().getKind() == TypeKind.BOOLEAN;
+			if (!isGetter(getter, isBoolean)) {
+				continue;
+			}
+			String propertyName = getter.getSimpleName().toString().substring(isBoolean ? 2 : 3);
+			ExecutableElement setter = chooseSetter(setters, propertyName, getter.getReturnType());
+			if (setter == null) {
+				continue;
+			}
+			setters.remove(setter);
+			TypeMirror valueType = ((ExecutableType) types().asMemberOf((DeclaredType) method.from, getter))
+					.getReturnType();
+			TypeMirror parameterType = ((ExecutableType) types().asMemberOf((DeclaredType) method.to, setter))
+					.getParameterTypes().get(0);
+			String value = "value" + variable++;
+			String get = fromName + "." + getter.getSimpleName() + "()";
+			String set = toName + "." + setter.getSimpleName() + "(";
+			if (isOverloaded(setter, allSetters)) {
+				// javac would pick the most specific overload for the value, not the chosen setter
+				set += "(" + parameterType + ") ";
+			}
+			if (!writeProperty(source, body, value, get, set, valueType, parameterType, methods, strictCopy)) {
+				warning(element, "Property " + propertyName + " of " + method.from + " is not copied to " + method.to
+						+ ": " + valueType + " can not be converted to " + parameterType);
+			}
+		}
+		if (method.creates) {
+			source.append(body).append("return ").append(toName).append(";\n");
+		}
+		source.append(INDENT).append("}\n");
+		return true;
+	}
+
+	/**
+	 * This method writes the statements copying one property. Values are
+	 * assigned as they are, converted by another mapper method when its origin
+	 * and destination types match, or copied element by element for List and Set
+	 * properties whose element types match a mapper method.
+	 *
+	 * @return false if the property can not be copied
+	 */
+	private boolean writeProperty(StringBuilder source, String indent, String value, String get, String set,
+			TypeMirror valueType, TypeMirror parameterType, List<MapperMethod> methods, boolean strictCopy) {
+		MapperMethod converter = converter(valueType, parameterType, methods);
+		if (converter != null) {
+			source.append(indent).append(valueType).append(" ").append(value).append(" = ").append(get)
+					.append(";\n");
+			if (strictCopy) {
+				source.append(indent).append(set).append("(").append(value).append(" == null ? null : ")
+						.append(converter.element.getSimpleName()).append("(").append(value).append(")));\n");
+			} else {
+				source.append(indent).append("if (").append(value).append(" != null) {\n").append(indent)
+						.append(INDENT).append(set).append(converter.element.getSimpleName()).append("(")
+						.append(value).append("));\n").append(indent).append("}\n");
+			}
+			return true;
+		}
+		String collection = collectionType(valueType, parameterType);
+		if (collection != null) {
+			TypeMirror fromElementType = elementType(valueType);
+			TypeMirror toElementType = elementType(parameterType);
+			MapperMethod elementConverter = fromElementType == null || toElementType == null ? null
+					: converter(fromElementType, toElementType, methods);
+			if (elementConverter != null) {
+				String copy = value + "Copy";
+				String element = value + "Element";
+				String implementation = "java.util.List".equals(collection) ? "java.util.ArrayList"
+						: "java.util.HashSet";
+				source.append(indent).append(valueType).append(" ").append(value).append(" = ").append(get)
+						.append(";\n");
+				source.append(indent).append("if (").append(value).append(" != null) {\n");
+				source.append(indent).append(INDENT).append(collection).append("<").append(toElementType)
+						.append("> ").append(copy).append(" = new ").append(implementation).append("<")
+						.append(toElementType).append(">(").append(value).append(".size());\n");
+				source.append(indent).append(INDENT).append("for (").append(fromElementType).append(" ")
+						.append(element).append(" : ").append(value).append(") {\n");
+				source.append(indent).append(INDENT).append(INDENT).append(copy).append(".add(").append(element)
+						.append(" == null ? null : ").append(elementConverter.element.getSimpleName()).append("(")
+						.append(element).append("));\n");
+				source.append(indent).append(INDENT).append("}\n");
+				source.append(indent).append(INDENT).append(set).append(copy).append(");\n");
+				source.append(indent).append("}");
+				if (strictCopy) {
+					source.append(" else {\n").append(indent).append(INDENT).append(set).append("null);\n")
+							.append(indent).append("}");
+				}
+				source.append("\n");
+				return true;
+			}
+		}
+		if (!types().isAssignable(valueType, parameterType)) {
+			return false;
+		}
+		// null can never be unboxed into a primitive setter, even in strict copy
+		if (valueType.getKind().isPrimitive() || (strictCopy && !parameterType.getKind().isPrimitive())) {
+			source.append(indent).append(set).append(get).append(");\n");
+		} else {
+			source.append(indent).append(valueType).append(" ").append(value).append(" = ").append(get)
+					.append(";\n");
+			source.append(indent).append("if (").append(value).append(" != null) {\n").append(indent).append(INDENT)
+					.append(set).append(value).append(");\n").append(indent).append("}\n");
+		}
+		return true;
+	}
+
+	/**
+	 * @return mapper method creating given destination type from given origin
+	 *         type, null if there is no such method
+	 */
+	private MapperMethod converter(TypeMirror from, TypeMirror to, List<MapperMethod> methods) {
+		for (MapperMethod method : methods) {
+			if (method.creates && types().isSameType(method.from, from) && types().isSameType(method.to, to)) {
+				return method;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return "java.util.List" or "java.util.Set" if both types are lists or both
+	 *         are sets which can hold the copied collection, otherwise null
+	 */
+	private String collectionType(TypeMirror valueType, TypeMirror parameterType) {
+		for (String collection : new String[] { "java.util.List", "java.util.Set" }) {
+			TypeMirror collectionType = types().erasure(elements().getTypeElement(collection).asType());
+			if (types().isAssignable(types().erasure(valueType), collectionType)
+					&& types().isSameType(types().erasure(parameterType), collectionType)) {
+				return collection;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return single type argument of given collection type, upper bound of a
+	 *         wildcard, or null if it is not a declared class type
+	 */
+	private TypeMirror elementType(TypeMirror collectionType) {
+		if (collectionType.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		List<? extends TypeMirror> arguments = ((DeclaredType) collectionType).getTypeArguments();
+		if (arguments.size() != 1) {
+			return null;
+		}
+		TypeMirror argument = arguments.get(0);
+		if (argument.getKind() == TypeKind.WILDCARD) {
+			argument = ((WildcardType) argument).getExtendsBound();
+		}
+		return argument != null && argument.getKind() == TypeKind.DECLARED ? argument : null;
+	}
+
+	/**
+	 * This method returns the methods of given type which may be getters or
+	 * setters, sorted by name then parameter type as the runtime copy sorts
+	 * {@link Class#getMethods()}. Members of {@link Object}, like
+	 * <code>getClass()</code>, are left out.
+	 */
+	private List<ExecutableElement> properties(TypeElement type) {
+		List<ExecutableElement> methods = new ArrayList<ExecutableElement>();
+		for (ExecutableElement member : ElementFilter.methodsIn(elements().getAllMembers(type))) {
+			Element owner = member.getEnclosingElement();
+			if (!((TypeElement) owner).getQualifiedName().contentEquals(Object.class.getName())) {
+				methods.add(member);
+			}
+		}
+		Collections.sort(methods, new Comparator<ExecutableElement>() {
+			@Override
+			public int compare(ExecutableElement m1, ExecutableElement m2) {
+				int result = m1.getSimpleName().toString().compareTo(m2.getSimpleName().toString());
+				return result != 0 ? result : parameterNames(m1).compareTo(parameterNames(m2));
+			}
+		});
+		return methods;
+	}
+
+	/**
+	 * This method chooses the setter receiving the value of a getter with the
+	 * same rule as the runtime copy: the first setter of the property taking
+	 * exactly the getter type, else the first one taking a super type of it,
+	 * primitive types being same as their wrappers, else the first setter. Types
+	 * are compared after erasure.
+	 *
+	 * @param setters
+	 *            setters not chosen yet, as sorted by {@link #properties(TypeElement)}
+	 * @return chosen setter, or null if there is none for the property
+	 */
+	private ExecutableElement chooseSetter(List<ExecutableElement> setters, String propertyName,
+			TypeMirror valueType) {
+		TypeMirror value = types().erasure(valueType);
+		ExecutableElement assignable = null;
+		ExecutableElement first = null;
+		for (ExecutableElement candidate : setters) {
+			if (!candidate.getSimpleName().toString().substring(3).equals(propertyName)) {
+				continue;
+			}
+			TypeMirror parameter = types().erasure(candidate.getParameters().get(0).asType());
+			if (types().isSameType(parameter, value)) {
+				return candidate;
+			}
+			if (assignable == null && types().isAssignable(boxed(value), boxed(parameter))) {
+				assignable = candidate;
+			}
+			if (first == null) {
+				first = candidate;
+			}
+		}
+		return assignable != null ? assignable : first;
+	}
+
+	private static boolean isOverloaded(ExecutableElement setter, List<ExecutableElement> setters) {
+		for (ExecutableElement other : setters) {
+			if (other != setter && other.getSimpleName().contentEquals(setter.getSimpleName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private TypeMirror boxed(TypeMirror type) {
+		return type.getKind().isPrimitive() ? types().boxedClass((PrimitiveType) type).asType() : type;
+	}
+
+	/**
+	 * @return erased parameter types of given method, printed as canonical names
+	 */
+	private String parameterNames(ExecutableElement method) {
+		StringBuilder names = new StringBuilder();
+		for (VariableElement parameter : method.getParameters()) {
+			names.append(types().erasure(parameter.asType())).append(',');
+		}
+		return names.toString();
+	}
+
+	private boolean hasNoArgConstructor(TypeElement type) {
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Same rule as the runtime copy: public instance method, not declared by
+	 * {@link Object}, starting with "get" (or "is" for primitive boolean) having
+	 * no parameter and non void result.
+	 */
+	private static boolean isGetter(ExecutableElement method, boolean isBoolean) {
+		if (!isPublicInstance(method))
+			return false;
+		String name = method.getSimpleName().toString();
+		if (isBoolean && !name.startsWith("is"))
+			return false;
+		if (!isBoolean && !name.startsWith("get"))
+			return false;
+		if (!method.getParameters().isEmpty())
+			return false;
+		if (method.getReturnType().getKind() == TypeKind.VOID)
+			return false;
+		return true;
+	}
+
+	private static boolean isSetter(ExecutableElement method) {
+		if (!isPublicInstance(method))
+			return false;
+		if (!method.getSimpleName().toString().startsWith("set"))
+			return false;
+		if (method.getParameters().size() != 1)
+			return false;
+		return true;
+	}
+
+	private static boolean isPublicInstance(ExecutableElement method) {
+		return method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC);
+	}
+
+	private Elements elements() {
+		return processingEnv.getElementUtils();
+	}
+
+	private Types types() {
+		return processingEnv.getTypeUtils();
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+	private void warning(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+	}
+
+	/**
+	 * One abstract method of a mapper interface.
+	 */
+	private static final class MapperMethod {
+
+		private final ExecutableElement element;
+		private final TypeMirror from;
+		private final TypeMirror to;
+		private final int fromIndex;
+		private final boolean creates;
+
+		private MapperMethod(ExecutableElement element, TypeMirror from, TypeMirror to, int fromIndex,
+				boolean creates) {
+			this.element = element;
+			this.from = from;
+			this.to = to;
+			this.fromIndex = fromIndex;
+			this.creates = creates;
+		}
+
+		/**
+		 * @return mapper method of given element or null if it has unsupported
+		 *         signature
+		 */
+		static MapperMethod of(ExecutableElement element, Types types) {
+			List<? extends VariableElement> parameters = element.getParameters();
+			TypeMirror returnType = element.getReturnType();
+			if (parameters.size() == 1 && isClass(returnType, types) && isClass(parameters.get(0).asType(), types)) {
+				return new MapperMethod(element, parameters.get(0).asType(), returnType, 0, true);
+			}
+			if (parameters.size() == 2 && returnType.getKind() == TypeKind.VOID
+					&& isClass(parameters.get(0).asType(), types) && isClass(parameters.get(1).asType(), types)) {
+				return new MapperMethod(element, parameters.get(1).asType(), parameters.get(0).asType(), 1, false);
+			}
+			return null;
+		}
+
+		private static boolean isClass(TypeMirror type, Types types) {
+			return type.getKind() == TypeKind.DECLARED && types.asElement(type).getKind() == ElementKind.CLASS;
+		}
+	}
+}
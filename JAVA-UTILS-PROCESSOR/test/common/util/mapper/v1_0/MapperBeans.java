@@ -0,0 +1,218 @@
+package common.util.mapper.v1_0;
+
+import java.util.List;
+
+/**
+ * This class holds the beans copied by the mappers generated in
+ * {@link MapperProcessorTest}.
+ *
+ * @author Vijay Shegokar
+ * @version 1.0
+ * @date 06-April-2018
+ */
+public final class MapperBeans {
+
+	private MapperBeans() {
+	}
+
+	public static class Entity {
+
+		private String name;
+		private int age;
+		private boolean active;
+		private Long count;
+		private SubEntity child;
+		private List<SubEntity> children;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		public Long getCount() {
+			return count;
+		}
+
+		public void setCount(Long count) {
+			this.count = count;
+		}
+
+		public SubEntity getChild() {
+			return child;
+		}
+
+		public void setChild(SubEntity child) {
+			this.child = child;
+		}
+
+		public List<SubEntity> getChildren() {
+			return children;
+		}
+
+		public void setChildren(List<SubEntity> children) {
+			this.children = children;
+		}
+	}
+
+	public static class Bean {
+
+		private String name;
+		private int age;
+		private boolean active;
+		private String count;
+		private SubBean child;
+		private List<SubBean> children;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		public String getCount() {
+			return count;
+		}
+
+		public void setCount(String count) {
+			this.count = count;
+		}
+
+		public SubBean getChild() {
+			return child;
+		}
+
+		public void setChild(SubBean child) {
+			this.child = child;
+		}
+
+		public List<SubBean> getChildren() {
+			return children;
+		}
+
+		public void setChildren(List<SubBean> children) {
+			this.children = children;
+		}
+	}
+
+	public static class SubEntity {
+
+		private String code;
+
+		public SubEntity() {
+		}
+
+		public SubEntity(String code) {
+			this.code = code;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public void setCode(String code) {
+			this.code = code;
+		}
+	}
+
+	public static class SubBean {
+
+		private String code;
+
+		public String getCode() {
+			return code;
+		}
+
+		public void setCode(String code) {
+			this.code = code;
+		}
+	}
+
+	public static class Coded {
+
+		public String getCode() {
+			return "code";
+		}
+
+		public Integer getSize() {
+			return Integer.valueOf(7);
+		}
+	}
+
+	/**
+	 * Destination bean whose setters are overloaded and record which one is
+	 * called, declared in an order other than the chosen one.
+	 */
+	public static class OverloadedBean {
+
+		private String calls = "";
+
+		public String getCalls() {
+			return calls;
+		}
+
+		public void setCode(Object code) {
+			record("Object:" + code);
+		}
+
+		public void setCode(CharSequence code) {
+			record("CharSequence:" + code);
+		}
+
+		public void setCode(String code) {
+			record("String:" + code);
+		}
+
+		public void setSize(Number size) {
+			record("Number:" + size);
+		}
+
+		public void setSize(int size) {
+			record("int:" + size);
+		}
+
+		public void setClass(Class<?> clazz) {
+			record("Class:" + clazz);
+		}
+
+		private void record(String call) {
+			calls = calls.isEmpty() ? call : calls + "," + call;
+		}
+	}
+}
@@ -0,0 +1,253 @@
+package common.util.mapper.v1_0;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import common.util.mapper.v1_0.MapperBeans.Bean;
+import common.util.mapper.v1_0.MapperBeans.Coded;
+import common.util.mapper.v1_0.MapperBeans.Entity;
+import common.util.mapper.v1_0.MapperBeans.OverloadedBean;
+import common.util.mapper.v1_0.MapperBeans.SubBean;
+import common.util.mapper.v1_0.MapperBeans.SubEntity;
+
+/**
+ * Tests {@link MapperProcessor} by compiling mapper interfaces with it and
+ * calling the generated implementations on the beans of {@link MapperBeans}.
+ *
+ * @author Vijay Shegokar
+ * @version 1.0
+ * @date 06-April-2018
+ */
+public class MapperProcessorTest {
+
+	private static final String BEANS = "common.util.mapper.v1_0.MapperBeans";
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+
+	@Test
+	public void copiesMatchingProperties() throws Exception {
+		Object mapper = compileMapper(false);
+		Entity entity = entity();
+
+		Bean bean = (Bean) invoke(mapper, "toBean", entity);
+
+		assertEquals("entity", bean.getName());
+		assertEquals(7, bean.getAge());
+		assertTrue(bean.isActive());
+		assertNull("property of other type copied", bean.getCount());
+	}
+
+	@Test
+	public void convertsNestedBeansAndListElements() throws Exception {
+		Object mapper = compileMapper(false);
+		Entity entity = entity();
+
+		Bean bean = (Bean) invoke(mapper, "toBean", entity);
+
+		assertEquals("child", bean.getChild().getCode());
+		List<SubBean> children = bean.getChildren();
+		assertEquals(3, children.size());
+		assertEquals("a", children.get(0).getCode());
+		assertNull(children.get(1));
+		assertEquals("b", children.get(2).getCode());
+	}
+
+	@Test
+	public void skipsNullValuesUnlessStrict() throws Exception {
+		Entity entity = entity();
+		entity.setName(null);
+		entity.setChild(null);
+		entity.setChildren(null);
+
+		Bean bean = filledBean();
+		invoke(compileMapper(false), "copy", bean, entity);
+		assertEquals("kept", bean.getName());
+		assertEquals("kept", bean.getChild().getCode());
+		assertEquals(1, bean.getChildren().size());
+
+		bean = filledBean();
+		invoke(compileMapper(true), "copy", bean, entity);
+		assertNull(bean.getName());
+		assertNull(bean.getChild());
+		assertNull(bean.getChildren());
+	}
+
+	@Test
+	public void createsNewBeanForEachCall() throws Exception {
+		Object mapper = compileMapper(false);
+		Entity entity = entity();
+
+		assertNotSame(invoke(mapper, "toBean", entity), invoke(mapper, "toBean", entity));
+	}
+
+	@Test
+	public void rejectsNullBeans() throws Exception {
+		Object mapper = compileMapper(false);
+		try {
+			invoke(mapper, "toBean", (Object) null);
+		} catch (InvocationTargetException e) {
+			assertTrue(e.getCause() instanceof IllegalArgumentException);
+			return;
+		}
+		throw new AssertionError("null origin bean accepted");
+	}
+
+	@Test
+	public void warnsAboutPropertiesNotCopied() throws Exception {
+		compileMapper(false);
+
+		assertTrue(hasDiagnostic(Diagnostic.Kind.WARNING, "Property Count"));
+	}
+
+	@Test
+	public void matchesSetterOfGetterTypeWithoutObjectMembers() throws Exception {
+		String source = "package sample;\n" + "@common.util.mapper.v1_0.Mapper\n"
+				+ "public interface OverloadedMapper {\n" + "    " + BEANS + ".OverloadedBean toBean(" + BEANS
+				+ ".Coded coded);\n" + "}\n";
+		assertTrue(diagnostics.getDiagnostics().toString(), compile("sample.OverloadedMapper", source));
+		URLClassLoader loader = new URLClassLoader(new URL[] { folder.getRoot().toURI().toURL() },
+				getClass().getClassLoader());
+		Object mapper = loader.loadClass("sample.OverloadedMapperImpl").getConstructor().newInstance();
+
+		OverloadedBean bean = (OverloadedBean) invoke(mapper, "toBean", new Coded());
+
+		assertEquals("String:code,int:7", bean.getCalls());
+	}
+
+	@Test
+	public void refusesMapperClass() throws Exception {
+		String source = "package sample;\n" + "@common.util.mapper.v1_0.Mapper\n"
+				+ "public abstract class ClassMapper {\n" + "}\n";
+
+		assertFalse(compile("sample.ClassMapper", source));
+		assertTrue(hasDiagnostic(Diagnostic.Kind.ERROR, "only on interfaces"));
+	}
+
+	@Test
+	public void refusesUnsupportedMethod() throws Exception {
+		String source = "package sample;\n" + "@common.util.mapper.v1_0.Mapper\n"
+				+ "public interface BadMapper {\n" + "    String name(" + BEANS + ".Entity entity, int index);\n"
+				+ "}\n";
+
+		assertFalse(compile("sample.BadMapper", source));
+		assertTrue(hasDiagnostic(Diagnostic.Kind.ERROR, "Mapper method must be"));
+	}
+
+	private static Entity entity() {
+		Entity entity = new Entity();
+		entity.setName("entity");
+		entity.setAge(7);
+		entity.setActive(true);
+		entity.setCount(Long.valueOf(3));
+		entity.setChild(new SubEntity("child"));
+		entity.setChildren(Arrays.asList(new SubEntity("a"), null, new SubEntity("b")));
+		return entity;
+	}
+
+	private static Bean filledBean() {
+		SubBean child = new SubBean();
+		child.setCode("kept");
+		Bean bean = new Bean();
+		bean.setName("kept");
+		bean.setChild(child);
+		bean.setChildren(Arrays.asList(child));
+		return bean;
+	}
+
+	/**
+	 * @return instance of the generated implementation of a mapper from
+	 *         {@link Entity} to {@link Bean}
+	 */
+	private Object compileMapper(boolean strictCopy) throws Exception {
+		String source = "package sample;\n" + "@common.util.mapper.v1_0.Mapper(strictCopy = " + strictCopy + ")\n"
+				+ "public interface EntityMapper {\n" + "    " + BEANS + ".Bean toBean(" + BEANS
+				+ ".Entity entity);\n" + "    " + BEANS + ".SubBean toSubBean(" + BEANS + ".SubEntity entity);\n"
+				+ "    void copy(" + BEANS + ".Bean bean, " + BEANS + ".Entity entity);\n" + "}\n";
+		assertTrue(diagnostics.getDiagnostics().toString(), compile("sample.EntityMapper", source));
+		URLClassLoader loader = new URLClassLoader(new URL[] { folder.getRoot().toURI().toURL() },
+				getClass().getClassLoader());
+		return loader.loadClass("sample.EntityMapperImpl").getConstructor().newInstance();
+	}
+
+	/**
+	 * This method compiles given source into the temporary folder with
+	 * {@link MapperProcessor}.
+	 *
+	 * @return true if the source and the generated sources compiled
+	 */
+	private boolean compile(String className, String source) throws Exception {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		String classPath = location(Mapper.class) + File.pathSeparator + location(MapperBeans.class);
+		List<String> options = Arrays.asList("-classpath", classPath, "-d", folder.getRoot().getPath());
+		JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null,
+				Arrays.asList(new SourceFile(className, source)));
+		task.setProcessors(Arrays.asList(new MapperProcessor()));
+		return task.call().booleanValue();
+	}
+
+	private boolean hasDiagnostic(Diagnostic.Kind kind, String message) {
+		for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+			if (diagnostic.getKind() == kind && diagnostic.getMessage(null).contains(message)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String location(Class<?> clazz) throws Exception {
+		return new File(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+	}
+
+	private static Object invoke(Object mapper, String name, Object... args) throws Exception {
+		for (Method method : mapper.getClass().getMethods()) {
+			if (method.getName().equals(name) && method.getParameterTypes().length == args.length) {
+				return method.invoke(mapper, args);
+			}
+		}
+		throw new NoSuchMethodException(name);
+	}
+
+	/**
+	 * Source file compiled from a string.
+	 */
+	private static final class SourceFile extends SimpleJavaFileObject {
+
+		private final String source;
+
+		SourceFile(String className, String source) {
+			super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+			this.source = source;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return source;
+		}
+	}
+}
@@ -66,7 +66,7 @@ public class ReflectionUtil {
 	 * @throws IllegalArgumentException If passed bean is null.
 	 * @throws InvocationTargetException If method access is denied
 	 */
-	synchronized public static void copy(final Object to, final Object from, boolean strictCopy) throws IllegalArgumentException, InvocationTargetException{
+	public static void copy(final Object to, final Object from, boolean strictCopy) throws IllegalArgumentException, InvocationTargetException{
 		// long t1 = System.currentTimeMillis();
 		// System.out.println("Time Sarted : " + t1);
 		// Validate existence of the specified beans
@@ -68,7 +68,7 @@ public class ReflectionUtil {
 	 * @throws IllegalArgumentException If passed bean is null.
 	 * @throws InvocationTargetException If method access is denied
 	 */
-	synchronized public static void copy(final Object to, final Object from, boolean strictCopy) throws IllegalArgumentException, InvocationTargetException{
+	public static void copy(final Object to, final Object from, boolean strictCopy) throws IllegalArgumentException, InvocationTargetException{
 		if (to == null) {
 			throw new IllegalArgumentException("No destination bean specified");
 		}
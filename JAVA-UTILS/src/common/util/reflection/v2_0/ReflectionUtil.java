@@ -56,7 +56,7 @@ public class ReflectionUtil {
 	 * @throws IllegalArgumentException If passed bean is null.
 	 * @throws InvocationTargetException If method access is denied
 	 */
-	synchronized public static void copy(final Object to, final Object from, boolean strictCopy) throws Exception {
+	public static void copy(final Object to, final Object from, boolean strictCopy) throws Exception {
 		copy(to, from, strictCopy, null);
 	}
 	
@@ -119,7 +119,7 @@ public class ReflectionUtil {
 	 * @throws IllegalArgumentException If passed bean is null.
 	 * @throws InvocationTargetException If method access is denied
 	 */
-	synchronized private static void copy(final Object to, final Object from, boolean strictCopy, final Map<Class<?>, Class<?>> excludeClassesMap) throws IllegalArgumentException, InvocationTargetException{
+	private static void copy(final Object to, final Object from, boolean strictCopy, final Map<Class<?>, Class<?>> excludeClassesMap) throws IllegalArgumentException, InvocationTargetException{
 		if (to == null) {
 			throw new IllegalArgumentException("No destination bean specified");
 		}
@@ -0,0 +1,55 @@
+package common.util.reflection.v2_1;
+
+/**
+ * This enum lists the ways {@link ReflectionUtil} can call the getter and
+ * setter methods of beans while copying them.
+ * 
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public enum AccessorBackend {
+
+	/**
+	 * Getters and setters are called through {@link java.lang.reflect.Method#invoke}.
+	 */
+	REFLECTION,
+
+	/**
+	 * Getters and setters are turned into functional interfaces generated by
+	 * {@link java.lang.invoke.LambdaMetafactory}, or into plain
+	 * {@link java.lang.invoke.MethodHandle}s when the bean class is not visible
+	 * to this library, so the JIT can inline them.
+	 */
+	METHOD_HANDLE,
+
+	/**
+	 * A dedicated copier class is generated at runtime for each (from, to) class
+	 * pair, calling <code>to.setX(from.getX())</code> directly for the properties
+	 * which need no conversion. Other properties and non public bean classes use
+	 * the {@link #METHOD_HANDLE} accessors.
+	 */
+	BYTECODE;
+
+	/**
+	 * System property which can be used to choose the default backend, eg.
+	 * <code>-Dcommon.util.reflection.accessorBackend=METHOD_HANDLE</code>
+	 */
+	public static final String SYSTEM_PROPERTY = "common.util.reflection.accessorBackend";
+
+	/**
+	 * @return backend given by {@link #SYSTEM_PROPERTY}, or {@link #REFLECTION}
+	 *         if property is not set or not valid.
+	 */
+	static AccessorBackend fromSystemProperty() {
+		String value = System.getProperty(SYSTEM_PROPERTY);
+		if (value != null) {
+			try {
+				return valueOf(value.trim().toUpperCase());
+			} catch (IllegalArgumentException e) {
+				// invalid value, fall back to default backend
+			}
+		}
+		return REFLECTION;
+	}
+}
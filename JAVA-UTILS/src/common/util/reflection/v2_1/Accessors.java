@@ -0,0 +1,357 @@
+package common.util.reflection.v2_1;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.log4j.Logger;
+
+/**
+ * This class creates the {@link PropertyGetter} and {@link PropertySetter} of
+ * a getter or setter method for the chosen {@link AccessorBackend}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class Accessors {
+
+	private static final Logger LOGGER = Logger.getLogger(Accessors.class);
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private Accessors() {
+	}
+
+	/**
+	 * This method creates the accessor which calls given getter method.
+	 *
+	 * @param method
+	 *            getter method
+	 * @param backend
+	 *            {@link AccessorBackend} to use
+	 * @return {@link PropertyGetter} of the method
+	 */
+	static PropertyGetter getter(Method method, AccessorBackend backend) {
+		if (backend != AccessorBackend.REFLECTION) {
+			try {
+				MethodHandle handle = unreflect(method);
+				if (isLambdaTarget(method)) {
+					try {
+						MethodType instantiatedType = MethodType.methodType(wrap(method.getReturnType()),
+								method.getDeclaringClass());
+						CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get",
+								MethodType.methodType(PropertyGetter.class), GETTER_TYPE, handle, instantiatedType);
+						return (PropertyGetter) site.getTarget().invoke();
+					} catch (Throwable e) {
+						LOGGER.debug("Lambda getter not available for " + method + ", using method handle. " + e);
+					}
+				}
+				return new HandleGetter(handle.asType(GETTER_TYPE));
+			} catch (IllegalAccessException e) {
+				LOGGER.debug("Method handle not available for " + method + ", using reflection. " + e);
+			}
+		}
+		return new ReflectiveGetter(method);
+	}
+
+	/**
+	 * This method creates the accessor which calls given setter method.
+	 *
+	 * @param method
+	 *            setter method
+	 * @param backend
+	 *            {@link AccessorBackend} to use
+	 * @return {@link PropertySetter} of the method
+	 */
+	static PropertySetter setter(Method method, AccessorBackend backend) {
+		if (backend != AccessorBackend.REFLECTION) {
+			try {
+				MethodHandle handle = unreflect(method);
+				if (isLambdaTarget(method)) {
+					try {
+						MethodType instantiatedType = MethodType.methodType(void.class, method.getDeclaringClass(),
+								wrap(method.getParameterTypes()[0]));
+						CallSite site = LambdaMetafactory.metafactory(LOOKUP, "set",
+								MethodType.methodType(PropertySetter.class), SETTER_TYPE, handle, instantiatedType);
+						return (PropertySetter) site.getTarget().invoke();
+					} catch (Throwable e) {
+						LOGGER.debug("Lambda setter not available for " + method + ", using method handle. " + e);
+					}
+				}
+				return new HandleSetter(handle.asType(SETTER_TYPE));
+			} catch (IllegalAccessException e) {
+				LOGGER.debug("Method handle not available for " + method + ", using reflection. " + e);
+			}
+		}
+		return new ReflectiveSetter(method);
+	}
+
+	/**
+	 * This method generates the implementation of given single method interface
+	 * which calls given getter or setter method. The interface method takes the
+	 * bean as first parameter and the property value types of both have to be
+	 * identical, so primitive values are not boxed.
+	 *
+	 * @param type
+	 *            accessor interface having exactly one method
+	 * @param method
+	 *            getter or setter method, which has to be a lambda target
+	 * @return accessor instance
+	 * @throws Throwable
+	 *             If the accessor can not be generated
+	 */
+	static <T> T lambda(Class<T> type, Method method) throws Throwable {
+		Method sam = type.getDeclaredMethods()[0];
+		MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+		CallSite site = LambdaMetafactory.metafactory(LOOKUP, sam.getName(), MethodType.methodType(type), samType,
+				unreflect(method), samType.changeParameterType(0, method.getDeclaringClass()));
+		return type.cast(site.getTarget().invoke());
+	}
+
+	/**
+	 * This method returns the direct method handle of given method. Public
+	 * methods declared in non public classes are made accessible first.
+	 */
+	private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+		if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+			try {
+				method.setAccessible(true);
+			} catch (RuntimeException e) {
+				throw new IllegalAccessException(e.getMessage());
+			}
+		}
+		return LOOKUP.unreflect(method);
+	}
+
+	/**
+	 * This method creates the instantiator calling given public no-arg
+	 * constructor. Constructors of public classes visible to this library are
+	 * turned into a factory generated by {@link LambdaMetafactory}, others are
+	 * called through their method handle. A public constructor declared in a non
+	 * public class is made accessible first, as public getters and setters are.
+	 *
+	 * @param constructor
+	 *            public no-arg constructor
+	 * @return {@link Instantiator} of the constructor class
+	 * @throws IllegalAccessException
+	 *             If the constructor is not public or can not be made accessible
+	 */
+	static Instantiator<?> instantiator(Constructor<?> constructor) throws IllegalAccessException {
+		Class<?> clazz = constructor.getDeclaringClass();
+		if (!Modifier.isPublic(constructor.getModifiers())) {
+			throw new IllegalAccessException("Constructor " + constructor + " is not public");
+		}
+		if (!Modifier.isPublic(clazz.getModifiers())) {
+			try {
+				constructor.setAccessible(true);
+			} catch (RuntimeException e) {
+				throw new IllegalAccessException(e.getMessage());
+			}
+		}
+		MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+		if (Modifier.isPublic(clazz.getModifiers()) && isVisible(clazz)) {
+			try {
+				CallSite site = LambdaMetafactory.metafactory(LOOKUP, "newInstance",
+						MethodType.methodType(Instantiator.class), MethodType.methodType(Object.class), handle,
+						MethodType.methodType(clazz));
+				return (Instantiator<?>) site.getTarget().invoke();
+			} catch (Throwable e) {
+				LOGGER.debug("Lambda instantiator not available for " + constructor + ", using method handle. " + e);
+			}
+		}
+		return new HandleInstantiator(handle.asType(MethodType.methodType(Object.class)));
+	}
+
+	/**
+	 * @return direct method handle reading given field, which has to be
+	 *         accessible
+	 */
+	static MethodHandle unreflectGetter(Field field) throws IllegalAccessException {
+		return LOOKUP.unreflectGetter(field);
+	}
+
+	/**
+	 * @return direct method handle writing given field, which has to be
+	 *         accessible and not final
+	 */
+	static MethodHandle unreflectSetter(Field field) throws IllegalAccessException {
+		return LOOKUP.unreflectSetter(field);
+	}
+
+	/**
+	 * Generated lambda classes link against the bean class by name, so it has to
+	 * be public and visible from the class loader of this library.
+	 */
+	static boolean isLambdaTarget(Method method) {
+		Class<?> clazz = method.getDeclaringClass();
+		if (!Modifier.isPublic(clazz.getModifiers()) || !Modifier.isPublic(method.getModifiers())) {
+			return false;
+		}
+		return isVisible(clazz);
+	}
+
+	/**
+	 * @return true if given class is resolved by name from the class loader of
+	 *         this library
+	 */
+	private static boolean isVisible(Class<?> clazz) {
+		try {
+			return Class.forName(clazz.getName(), false, Accessors.class.getClassLoader()) == clazz;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * @return primitive type of given wrapper class or given type itself
+	 */
+	static Class<?> unwrap(Class<?> type) {
+		if (type == Integer.class)
+			return int.class;
+		if (type == Long.class)
+			return long.class;
+		if (type == Boolean.class)
+			return boolean.class;
+		if (type == Double.class)
+			return double.class;
+		if (type == Float.class)
+			return float.class;
+		if (type == Short.class)
+			return short.class;
+		if (type == Byte.class)
+			return byte.class;
+		if (type == Character.class)
+			return char.class;
+		return type;
+	}
+
+	/**
+	 * @return wrapper class of given primitive type or given type itself
+	 */
+	static Class<?> wrap(Class<?> type) {
+		if (!type.isPrimitive())
+			return type;
+		if (type == int.class)
+			return Integer.class;
+		if (type == long.class)
+			return Long.class;
+		if (type == boolean.class)
+			return Boolean.class;
+		if (type == double.class)
+			return Double.class;
+		if (type == float.class)
+			return Float.class;
+		if (type == short.class)
+			return Short.class;
+		if (type == byte.class)
+			return Byte.class;
+		if (type == char.class)
+			return Character.class;
+		return Void.class;
+	}
+
+	/**
+	 * Checked throwables other than {@link Exception} can not pass through the
+	 * accessor interfaces hence wrapped the same way {@link Method#invoke} does.
+	 */
+	static Exception rethrow(Throwable t) {
+		if (t instanceof Exception)
+			return (Exception) t;
+		if (t instanceof Error)
+			throw (Error) t;
+		return new InvocationTargetException(t);
+	}
+
+	private static final class ReflectiveGetter implements PropertyGetter {
+
+		private final Method method;
+
+		ReflectiveGetter(Method method) {
+			this.method = method;
+		}
+
+		@Override
+		public Object get(Object bean) throws Exception {
+			return method.invoke(bean);
+		}
+	}
+
+	private static final class ReflectiveSetter implements PropertySetter {
+
+		private final Method method;
+
+		ReflectiveSetter(Method method) {
+			this.method = method;
+		}
+
+		@Override
+		public void set(Object bean, Object value) throws Exception {
+			method.invoke(bean, value);
+		}
+	}
+
+	private static final class HandleGetter implements PropertyGetter {
+
+		private final MethodHandle handle;
+
+		HandleGetter(MethodHandle handle) {
+			this.handle = handle;
+		}
+
+		@Override
+		public Object get(Object bean) throws Exception {
+			try {
+				return handle.invokeExact(bean);
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+	}
+
+	private static final class HandleSetter implements PropertySetter {
+
+		private final MethodHandle handle;
+
+		HandleSetter(MethodHandle handle) {
+			this.handle = handle;
+		}
+
+		@Override
+		public void set(Object bean, Object value) throws Exception {
+			try {
+				handle.invokeExact(bean, value);
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+	}
+
+	private static final class HandleInstantiator implements Instantiator<Object> {
+
+		private final MethodHandle handle;
+
+		HandleInstantiator(MethodHandle handle) {
+			this.handle = handle;
+		}
+
+		@Override
+		public Object newInstance() throws Exception {
+			try {
+				return handle.invokeExact();
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+	}
+}
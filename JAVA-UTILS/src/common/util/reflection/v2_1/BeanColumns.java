@@ -0,0 +1,120 @@
+package common.util.reflection.v2_1;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class holds properties of a list of beans projected into one array per
+ * property by {@link ReflectionUtil#project(java.util.List, String...)}. Row
+ * <code>i</code> of every column is read from bean <code>i</code> of the list.
+ * <p>
+ * The array type of a column follows the property type: <code>int[]</code> for
+ * <code>int</code>, <code>short</code> and <code>byte</code>,
+ * <code>long[]</code> for <code>long</code>, <code>double[]</code> for
+ * <code>float</code> and <code>double</code>, <code>boolean[]</code> for
+ * <code>boolean</code>, and the same for their wrappers, where null values and
+ * null beans are stored as 0 or false. Any other property is stored in a
+ * <code>String[]</code> by {@link String#valueOf(Object)}, keeping null values.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public final class BeanColumns {
+
+	private final int size;
+	private final Map<String, Object> columns;
+
+	BeanColumns(int size, Map<String, Object> columns) {
+		this.size = size;
+		this.columns = columns;
+	}
+
+	/**
+	 * @return number of rows, which is the number of projected beans
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return names of the columns in projection order
+	 */
+	public Set<String> getNames() {
+		return Collections.unmodifiableSet(columns.keySet());
+	}
+
+	/**
+	 * @param name
+	 *            property name
+	 * @return column array of the property, or null if it was not projected
+	 */
+	public Object getColumn(String name) {
+		return columns.get(name);
+	}
+
+	/**
+	 * @param name
+	 *            property name
+	 * @return <code>int[]</code> column of the property
+	 * @throws IllegalArgumentException
+	 *             If property was not projected into an <code>int[]</code>
+	 */
+	public int[] getInts(String name) {
+		return column(name, int[].class);
+	}
+
+	/**
+	 * @param name
+	 *            property name
+	 * @return <code>long[]</code> column of the property
+	 * @throws IllegalArgumentException
+	 *             If property was not projected into a <code>long[]</code>
+	 */
+	public long[] getLongs(String name) {
+		return column(name, long[].class);
+	}
+
+	/**
+	 * @param name
+	 *            property name
+	 * @return <code>double[]</code> column of the property
+	 * @throws IllegalArgumentException
+	 *             If property was not projected into a <code>double[]</code>
+	 */
+	public double[] getDoubles(String name) {
+		return column(name, double[].class);
+	}
+
+	/**
+	 * @param name
+	 *            property name
+	 * @return <code>boolean[]</code> column of the property
+	 * @throws IllegalArgumentException
+	 *             If property was not projected into a <code>boolean[]</code>
+	 */
+	public boolean[] getBooleans(String name) {
+		return column(name, boolean[].class);
+	}
+
+	/**
+	 * @param name
+	 *            property name
+	 * @return <code>String[]</code> column of the property
+	 * @throws IllegalArgumentException
+	 *             If property was not projected into a <code>String[]</code>
+	 */
+	public String[] getStrings(String name) {
+		return column(name, String[].class);
+	}
+
+	private <A> A column(String name, Class<A> type) {
+		Object column = columns.get(name);
+		if (!type.isInstance(column)) {
+			throw new IllegalArgumentException("Column " + name + " is "
+					+ (column == null ? "not projected" : "a " + column.getClass().getSimpleName()));
+		}
+		return type.cast(column);
+	}
+}
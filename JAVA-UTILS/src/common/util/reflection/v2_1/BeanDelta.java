@@ -0,0 +1,101 @@
+package common.util.reflection.v2_1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class holds the properties of an origin bean which differ from a
+ * destination bean, as computed by {@link ReflectionUtil#diff(Object, Object)}.
+ * Only the changed properties and their origin values are kept, so applying it
+ * with {@link ReflectionUtil#applyDelta(Object, BeanDelta)} calls only the
+ * setters of those properties.
+ * <p>
+ * Values are referenced as they were returned by the getters of origin bean,
+ * they are not copied.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public final class BeanDelta {
+
+	private final CopyPlan plan;
+	private final int[] indexes;
+	private final Object[] values;
+
+	BeanDelta(CopyPlan plan, int[] indexes, Object[] values) {
+		this.plan = plan;
+		this.indexes = indexes;
+		this.values = values;
+	}
+
+	/**
+	 * @return number of changed properties
+	 */
+	public int size() {
+		return indexes.length;
+	}
+
+	/**
+	 * @return true if no property has changed
+	 */
+	public boolean isEmpty() {
+		return indexes.length == 0;
+	}
+
+	/**
+	 * @param index
+	 *            index of the change, from 0 to {@link #size()} - 1
+	 * @return property name of the change, eg. "Id" for <code>setId</code>
+	 */
+	public String getPropertyName(int index) {
+		return plan.getMappings()[indexes[index]].getToMethod().getName().substring(3);
+	}
+
+	/**
+	 * @param index
+	 *            index of the change, from 0 to {@link #size()} - 1
+	 * @return new value of the property, read from origin bean
+	 */
+	public Object getValue(int index) {
+		return values[index];
+	}
+
+	/**
+	 * @return names of all changed properties
+	 */
+	public List<String> getPropertyNames() {
+		List<String> names = new ArrayList<String>(indexes.length);
+		for (int i = 0; i < indexes.length; i++) {
+			names.add(getPropertyName(i));
+		}
+		return Collections.unmodifiableList(names);
+	}
+
+	/**
+	 * @return copy plan the delta was computed with
+	 */
+	CopyPlan getPlan() {
+		return plan;
+	}
+
+	/**
+	 * @return mapping of the change at given index
+	 */
+	PropertyMapping getMapping(int index) {
+		return plan.getMappings()[indexes[index]];
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("BeanDelta[");
+		for (int i = 0; i < indexes.length; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(getPropertyName(i)).append('=').append(values[i]);
+		}
+		return builder.append(']').toString();
+	}
+}
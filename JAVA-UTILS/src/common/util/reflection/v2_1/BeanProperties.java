@@ -0,0 +1,245 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class indexes the public getters and setters of one class by property
+ * name. It is created once per class, so matching the properties of two
+ * classes costs one hash lookup per getter.
+ * <p>
+ * Property name is the method name without its "get", "is" or "set" prefix,
+ * eg. "Id" for <code>getId()</code> and <code>setId(String)</code>. Methods
+ * declared by {@link Object}, like <code>getClass()</code>, are not
+ * properties.
+ * <p>
+ * The order of {@link Class#getMethods()} is not specified, so getters are
+ * sorted by name and the setters of a property by parameter type, and
+ * {@link #chooseSetter(Method[], Collection, Class)} matches them the same way
+ * on every JVM. The mapper processor of JAVA-UTILS-PROCESSOR uses the same
+ * order and rule, so generated mappers and reflective copies agree.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class BeanProperties {
+
+	/** properties held by their class, so its class loader is not pinned */
+	private static final ClassValue<BeanProperties> CACHE = new ClassValue<BeanProperties>() {
+		@Override
+		protected BeanProperties computeValue(Class<?> type) {
+			return new BeanProperties(type);
+		}
+	};
+
+	/**
+	 * Order of methods by name, then parameter type, with bridge methods after
+	 * the methods they call.
+	 */
+	private static final Comparator<Method> METHOD_ORDER = new Comparator<Method>() {
+		@Override
+		public int compare(Method m1, Method m2) {
+			int result = m1.getName().compareTo(m2.getName());
+			if (result == 0) {
+				result = typeNames(m1.getParameterTypes()).compareTo(typeNames(m2.getParameterTypes()));
+			}
+			if (result == 0 && m1.isBridge() != m2.isBridge()) {
+				result = m1.isBridge() ? 1 : -1;
+			}
+			if (result == 0) {
+				result = typeName(m1.getReturnType()).compareTo(typeName(m2.getReturnType()));
+			}
+			return result;
+		}
+	};
+
+	private final Method[] getters;
+	private final String[] getterNames;
+	private final Map<String, Method> gettersByName;
+	private final Map<String, Method[]> setters;
+
+	private BeanProperties(Class<?> clazz) {
+		List<Method> getterList = new ArrayList<Method>();
+		List<String> nameList = new ArrayList<String>();
+		Map<String, List<Method>> setterLists = new HashMap<String, List<Method>>();
+		Method[] methods = clazz.getMethods();
+		Arrays.sort(methods, METHOD_ORDER);
+		for (Method method : methods) {
+			if (method.getDeclaringClass() == Object.class) {
+				continue;
+			}
+			boolean isBoolean = false;
+			if (method.getName().startsWith("is") && boolean.class.equals(method.getReturnType())) {
+				isBoolean = true;
+			}
+			if (isGetter(method, isBoolean)) {
+				getterList.add(method);
+				nameList.add(method.getName().substring(isBoolean ? 2 : 3));
+			} else if (isSetter(method)) {
+				String name = method.getName().substring(3);
+				List<Method> list = setterLists.get(name);
+				if (list == null) {
+					list = new ArrayList<Method>(1);
+					setterLists.put(name, list);
+				}
+				list.add(method);
+			}
+		}
+		this.getters = getterList.toArray(new Method[getterList.size()]);
+		this.getterNames = nameList.toArray(new String[nameList.size()]);
+		this.gettersByName = new HashMap<String, Method>(getters.length * 4 / 3 + 1);
+		for (int i = 0; i < getters.length; i++) {
+			if (!gettersByName.containsKey(getterNames[i])) {
+				gettersByName.put(getterNames[i], getters[i]);
+			}
+		}
+		this.setters = new HashMap<String, Method[]>(setterLists.size() * 4 / 3 + 1);
+		for (Map.Entry<String, List<Method>> entry : setterLists.entrySet()) {
+			this.setters.put(entry.getKey(), entry.getValue().toArray(new Method[entry.getValue().size()]));
+		}
+	}
+
+	/**
+	 * This method returns the cached properties of given class.
+	 *
+	 * @param clazz
+	 *            class to index
+	 * @return {@link BeanProperties} of the class
+	 */
+	static BeanProperties of(Class<?> clazz) {
+		return CACHE.get(clazz);
+	}
+
+	/**
+	 * @return number of getters, in the order of their names
+	 */
+	int getterCount() {
+		return getters.length;
+	}
+
+	/**
+	 * @return getter at given index
+	 */
+	Method getGetter(int index) {
+		return getters[index];
+	}
+
+	/**
+	 * @return property name of getter at given index
+	 */
+	String getGetterName(int index) {
+		return getterNames[index];
+	}
+
+	/**
+	 * @return first getter having given property name in the order of their
+	 *         names, or null if there is no such getter
+	 */
+	Method getGetter(String name) {
+		return gettersByName.get(name);
+	}
+
+	/**
+	 * @return setters having given property name in the order of their
+	 *         parameter types, or null if there is no such setter
+	 */
+	Method[] getSetters(String name) {
+		return setters.get(name);
+	}
+
+	/**
+	 * This method chooses the setter receiving the value of a getter: the first
+	 * setter taking exactly the getter type, else the first one taking a super
+	 * type of it, primitive types being same as their wrappers, else the first
+	 * setter, whose value may still be converted or copied.
+	 *
+	 * @param setters
+	 *            setters of the property, as returned by {@link #getSetters(String)}
+	 * @param used
+	 *            setters already chosen for another getter, which are skipped
+	 * @param valueType
+	 *            return type of the getter
+	 * @return chosen setter, or null if all setters are used
+	 */
+	static Method chooseSetter(Method[] setters, Collection<Method> used, Class<?> valueType) {
+		Method assignable = null;
+		Method first = null;
+		for (Method setter : setters) {
+			if (used.contains(setter)) {
+				continue;
+			}
+			Class<?> parameterType = setter.getParameterTypes()[0];
+			if (parameterType == valueType) {
+				return setter;
+			}
+			if (assignable == null && Accessors.wrap(parameterType).isAssignableFrom(Accessors.wrap(valueType))) {
+				assignable = setter;
+			}
+			if (first == null) {
+				first = setter;
+			}
+		}
+		return assignable != null ? assignable : first;
+	}
+
+	private static String typeNames(Class<?>[] types) {
+		StringBuilder names = new StringBuilder();
+		for (Class<?> type : types) {
+			names.append(typeName(type)).append(',');
+		}
+		return names.toString();
+	}
+
+	/**
+	 * @return canonical name of given type, as the mapper processor prints an
+	 *         erased type, or its binary name if it has none
+	 */
+	private static String typeName(Class<?> type) {
+		String name = type.getCanonicalName();
+		return name != null ? name : type.getName();
+	}
+
+	/**
+	 * This method is used to check method is getter or not.
+	 *
+	 * @param method
+	 *            Method which needs to be check
+	 * @param isBoolean
+	 *            If the given method is primitive boolean type because getter for
+	 *            it starts with "is".
+	 * @return true is method is getter
+	 */
+	private static boolean isGetter(Method method, boolean isBoolean) {
+		if (isBoolean && !method.getName().startsWith("is"))
+			return false;
+		if (!isBoolean && !method.getName().startsWith("get"))
+			return false;
+		if (method.getParameterTypes().length != 0)
+			return false;
+		if (void.class.equals(method.getReturnType()))
+			return false;
+		return true;
+	}
+
+	/**
+	 * This method is used to check method is setter or not.
+	 *
+	 * @param method
+	 *            Method which needs to be check
+	 * @return true is method is setter
+	 */
+	private static boolean isSetter(Method method) {
+		if (!method.getName().startsWith("set"))
+			return false;
+		if (method.getParameterTypes().length != 1)
+			return false;
+		return true;
+	}
+}
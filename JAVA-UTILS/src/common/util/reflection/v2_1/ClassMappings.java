@@ -0,0 +1,283 @@
+package common.util.reflection.v2_1;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class is an immutable registry of the destination class to copy beans
+ * of an origin class into. It is built once and can be passed to every copy
+ * method having a {@link ClassMappings} overload instead of a plain
+ * <code>excludeClassesMap</code>:
+ *
+ * <pre>
+ * ClassMappings mappings = ClassMappings.builder().map(UserEntity.class, UserDto.class)
+ * 		.map(AddressEntity.class, AddressDto.class).build();
+ * List&lt;UserDto&gt; users = ReflectionUtil.copyAll(UserDto.class, entities, mappings);
+ * </pre>
+ *
+ * Mappings are origin class to destination class. An origin bean whose class
+ * has no mapping uses the mapping of its nearest super class, or else of its
+ * interfaces, so sub classes and proxy classes of mapped classes are copied
+ * too. The destination of each origin class is resolved once and cached.
+ * <p>
+ * A plain <code>excludeClassesMap</code> is destination class to origin class,
+ * the reverse, so it is not a {@link Map} itself. {@link #of(Map)} maps each
+ * value of a plain map to its key. Only the elements of a list, set or map
+ * copied as a whole by {@link ReflectionUtil#copy(Object, Object, Map)} are
+ * looked up by the keys of a plain map, as they always were.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public final class ClassMappings {
+
+	/** cached resolution of an origin class without destination */
+	private static final Class<?> NONE = void.class;
+
+	/** registries of plain maps, by identity of the map */
+	private static final ConcurrentMap<MapReference, ClassMappings> REGISTRIES =
+			new ConcurrentHashMap<MapReference, ClassMappings>();
+	private static final ReferenceQueue<Map<Class<?>, Class<?>>> COLLECTED =
+			new ReferenceQueue<Map<Class<?>, Class<?>>>();
+
+	private final Map<Class<?>, Class<?>> mappings;
+	private final Map<Class<?>, Class<?>> elementMappings;
+	/** entries of the plain map this registry was built of, null if built */
+	private final Map<Class<?>, Class<?>> source;
+	private final ConcurrentMap<Class<?>, Class<?>> resolved = new ConcurrentHashMap<Class<?>, Class<?>>();
+	private final ConcurrentMap<Class<?>, Class<?>> resolvedElements;
+	private final int hash;
+
+	private ClassMappings(Map<Class<?>, Class<?>> mappings, Map<Class<?>, Class<?>> elementMappings,
+			Map<Class<?>, Class<?>> source) {
+		this.mappings = Collections.unmodifiableMap(mappings);
+		if (elementMappings == null) {
+			this.elementMappings = this.mappings;
+			this.resolvedElements = resolved;
+		} else {
+			this.elementMappings = Collections.unmodifiableMap(elementMappings);
+			this.resolvedElements = new ConcurrentHashMap<Class<?>, Class<?>>();
+		}
+		this.source = source;
+		this.hash = 31 * mappings.hashCode() + this.elementMappings.hashCode();
+	}
+
+	/**
+	 * @return new {@link Builder} of class mappings
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * This method returns the class mappings of given exclude classes map. The
+	 * registry is built on first call and returned again while the same map,
+	 * compared by identity, is passed with the same entries, so its resolved
+	 * lookups are kept. A map is only held weakly, its registry is dropped once
+	 * the map is not used any more.
+	 *
+	 * @param excludeClassesMap
+	 *            {@link Map} map of excluded classes key-value pair. eg. key will
+	 *            be class in "to" and value will be class in "from".
+	 * @return {@link ClassMappings} of the map, null if the map is null
+	 */
+	public static ClassMappings of(Map<Class<?>, Class<?>> excludeClassesMap) {
+		if (excludeClassesMap == null) {
+			return null;
+		}
+		expungeCollected();
+		MapReference key = new MapReference(excludeClassesMap, null);
+		ClassMappings registry = REGISTRIES.get(key);
+		if (registry != null && registry.source.equals(excludeClassesMap)) {
+			return registry;
+		}
+		Map<Class<?>, Class<?>> source = new HashMap<Class<?>, Class<?>>(excludeClassesMap);
+		Map<Class<?>, Class<?>> mappings = new LinkedHashMap<Class<?>, Class<?>>();
+		Map<Class<?>, Class<?>> elementMappings = new LinkedHashMap<Class<?>, Class<?>>();
+		for (Map.Entry<Class<?>, Class<?>> entry : source.entrySet()) {
+			if (entry.getKey() != null && entry.getValue() != null) {
+				if (!mappings.containsKey(entry.getValue())) {
+					mappings.put(entry.getValue(), entry.getKey());
+				}
+				elementMappings.put(entry.getKey(), entry.getValue());
+			}
+		}
+		registry = new ClassMappings(mappings, elementMappings, source);
+		REGISTRIES.put(new MapReference(excludeClassesMap, COLLECTED), registry);
+		return registry;
+	}
+
+	/**
+	 * This method removes the registries of plain maps which were collected.
+	 */
+	private static void expungeCollected() {
+		Reference<?> reference;
+		while ((reference = COLLECTED.poll()) != null) {
+			REGISTRIES.remove(reference);
+		}
+	}
+
+	/**
+	 * This method returns the destination class of given origin class, looked up
+	 * by the class itself, then its super classes and then its interfaces.
+	 *
+	 * @param fromClass
+	 *            class of origin bean
+	 * @return destination class, or null if the class is not mapped
+	 */
+	public Class<?> getDestination(Class<?> fromClass) {
+		return lookup(fromClass, mappings, resolved);
+	}
+
+	/**
+	 * This method returns the destination class of an element of a collection or
+	 * map copied as a whole. It is looked up like
+	 * {@link #getDestination(Class)}, but by the keys of a plain
+	 * <code>excludeClassesMap</code>.
+	 *
+	 * @param fromClass
+	 *            class of origin element
+	 * @return destination class, or null if the class is not mapped
+	 */
+	Class<?> getElementDestination(Class<?> fromClass) {
+		return lookup(fromClass, elementMappings, resolvedElements);
+	}
+
+	private static Class<?> lookup(Class<?> fromClass, Map<Class<?>, Class<?>> mappings,
+			ConcurrentMap<Class<?>, Class<?>> resolved) {
+		Class<?> destination = resolved.get(fromClass);
+		if (destination == null) {
+			destination = resolve(fromClass, mappings);
+			if (destination == null) {
+				destination = NONE;
+			}
+			resolved.putIfAbsent(fromClass, destination);
+		}
+		return destination == NONE ? null : destination;
+	}
+
+	private static Class<?> resolve(Class<?> fromClass, Map<Class<?>, Class<?>> mappings) {
+		for (Class<?> c = fromClass; c != null; c = c.getSuperclass()) {
+			Class<?> destination = mappings.get(c);
+			if (destination != null) {
+				return destination;
+			}
+		}
+		ArrayDeque<Class<?>> interfaces = new ArrayDeque<Class<?>>();
+		Set<Class<?>> seen = new HashSet<Class<?>>();
+		for (Class<?> c = fromClass; c != null; c = c.getSuperclass()) {
+			for (Class<?> i : c.getInterfaces()) {
+				interfaces.add(i);
+			}
+		}
+		while (!interfaces.isEmpty()) {
+			Class<?> i = interfaces.poll();
+			if (!seen.add(i)) {
+				continue;
+			}
+			Class<?> destination = mappings.get(i);
+			if (destination != null) {
+				return destination;
+			}
+			for (Class<?> parent : i.getInterfaces()) {
+				interfaces.add(parent);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof ClassMappings))
+			return false;
+		ClassMappings other = (ClassMappings) obj;
+		return hash == other.hash && mappings.equals(other.mappings) && elementMappings.equals(other.elementMappings);
+	}
+
+	@Override
+	public String toString() {
+		return "ClassMappings" + mappings;
+	}
+
+	/**
+	 * Weak reference to a plain map, compared by identity of the map.
+	 */
+	private static final class MapReference extends WeakReference<Map<Class<?>, Class<?>>> {
+
+		private final int hash;
+
+		MapReference(Map<Class<?>, Class<?>> map, ReferenceQueue<Map<Class<?>, Class<?>>> queue) {
+			super(map, queue);
+			this.hash = System.identityHashCode(map);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof MapReference))
+				return false;
+			Object map = get();
+			return map != null && map == ((MapReference) obj).get();
+		}
+	}
+
+	/**
+	 * This class collects the mappings of a new {@link ClassMappings}.
+	 */
+	public static final class Builder {
+
+		private final Map<Class<?>, Class<?>> mappings = new LinkedHashMap<Class<?>, Class<?>>();
+
+		private Builder() {
+		}
+
+		/**
+		 * This method maps given origin class to given destination class.
+		 *
+		 * @param fromClass
+		 *            class of origin beans, its sub classes are mapped too
+		 * @param toClass
+		 *            class of destination beans
+		 * @return this builder
+		 * @throws IllegalArgumentException
+		 *             If passed class is null.
+		 */
+		public Builder map(Class<?> fromClass, Class<?> toClass) {
+			if (fromClass == null || toClass == null)
+				throw new IllegalArgumentException("No mapping class specified");
+			mappings.put(fromClass, toClass);
+			return this;
+		}
+
+		/**
+		 * @return new immutable {@link ClassMappings}
+		 */
+		public ClassMappings build() {
+			return new ClassMappings(new LinkedHashMap<Class<?>, Class<?>>(mappings), null, null);
+		}
+	}
+}
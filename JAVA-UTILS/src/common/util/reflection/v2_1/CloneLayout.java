@@ -0,0 +1,195 @@
+package common.util.reflection.v2_1;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import common.util.reflection.v2_1.FieldProperties.FieldAccessor;
+
+/**
+ * This class holds the field layout of one bean class used to clone its
+ * instances: the handles copying every instance field, including the fields of
+ * super classes. It is created once per class. Clones are created by the
+ * {@link Instantiator} of the class.
+ * <p>
+ * Classes of the JDK, like {@link String}, wrappers and collections, and enums
+ * are treated as values: they are never cloned, their references are shared.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class CloneLayout {
+
+	private static final ConcurrentMap<Class<?>, CloneLayout> CACHE = new ConcurrentHashMap<Class<?>, CloneLayout>();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/** (to, from)void handles copying primitive fields */
+	private final MethodHandle[] transfers;
+	/** (to, from)void handles copying reference fields, used by shallow clones */
+	private final MethodHandle[] referenceTransfers;
+	/** (from)Object handles reading reference fields */
+	private final MethodHandle[] getters;
+	/** (to, value)void handles writing reference fields */
+	private final MethodHandle[] setters;
+	/** final fields, which can only be written by reflection */
+	private final Field[] finalFields;
+
+	private CloneLayout(Class<?> clazz) {
+		FieldProperties fields = FieldProperties.of(clazz);
+		List<MethodHandle> transferList = new ArrayList<MethodHandle>();
+		List<MethodHandle> referenceList = new ArrayList<MethodHandle>();
+		List<MethodHandle> getterList = new ArrayList<MethodHandle>();
+		List<MethodHandle> setterList = new ArrayList<MethodHandle>();
+		List<Field> finalList = new ArrayList<Field>();
+		for (int i = 0; i < fields.size(); i++) {
+			FieldAccessor field = fields.get(i);
+			Class<?> type = field.getType();
+			if (field.getSetter() == null) {
+				finalList.add(field.getField());
+			} else if (type.isPrimitive()) {
+				MethodHandle setter = field.getSetter().asType(MethodType.methodType(void.class, Object.class, type));
+				MethodHandle getter = field.getGetter().asType(MethodType.methodType(type, Object.class));
+				transferList.add(MethodHandles.filterArguments(setter, 1, getter));
+			} else {
+				MethodHandle getter = field.getGetter().asType(GETTER_TYPE);
+				MethodHandle setter = field.getSetter().asType(SETTER_TYPE);
+				getterList.add(getter);
+				setterList.add(setter);
+				referenceList.add(MethodHandles.filterArguments(setter, 1, getter));
+			}
+		}
+		this.transfers = transferList.toArray(new MethodHandle[transferList.size()]);
+		this.referenceTransfers = referenceList.toArray(new MethodHandle[referenceList.size()]);
+		this.getters = getterList.toArray(new MethodHandle[getterList.size()]);
+		this.setters = setterList.toArray(new MethodHandle[setterList.size()]);
+		this.finalFields = finalList.toArray(new Field[finalList.size()]);
+	}
+
+	/**
+	 * This method returns the cached layout of given class.
+	 *
+	 * @param clazz
+	 *            bean class
+	 * @return {@link CloneLayout} of the class
+	 */
+	static CloneLayout of(Class<?> clazz) {
+		CloneLayout layout = CACHE.get(clazz);
+		if (layout == null) {
+			layout = new CloneLayout(clazz);
+			CloneLayout existing = CACHE.putIfAbsent(clazz, layout);
+			if (existing != null) {
+				layout = existing;
+			}
+		}
+		return layout;
+	}
+
+	/**
+	 * @return true if instances of given class are shared instead of cloned
+	 */
+	static boolean isValue(Class<?> clazz) {
+		if (clazz.isArray()) {
+			return false;
+		}
+		return clazz.isPrimitive() || clazz.isEnum() || clazz.getClassLoader() == null;
+	}
+
+	/**
+	 * This method clones given value.
+	 *
+	 * @param from
+	 *            value to clone, may be null
+	 * @param depth
+	 *            number of levels of nested beans and arrays which are cloned
+	 *            too, 0 clones only given value
+	 * @param clones
+	 *            clone of every value already cloned, keyed by identity, used
+	 *            when depth is positive
+	 * @return clone of given value, or the value itself if it is a value type
+	 * @throws Exception
+	 *             If a clone can not be created
+	 */
+	static Object clone(Object from, int depth, Map<Object, Object> clones) throws Exception {
+		if (from == null || isValue(from.getClass())) {
+			return from;
+		}
+		if (clones != null) {
+			Object cloned = clones.get(from);
+			if (cloned != null) {
+				return cloned;
+			}
+		}
+		Class<?> clazz = from.getClass();
+		if (clazz.isArray()) {
+			return cloneArray(from, depth, clones);
+		}
+		CloneLayout layout = of(clazz);
+		Object to = Instantiators.newInstance(clazz);
+		if (clones != null) {
+			clones.put(from, to);
+		}
+		layout.copy(to, from, depth, clones);
+		return to;
+	}
+
+	/**
+	 * This method clones given array, its elements are cloned while depth is
+	 * positive.
+	 */
+	private static Object cloneArray(Object from, int depth, Map<Object, Object> clones) throws Exception {
+		int length = Array.getLength(from);
+		Object to = Array.newInstance(from.getClass().getComponentType(), length);
+		System.arraycopy(from, 0, to, 0, length);
+		if (clones != null) {
+			clones.put(from, to);
+		}
+		if (depth > 0 && !from.getClass().getComponentType().isPrimitive()) {
+			Object[] elements = (Object[]) to;
+			for (int i = 0; i < elements.length; i++) {
+				elements[i] = clone(elements[i], depth - 1, clones);
+			}
+		}
+		return to;
+	}
+
+	/**
+	 * This method copies all fields of origin bean into destination bean of same
+	 * class.
+	 */
+	private void copy(Object to, Object from, int depth, Map<Object, Object> clones) throws Exception {
+		try {
+			for (int i = 0; i < transfers.length; i++) {
+				transfers[i].invokeExact(to, from);
+			}
+			if (depth > 0) {
+				for (int i = 0; i < getters.length; i++) {
+					Object value = getters[i].invokeExact(from);
+					setters[i].invokeExact(to, clone(value, depth - 1, clones));
+				}
+			} else {
+				for (int i = 0; i < referenceTransfers.length; i++) {
+					referenceTransfers[i].invokeExact(to, from);
+				}
+			}
+		} catch (Throwable t) {
+			throw Accessors.rethrow(t);
+		}
+		for (int i = 0; i < finalFields.length; i++) {
+			Object value = finalFields[i].get(from);
+			if (depth > 0 && !finalFields[i].getType().isPrimitive()) {
+				value = clone(value, depth - 1, clones);
+			}
+			finalFields[i].set(to, value);
+		}
+	}
+}
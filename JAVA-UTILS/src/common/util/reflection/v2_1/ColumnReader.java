@@ -0,0 +1,306 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import common.util.reflection.v2_1.PrimitiveTransfer.BooleanGetter;
+import common.util.reflection.v2_1.PrimitiveTransfer.DoubleGetter;
+import common.util.reflection.v2_1.PrimitiveTransfer.IntGetter;
+import common.util.reflection.v2_1.PrimitiveTransfer.LongGetter;
+
+/**
+ * This class reads one property of beans of one class into a column array of
+ * {@link BeanColumns}. When the getter returns the primitive type of the column
+ * and lambda accessors are available, the value is read without boxing. A
+ * getter whose declared type does not fit the column is refused, so values are
+ * never narrowed. Readers are created once per bean class, property and column
+ * kind.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+abstract class ColumnReader {
+
+	private static final ConcurrentMap<Key, ColumnReader> CACHE = new ConcurrentHashMap<Key, ColumnReader>();
+
+	/**
+	 * Array type of a column.
+	 */
+	enum Kind {
+		INT, LONG, DOUBLE, BOOLEAN, STRING;
+
+		/**
+		 * @return kind of column storing values of given property type
+		 */
+		static Kind of(Class<?> type) {
+			if (type == int.class || type == short.class || type == byte.class || type == Integer.class
+					|| type == Short.class || type == Byte.class) {
+				return INT;
+			} else if (type == long.class || type == Long.class) {
+				return LONG;
+			} else if (type == double.class || type == float.class || type == Double.class || type == Float.class) {
+				return DOUBLE;
+			} else if (type == boolean.class || type == Boolean.class) {
+				return BOOLEAN;
+			}
+			return STRING;
+		}
+
+		/**
+		 * @return true if a column of this kind holds every value of a property
+		 *         whose type is of given kind without loss
+		 */
+		boolean holds(Kind typeKind) {
+			switch (this) {
+			case LONG:
+				return typeKind == INT || typeKind == LONG;
+			case DOUBLE:
+				return typeKind == INT || typeKind == DOUBLE;
+			case STRING:
+				return true;
+			default:
+				return typeKind == this;
+			}
+		}
+
+		/**
+		 * @return new column array of this kind
+		 */
+		Object newColumn(int size) {
+			switch (this) {
+			case INT:
+				return new int[size];
+			case LONG:
+				return new long[size];
+			case DOUBLE:
+				return new double[size];
+			case BOOLEAN:
+				return new boolean[size];
+			default:
+				return new String[size];
+			}
+		}
+	}
+
+	/**
+	 * This method returns the getter method of given property.
+	 *
+	 * @param clazz
+	 *            bean class
+	 * @param name
+	 *            property name, eg. "price" for <code>getPrice()</code>
+	 * @return public getter method
+	 * @throws IllegalArgumentException
+	 *             If class has no such getter
+	 */
+	static Method getterMethod(Class<?> clazz, String name) {
+		Method getter = null;
+		if (name.length() > 0) {
+			getter = BeanProperties.of(clazz).getGetter(name.substring(0, 1).toUpperCase() + name.substring(1));
+		}
+		if (getter == null || Modifier.isStatic(getter.getModifiers())) {
+			throw new IllegalArgumentException("No getter of property " + name + " found in " + clazz.getName());
+		}
+		return getter;
+	}
+
+	/**
+	 * This method returns the cached reader of given property.
+	 *
+	 * @param clazz
+	 *            bean class
+	 * @param name
+	 *            property name
+	 * @param kind
+	 *            kind of the column to fill
+	 * @param backend
+	 *            {@link AccessorBackend} used to call the getter
+	 * @return {@link ColumnReader} of the property
+	 * @throws IllegalArgumentException
+	 *             If class has no such getter or the getter returns a type
+	 *             whose values the column can not hold without loss, eg. a
+	 *             <code>long</code> for an <code>int</code> column
+	 */
+	static ColumnReader of(Class<?> clazz, String name, Kind kind, AccessorBackend backend) {
+		Key key = new Key(clazz, name, kind, backend);
+		ColumnReader reader = CACHE.get(key);
+		if (reader == null) {
+			reader = create(getterMethod(clazz, name), kind, backend);
+			ColumnReader existing = CACHE.putIfAbsent(key, reader);
+			if (existing != null) {
+				reader = existing;
+			}
+		}
+		return reader;
+	}
+
+	private static ColumnReader create(Method getter, Kind kind, AccessorBackend backend) {
+		Class<?> type = getter.getReturnType();
+		if (backend != AccessorBackend.REFLECTION && Accessors.isLambdaTarget(getter)) {
+			try {
+				if (kind == Kind.INT && type == int.class) {
+					return new IntReader(Accessors.lambda(IntGetter.class, getter));
+				} else if (kind == Kind.LONG && type == long.class) {
+					return new LongReader(Accessors.lambda(LongGetter.class, getter));
+				} else if (kind == Kind.DOUBLE && type == double.class) {
+					return new DoubleReader(Accessors.lambda(DoubleGetter.class, getter));
+				} else if (kind == Kind.BOOLEAN && type == boolean.class) {
+					return new BooleanReader(Accessors.lambda(BooleanGetter.class, getter));
+				}
+			} catch (Throwable e) {
+				// primitive getter not available, value is read boxed
+			}
+		}
+		if (!kind.holds(Kind.of(type))) {
+			throw new IllegalArgumentException(
+					"Property type " + type.getName() + " of " + getter + " does not fit a " + kind + " column");
+		}
+		return new BoxedReader(Accessors.getter(getter, backend), kind);
+	}
+
+	/**
+	 * This method reads the property of given bean into given row of the column.
+	 *
+	 * @param bean
+	 *            bean to read, not null
+	 * @param column
+	 *            column array of the kind of this reader
+	 * @param row
+	 *            row index
+	 * @throws Exception
+	 *             If getter fails
+	 */
+	abstract void read(Object bean, Object column, int row) throws Exception;
+
+	private static final class IntReader extends ColumnReader {
+
+		private final IntGetter getter;
+
+		IntReader(IntGetter getter) {
+			this.getter = getter;
+		}
+
+		@Override
+		void read(Object bean, Object column, int row) throws Exception {
+			((int[]) column)[row] = getter.get(bean);
+		}
+	}
+
+	private static final class LongReader extends ColumnReader {
+
+		private final LongGetter getter;
+
+		LongReader(LongGetter getter) {
+			this.getter = getter;
+		}
+
+		@Override
+		void read(Object bean, Object column, int row) throws Exception {
+			((long[]) column)[row] = getter.get(bean);
+		}
+	}
+
+	private static final class DoubleReader extends ColumnReader {
+
+		private final DoubleGetter getter;
+
+		DoubleReader(DoubleGetter getter) {
+			this.getter = getter;
+		}
+
+		@Override
+		void read(Object bean, Object column, int row) throws Exception {
+			((double[]) column)[row] = getter.get(bean);
+		}
+	}
+
+	private static final class BooleanReader extends ColumnReader {
+
+		private final BooleanGetter getter;
+
+		BooleanReader(BooleanGetter getter) {
+			this.getter = getter;
+		}
+
+		@Override
+		void read(Object bean, Object column, int row) throws Exception {
+			((boolean[]) column)[row] = getter.get(bean);
+		}
+	}
+
+	/**
+	 * Reader of boxed values, converting them to the column type.
+	 */
+	private static final class BoxedReader extends ColumnReader {
+
+		private final PropertyGetter getter;
+		private final Kind kind;
+
+		BoxedReader(PropertyGetter getter, Kind kind) {
+			this.getter = getter;
+			this.kind = kind;
+		}
+
+		@Override
+		void read(Object bean, Object column, int row) throws Exception {
+			Object value = getter.get(bean);
+			switch (kind) {
+			case INT:
+				((int[]) column)[row] = value == null ? 0 : ((Number) value).intValue();
+				break;
+			case LONG:
+				((long[]) column)[row] = value == null ? 0L : ((Number) value).longValue();
+				break;
+			case DOUBLE:
+				((double[]) column)[row] = value == null ? 0D : ((Number) value).doubleValue();
+				break;
+			case BOOLEAN:
+				((boolean[]) column)[row] = value != null && ((Boolean) value).booleanValue();
+				break;
+			default:
+				((String[]) column)[row] = value == null ? null : String.valueOf(value);
+			}
+		}
+	}
+
+	/**
+	 * Cache key of a reader.
+	 */
+	private static final class Key {
+
+		private final Class<?> clazz;
+		private final String name;
+		private final Kind kind;
+		private final AccessorBackend backend;
+		private final int hash;
+
+		Key(Class<?> clazz, String name, Kind kind, AccessorBackend backend) {
+			this.clazz = clazz;
+			this.name = name;
+			this.kind = kind;
+			this.backend = backend;
+			int h = 31 * clazz.hashCode() + name.hashCode();
+			h = 31 * h + kind.hashCode();
+			this.hash = 31 * h + backend.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return hash == other.hash && clazz == other.clazz && kind == other.kind && backend == other.backend
+					&& name.equals(other.name);
+		}
+	}
+}
@@ -0,0 +1,227 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * This class creates the destination collections, maps and arrays of container
+ * copies. A copy keeps the type of origin container when the destination type
+ * accepts it, so order of a {@link LinkedHashSet}, comparator of a
+ * {@link TreeSet} and element type of an {@link EnumSet} are not lost, and it is
+ * created with the capacity of origin container so it does not grow while
+ * being filled.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class Containers {
+
+	private Containers() {
+	}
+
+	/**
+	 * This method returns the initial capacity of a hashed collection holding
+	 * given number of elements without rehashing.
+	 *
+	 * @param size
+	 *            expected number of elements
+	 * @return initial capacity for the default load factor
+	 */
+	static int capacity(int size) {
+		return size < 3 ? size + 1 : (int) (size / 0.75F + 1.0F);
+	}
+
+	/**
+	 * This method creates an empty collection to copy the elements of given
+	 * collection into. The class of origin collection is used if it is a JDK
+	 * collection assignable to the destination type. Else a {@link List} or
+	 * {@link Collection} becomes an {@link ArrayList}, a {@link SortedSet} a
+	 * {@link TreeSet}, a {@link Set} a {@link LinkedHashSet}, a queue a
+	 * {@link LinkedList}, and a concrete class is instantiated.
+	 * <p>
+	 * A {@link SortedSet} whose elements are copied into other classes becomes
+	 * a {@link LinkedHashSet} keeping its order, since the copied elements need
+	 * not be {@link Comparable}.
+	 *
+	 * @param from
+	 *            origin collection
+	 * @param toType
+	 *            type of destination collection
+	 * @param elementsCopied
+	 *            true if elements are copied into other classes, so comparator
+	 *            and enum type of origin collection do not apply
+	 * @return empty, presized collection
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static Collection<Object> newCollection(Collection<?> from, Class<?> toType, boolean elementsCopied) {
+		int size = from.size();
+		if (from instanceof EnumSet && !elementsCopied && toType.isAssignableFrom(EnumSet.class)) {
+			EnumSet set = ((EnumSet) from).clone();
+			set.clear();
+			return set;
+		} else if (from instanceof SortedSet && !elementsCopied && toType.isAssignableFrom(TreeSet.class)) {
+			return new TreeSet<Object>(((SortedSet<Object>) from).comparator());
+		} else if ((from instanceof LinkedHashSet || from instanceof SortedSet)
+				&& toType.isAssignableFrom(LinkedHashSet.class)) {
+			return new LinkedHashSet<Object>(capacity(size));
+		} else if (from instanceof Set && toType.isAssignableFrom(HashSet.class)) {
+			return new HashSet<Object>(capacity(size));
+		} else if (from instanceof LinkedList && toType.isAssignableFrom(LinkedList.class)) {
+			return new LinkedList<Object>();
+		} else if (from instanceof ArrayDeque && toType.isAssignableFrom(ArrayDeque.class)) {
+			return new ArrayDeque<Object>(size);
+		} else if (toType.isAssignableFrom(ArrayList.class)) {
+			return new ArrayList<Object>(size);
+		} else if (toType.isAssignableFrom(TreeSet.class)) {
+			return new TreeSet<Object>();
+		} else if (toType.isAssignableFrom(LinkedHashSet.class)) {
+			return new LinkedHashSet<Object>(capacity(size));
+		} else if (toType.isAssignableFrom(LinkedList.class)) {
+			return new LinkedList<Object>();
+		} else if (Collection.class.isAssignableFrom(toType) && !toType.isInterface()
+				&& !Modifier.isAbstract(toType.getModifiers())) {
+			try {
+				return (Collection<Object>) Instantiators.newInstance(toType);
+			} catch (Exception e) {
+				// no usable constructor, setter reports the mismatch
+			}
+		}
+		return new ArrayList<Object>(size);
+	}
+
+	/**
+	 * This method creates an empty map to copy the entries of given map into.
+	 * The class of origin map is used if it is an {@link EnumMap},
+	 * {@link TreeMap}, {@link LinkedHashMap} or {@link HashMap} assignable to the
+	 * destination type. Else a {@link SortedMap} becomes a {@link TreeMap}, any
+	 * other map a {@link LinkedHashMap}, and a concrete class is instantiated.
+	 * <p>
+	 * A {@link SortedMap} whose keys are copied into other classes becomes a
+	 * {@link LinkedHashMap} keeping its order, since the copied keys need not be
+	 * {@link Comparable}.
+	 *
+	 * @param from
+	 *            origin map
+	 * @param toType
+	 *            type of destination map
+	 * @param keysCopied
+	 *            true if keys are copied into other classes, so comparator and
+	 *            enum type of origin map do not apply
+	 * @return empty, presized map
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static Map<Object, Object> newMap(Map<?, ?> from, Class<?> toType, boolean keysCopied) {
+		int size = from.size();
+		if (from instanceof EnumMap && !keysCopied && toType.isAssignableFrom(EnumMap.class)) {
+			EnumMap map = ((EnumMap) from).clone();
+			map.clear();
+			return map;
+		} else if (from instanceof SortedMap && !keysCopied && toType.isAssignableFrom(TreeMap.class)) {
+			return new TreeMap<Object, Object>(((SortedMap<Object, Object>) from).comparator());
+		} else if ((from instanceof LinkedHashMap || from instanceof SortedMap)
+				&& toType.isAssignableFrom(LinkedHashMap.class)) {
+			return new LinkedHashMap<Object, Object>(capacity(size));
+		} else if (from instanceof HashMap && toType.isAssignableFrom(HashMap.class)) {
+			return new HashMap<Object, Object>(capacity(size));
+		} else if (toType.isAssignableFrom(LinkedHashMap.class)) {
+			return new LinkedHashMap<Object, Object>(capacity(size));
+		} else if (toType.isAssignableFrom(TreeMap.class)) {
+			return new TreeMap<Object, Object>();
+		} else if (Map.class.isAssignableFrom(toType) && !toType.isInterface()
+				&& !Modifier.isAbstract(toType.getModifiers())) {
+			try {
+				return (Map<Object, Object>) Instantiators.newInstance(toType);
+			} catch (Exception e) {
+				// no usable constructor, setter reports the mismatch
+			}
+		}
+		return new LinkedHashMap<Object, Object>(capacity(size));
+	}
+
+	/**
+	 * This method copies given array into a new array of given component type.
+	 * An array of the same component type, or of a sub class of it, is copied
+	 * by {@link System#arraycopy}. Else each element is boxed, unboxed or
+	 * widened as by {@link Array#set(Object, int, Object)}, eg. an
+	 * <code>int[]</code> is copied into a <code>long[]</code> or an
+	 * <code>Integer[]</code>.
+	 *
+	 * @param from
+	 *            origin array, of primitive or object components
+	 * @param componentType
+	 *            component type of destination array
+	 * @return new array holding the values of origin array
+	 * @throws IllegalArgumentException
+	 *             If an element can not be stored in destination array
+	 */
+	static Object copyArray(Object from, Class<?> componentType) {
+		int length = Array.getLength(from);
+		Object to = Array.newInstance(componentType, length);
+		Class<?> fromComponentType = from.getClass().getComponentType();
+		if (componentType == fromComponentType
+				|| !componentType.isPrimitive() && componentType.isAssignableFrom(fromComponentType)) {
+			System.arraycopy(from, 0, to, 0, length);
+		} else {
+			for (int i = 0; i < length; i++) {
+				Object value = Array.get(from, i);
+				if (value != null || !componentType.isPrimitive()) {
+					Array.set(to, i, value);
+				}
+			}
+		}
+		return to;
+	}
+
+	/**
+	 * This method adds the elements of given collection which are not null to
+	 * given collection. The elements are read by one
+	 * {@link Collection#toArray()} and added in bulk, which an
+	 * {@link ArrayList} does by {@link System#arraycopy}.
+	 *
+	 * @param to
+	 *            collection to add the elements to
+	 * @param from
+	 *            collection to read the elements from
+	 */
+	static void addAllNonNull(Collection<Object> to, Collection<?> from) {
+		Object[] elements = from.toArray();
+		int size = 0;
+		for (int i = 0; i < elements.length; i++) {
+			if (elements[i] != null) {
+				elements[size++] = elements[i];
+			}
+		}
+		List<Object> nonNull = Arrays.asList(elements);
+		to.addAll(size == elements.length ? nonNull : nonNull.subList(0, size));
+	}
+
+	/**
+	 * @param from
+	 *            origin collection
+	 * @return true if the elements of given collection are read faster by index
+	 *         than by an iterator
+	 */
+	static boolean isIndexed(Collection<?> from) {
+		return from instanceof List && from instanceof RandomAccess;
+	}
+}
@@ -0,0 +1,31 @@
+package common.util.reflection.v2_1;
+
+/**
+ * This interface converts a getter value of origin bean into the type taken by
+ * the setter of destination bean, when the types do not match. Converters for
+ * common JDK types are built in, others can be registered with
+ * {@link ReflectionUtil#registerConverter(Class, Class, Converter)}.
+ *
+ * <pre>
+ * ReflectionUtil.registerConverter(String.class, Money.class, new Converter&lt;String, Money&gt;() {
+ * 	public Money convert(String value) {
+ * 		return Money.parse(value);
+ * 	}
+ * });
+ * </pre>
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public interface Converter<S, T> {
+
+	/**
+	 * @param value
+	 *            value to convert, never null
+	 * @return converted value
+	 * @throws Exception
+	 *             If value can not be converted
+	 */
+	T convert(S value) throws Exception;
+}
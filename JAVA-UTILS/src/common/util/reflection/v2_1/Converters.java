@@ -0,0 +1,320 @@
+package common.util.reflection.v2_1;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class chooses the {@link Converter} of a getter return type and a setter
+ * parameter type when a copy plan is built. A registered converter of the pair,
+ * or of a super class of the origin type, is used first. Otherwise a built in
+ * converter is chosen:
+ * <ul>
+ * <li>number to any other number type, including {@link BigDecimal} and
+ * {@link BigInteger}. Narrowing is range checked: a value the target type can
+ * not hold fails instead of being truncated</li>
+ * <li>{@link String} to number, {@link Boolean} or enum, and number,
+ * {@link Boolean}, {@link Character} or enum to {@link String}</li>
+ * <li>{@link Date} to <code>long</code> and <code>long</code> to
+ * {@link Date}</li>
+ * </ul>
+ * Types without converter are left to the setter, as before.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class Converters {
+
+	private static final ConcurrentMap<Pair, Converter<?, ?>> REGISTERED =
+			new ConcurrentHashMap<Pair, Converter<?, ?>>();
+
+	private Converters() {
+	}
+
+	/**
+	 * This method registers the converter of given types, replacing the
+	 * converter in use.
+	 *
+	 * @param from
+	 *            origin type, primitive types are registered as their wrappers
+	 * @param to
+	 *            destination type, primitive types are registered as their
+	 *            wrappers
+	 * @param converter
+	 *            converter of the types, null to use the built in converter
+	 *            again
+	 */
+	static void register(Class<?> from, Class<?> to, Converter<?, ?> converter) {
+		Pair pair = new Pair(Accessors.wrap(from), Accessors.wrap(to));
+		if (converter == null) {
+			REGISTERED.remove(pair);
+		} else {
+			REGISTERED.put(pair, converter);
+		}
+	}
+
+	/**
+	 * This method chooses the converter of given types.
+	 *
+	 * @param from
+	 *            getter return type
+	 * @param to
+	 *            setter parameter type
+	 * @return converter, or null if the value is passed as it is
+	 */
+	@SuppressWarnings("unchecked")
+	static Converter<Object, Object> find(Class<?> from, Class<?> to) {
+		Class<?> source = Accessors.wrap(from);
+		Class<?> target = Accessors.wrap(to);
+		if (target.isAssignableFrom(source)) {
+			return null;
+		}
+		for (Class<?> type = source; type != null; type = type.getSuperclass()) {
+			Converter<?, ?> converter = REGISTERED.get(new Pair(type, target));
+			if (converter != null) {
+				return (Converter<Object, Object>) converter;
+			}
+		}
+		return builtIn(source, target);
+	}
+
+	private static Converter<Object, Object> builtIn(Class<?> source, Class<?> target) {
+		if (isNumber(target)) {
+			if (Number.class.isAssignableFrom(source)) {
+				return new NumberConverter(target);
+			} else if (source == String.class) {
+				return new ParseConverter(target);
+			} else if (Date.class.isAssignableFrom(source) && target == Long.class) {
+				return new DateToLong();
+			}
+		} else if (target == String.class) {
+			if (source.isEnum()) {
+				return new EnumToString();
+			} else if (Number.class.isAssignableFrom(source) || source == Boolean.class
+					|| source == Character.class) {
+				return new ToString();
+			}
+		} else if (source == String.class) {
+			if (target == Boolean.class) {
+				return new ParseConverter(target);
+			} else if (target.isEnum()) {
+				return new StringToEnum(target);
+			}
+		} else if (target == Date.class && source == Long.class) {
+			return new LongToDate();
+		}
+		return null;
+	}
+
+	private static boolean isNumber(Class<?> type) {
+		return type == Integer.class || type == Long.class || type == Double.class || type == Float.class
+				|| type == Short.class || type == Byte.class || type == BigDecimal.class || type == BigInteger.class;
+	}
+
+	/**
+	 * Converts any number to the target number type. A value the target type can
+	 * not hold, eg. a <code>long</code> beyond the <code>int</code> range or a
+	 * <code>double</code> with a fraction into an integral type, is not
+	 * truncated but fails with an {@link ArithmeticException}, so the property
+	 * is reported as not set.
+	 */
+	private static final class NumberConverter implements Converter<Object, Object> {
+
+		private final Class<?> target;
+
+		NumberConverter(Class<?> target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object convert(Object value) {
+			Number number = (Number) value;
+			if (target == Integer.class) {
+				long exact = toLong(number);
+				if (exact != (int) exact)
+					throw outOfRange(number);
+				return Integer.valueOf((int) exact);
+			} else if (target == Long.class) {
+				return Long.valueOf(toLong(number));
+			} else if (target == Short.class) {
+				long exact = toLong(number);
+				if (exact != (short) exact)
+					throw outOfRange(number);
+				return Short.valueOf((short) exact);
+			} else if (target == Byte.class) {
+				long exact = toLong(number);
+				if (exact != (byte) exact)
+					throw outOfRange(number);
+				return Byte.valueOf((byte) exact);
+			} else if (target == Double.class) {
+				double converted = number.doubleValue();
+				if (Double.isInfinite(converted) && !isInfinite(number))
+					throw outOfRange(number);
+				return Double.valueOf(converted);
+			} else if (target == Float.class) {
+				float converted = number.floatValue();
+				if (Float.isInfinite(converted) && !isInfinite(number))
+					throw outOfRange(number);
+				return Float.valueOf(converted);
+			} else if (target == BigDecimal.class) {
+				return number instanceof BigInteger ? new BigDecimal((BigInteger) number)
+						: new BigDecimal(number.toString());
+			} else if (number instanceof BigDecimal) {
+				return ((BigDecimal) number).toBigIntegerExact();
+			} else if (number instanceof Double || number instanceof Float) {
+				return new BigDecimal(number.toString()).toBigIntegerExact();
+			}
+			return BigInteger.valueOf(toLong(number));
+		}
+
+		/**
+		 * @return value of given number as a long
+		 * @throws ArithmeticException
+		 *             If the number has a fraction or is beyond the long range
+		 */
+		private long toLong(Number number) {
+			if (number instanceof Integer || number instanceof Long || number instanceof Short
+					|| number instanceof Byte) {
+				return number.longValue();
+			} else if (number instanceof Double || number instanceof Float) {
+				double d = number.doubleValue();
+				if (d != Math.rint(d) || d < -0x1p63 || d >= 0x1p63)
+					throw outOfRange(number);
+				return (long) d;
+			} else if (number instanceof BigDecimal) {
+				return longValueExact((BigDecimal) number);
+			}
+			return longValueExact(new BigDecimal(number.toString()));
+		}
+
+		private long longValueExact(BigDecimal number) {
+			try {
+				return number.longValueExact();
+			} catch (ArithmeticException e) {
+				throw outOfRange(number);
+			}
+		}
+
+		private boolean isInfinite(Number number) {
+			return number instanceof Double && ((Double) number).isInfinite()
+					|| number instanceof Float && ((Float) number).isInfinite();
+		}
+
+		private ArithmeticException outOfRange(Number number) {
+			return new ArithmeticException(number + " can not be converted to " + target.getSimpleName()
+					+ " without loss");
+		}
+	}
+
+	/**
+	 * Parses a {@link String} into a number or {@link Boolean}.
+	 */
+	private static final class ParseConverter implements Converter<Object, Object> {
+
+		private final Class<?> target;
+
+		ParseConverter(Class<?> target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object convert(Object value) {
+			String text = ((String) value).trim();
+			if (target == Integer.class) {
+				return Integer.valueOf(text);
+			} else if (target == Long.class) {
+				return Long.valueOf(text);
+			} else if (target == Double.class) {
+				return Double.valueOf(text);
+			} else if (target == Float.class) {
+				return Float.valueOf(text);
+			} else if (target == Short.class) {
+				return Short.valueOf(text);
+			} else if (target == Byte.class) {
+				return Byte.valueOf(text);
+			} else if (target == BigDecimal.class) {
+				return new BigDecimal(text);
+			} else if (target == BigInteger.class) {
+				return new BigInteger(text);
+			}
+			return Boolean.valueOf(text);
+		}
+	}
+
+	private static final class ToString implements Converter<Object, Object> {
+
+		@Override
+		public Object convert(Object value) {
+			return value.toString();
+		}
+	}
+
+	private static final class EnumToString implements Converter<Object, Object> {
+
+		@Override
+		public Object convert(Object value) {
+			return ((Enum<?>) value).name();
+		}
+	}
+
+	private static final class StringToEnum implements Converter<Object, Object> {
+
+		private final Class<?> target;
+
+		StringToEnum(Class<?> target) {
+			this.target = target;
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		@Override
+		public Object convert(Object value) {
+			return Enum.valueOf((Class) target, ((String) value).trim());
+		}
+	}
+
+	private static final class DateToLong implements Converter<Object, Object> {
+
+		@Override
+		public Object convert(Object value) {
+			return Long.valueOf(((Date) value).getTime());
+		}
+	}
+
+	private static final class LongToDate implements Converter<Object, Object> {
+
+		@Override
+		public Object convert(Object value) {
+			return new Date(((Long) value).longValue());
+		}
+	}
+
+	/**
+	 * Key of a registered converter.
+	 */
+	private static final class Pair {
+
+		private final Class<?> from;
+		private final Class<?> to;
+
+		Pair(Class<?> from, Class<?> to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * from.hashCode() + to.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Pair))
+				return false;
+			Pair other = (Pair) obj;
+			return from == other.from && to == other.to;
+		}
+	}
+}
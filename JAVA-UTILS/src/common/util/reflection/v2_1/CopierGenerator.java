@@ -0,0 +1,527 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+
+/**
+ * This class generates a {@link GeneratedCopier} subclass for one (from, to)
+ * class pair. For every property whose getter result can be passed to the
+ * setter as it is, the generated code calls <code>to.setX(from.getX())</code>
+ * directly. Collections, nested beans and mismatched types are handed back to
+ * {@link ReflectionUtil} through {@link GeneratedCopier#copyProperty}.
+ * <p>
+ * The class file is written by hand in the Java 5 format, which is verified by
+ * type inference and so needs no stack map frames.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class CopierGenerator {
+
+	private static final Logger LOGGER = Logger.getLogger(CopierGenerator.class);
+
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	private static final String SUPER_NAME = internalName(GeneratedCopier.class);
+	private static final String COPY_PROPERTIES_DESC = "(Ljava/lang/Object;Ljava/lang/Object;)V";
+	private static final String COPY_PROPERTY_DESC = "(ILjava/lang/Object;Ljava/lang/Object;)V";
+	private static final String SET_VALUE_FAILED_DESC = "(ILjava/lang/Object;Ljava/lang/Object;Ljava/lang/Exception;)V";
+	private static final String GETTER_FAILED_DESC =
+			"(ILjava/lang/Exception;)Ljava/lang/reflect/InvocationTargetException;";
+
+	/**
+	 * Properties copied by one generated method. HotSpot does not compile
+	 * methods larger than 8000 bytes and one property takes up to 57 bytes.
+	 */
+	private static final int CHUNK_SIZE = 100;
+
+	private static final int LOCAL_TYPED_FROM = 3;
+	private static final int LOCAL_TYPED_TO = 4;
+	private static final int LOCAL_VALUE = 5;
+	private static final int LOCAL_EXCEPTION = 7;
+
+	private CopierGenerator() {
+	}
+
+	/**
+	 * This method generates and loads the copier class of given copy plan.
+	 *
+	 * @param toClass
+	 *            destination class
+	 * @param fromClass
+	 *            origin class
+	 * @param mappings
+	 *            resolved getter and setter pairs
+	 * @param strictCopy
+	 *            if true then null values are also copied
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @return generated copier or null if given classes are not public or the
+	 *         class can not be generated
+	 */
+	static GeneratedCopier generate(Class<?> toClass, Class<?> fromClass, PropertyMapping[] mappings,
+			boolean strictCopy, ClassMappings excludeClassesMap) {
+		if (!Modifier.isPublic(toClass.getModifiers()) || !Modifier.isPublic(fromClass.getModifiers())) {
+			return null;
+		}
+		String className = GeneratedCopier.class.getName() + "$" + simpleName(fromClass) + "To"
+				+ simpleName(toClass) + "$" + COUNTER.incrementAndGet();
+		try {
+			byte[] bytes = writeClass(internalName(className), toClass, fromClass, mappings, strictCopy,
+					excludeClassesMap);
+			Class<?> clazz = new CopierClassLoader(toClass, fromClass).define(className, bytes);
+			GeneratedCopier copier = (GeneratedCopier) clazz.getConstructor().newInstance();
+			copier.init(mappings, strictCopy, excludeClassesMap);
+			return copier;
+		} catch (Throwable e) {
+			LOGGER.warn("Not able to generate copier from " + fromClass.getName() + " to " + toClass.getName()
+					+ ", copying through accessors. " + e);
+			return null;
+		}
+	}
+
+	/**
+	 * Plain assignment is used when the setter accepts the getter result without
+	 * conversion and the value can never be a collection which has to be copied
+	 * element by element.
+	 */
+	private static boolean isDirect(PropertyMapping mapping, ClassMappings excludeClassesMap) {
+		if (Modifier.isStatic(mapping.getFromMethod().getModifiers())
+				|| Modifier.isStatic(mapping.getToMethod().getModifiers())) {
+			return false;
+		}
+		Class<?> returnType = mapping.getReturnType();
+		Class<?> parameterType = mapping.getParameterType();
+		if (parameterType.isPrimitive()) {
+			return returnType == parameterType;
+		}
+		if (returnType.isPrimitive() || !parameterType.isAssignableFrom(returnType)) {
+			return false;
+		}
+		return excludeClassesMap == null || (Modifier.isFinal(returnType.getModifiers())
+				&& !Collection.class.isAssignableFrom(returnType));
+	}
+
+	private static byte[] writeClass(String className, Class<?> toClass, Class<?> fromClass,
+			PropertyMapping[] mappings, boolean strictCopy, ClassMappings excludeClassesMap) {
+		ConstantPool pool = new ConstantPool();
+		int thisClass = pool.classRef(className);
+		int superClass = pool.classRef(SUPER_NAME);
+		int codeName = pool.utf8("Code");
+		int copyDesc = pool.utf8(COPY_PROPERTIES_DESC);
+
+		// public <init>() { super(); }
+		ByteVector init = new ByteVector();
+		init.putByte(0x2A); // aload_0
+		init.putByte(0xB7).putShort(pool.methodRef(SUPER_NAME, "<init>", "()V")); // invokespecial
+		init.putByte(0xB1); // return
+
+		// protected void copyProperties(Object to, Object from), wide beans are split
+		// into private chunk methods which stay below the size the JIT compiles
+		List<ByteVector> chunks = new ArrayList<ByteVector>();
+		List<List<int[]>> chunkExceptionTables = new ArrayList<List<int[]>>();
+		for (int start = 0; start < mappings.length || start == 0; start += CHUNK_SIZE) {
+			List<int[]> exceptionTable = new ArrayList<int[]>();
+			chunks.add(writeCopyCode(pool, toClass, fromClass, mappings, start,
+					Math.min(start + CHUNK_SIZE, mappings.length), strictCopy, excludeClassesMap, exceptionTable));
+			chunkExceptionTables.add(exceptionTable);
+		}
+		ByteVector copy;
+		List<int[]> copyExceptionTable;
+		if (chunks.size() == 1) {
+			copy = chunks.remove(0);
+			copyExceptionTable = chunkExceptionTables.remove(0);
+		} else {
+			copy = new ByteVector();
+			copyExceptionTable = new ArrayList<int[]>();
+			for (int i = 0; i < chunks.size(); i++) {
+				copy.putByte(0x2A).putByte(0x2B).putByte(0x2C); // aload_0, aload_1, aload_2
+				copy.putByte(0xB7).putShort(pool.methodRef(className, "copyChunk" + i, COPY_PROPERTIES_DESC));
+			}
+			copy.putByte(0xB1); // return
+		}
+
+		int initName = pool.utf8("<init>");
+		int initDesc = pool.utf8("()V");
+		int copyName = pool.utf8("copyProperties");
+		int[] chunkNames = new int[chunks.size()];
+		for (int i = 0; i < chunks.size(); i++) {
+			chunkNames[i] = pool.utf8("copyChunk" + i);
+		}
+
+		ByteVector out = new ByteVector();
+		out.putInt(0xCAFEBABE);
+		out.putShort(0).putShort(49); // Java 5 class file
+		pool.writeTo(out);
+		out.putShort(0x0001 | 0x0010 | 0x0020); // public final super
+		out.putShort(thisClass).putShort(superClass);
+		out.putShort(0); // interfaces
+		out.putShort(0); // fields
+		out.putShort(2 + chunks.size()); // methods
+		writeMethod(out, 0x0001, initName, initDesc, codeName, 1, 1, init, new ArrayList<int[]>());
+		writeMethod(out, 0x0004, copyName, copyDesc, codeName, 6, LOCAL_EXCEPTION + 1, copy, copyExceptionTable);
+		for (int i = 0; i < chunks.size(); i++) {
+			writeMethod(out, 0x0002, chunkNames[i], copyDesc, codeName, 6, LOCAL_EXCEPTION + 1, chunks.get(i),
+					chunkExceptionTables.get(i));
+		}
+		out.putShort(0); // class attributes
+		return out.toByteArray();
+	}
+
+	/**
+	 * This method writes the code copying the properties from start (inclusive)
+	 * to end (exclusive) index, taking (Object to, Object from) as arguments.
+	 */
+	private static ByteVector writeCopyCode(ConstantPool pool, Class<?> toClass, Class<?> fromClass,
+			PropertyMapping[] mappings, int start, int end, boolean strictCopy,
+			ClassMappings excludeClassesMap, List<int[]> exceptionTable) {
+		ByteVector code = new ByteVector();
+		int exceptionClass = pool.classRef("java/lang/Exception");
+		String fromName = internalName(fromClass);
+		String toName = internalName(toClass);
+		code.putByte(0x2C); // aload_2
+		code.putByte(0xC0).putShort(pool.classRef(fromName)); // checkcast
+		code.putByte(0x3A).putByte(LOCAL_TYPED_FROM); // astore
+		code.putByte(0x2B); // aload_1
+		code.putByte(0xC0).putShort(pool.classRef(toName)); // checkcast
+		code.putByte(0x3A).putByte(LOCAL_TYPED_TO); // astore
+		for (int i = start; i < end; i++) {
+			PropertyMapping mapping = mappings[i];
+			if (!isDirect(mapping, excludeClassesMap)) {
+				code.putByte(0x2A); // aload_0
+				pushInt(code, i);
+				code.putByte(0x2B).putByte(0x2C); // aload_1, aload_2
+				code.putByte(0xB6).putShort(pool.methodRef(SUPER_NAME, "copyProperty", COPY_PROPERTY_DESC));
+				continue;
+			}
+			Method fromMethod = mapping.getFromMethod();
+			Method toMethod = mapping.getToMethod();
+			Class<?> type = mapping.getParameterType();
+			List<Integer> jumpsToNext = new ArrayList<Integer>();
+
+			int getStart = code.length();
+			code.putByte(0x19).putByte(LOCAL_TYPED_FROM); // aload
+			code.putByte(0xB6).putShort(pool.methodRef(fromName, fromMethod.getName(), descriptor(fromMethod)));
+			int getEnd = code.length();
+			code.putByte(storeOpcode(type)).putByte(LOCAL_VALUE);
+			if (!type.isPrimitive() && !strictCopy) {
+				code.putByte(0x19).putByte(LOCAL_VALUE); // aload
+				jumpsToNext.add(code.length());
+				code.putByte(0xC6).putShort(0); // ifnull
+			}
+			int tryStart = code.length();
+			code.putByte(0x19).putByte(LOCAL_TYPED_TO); // aload
+			code.putByte(loadOpcode(type)).putByte(LOCAL_VALUE);
+			code.putByte(0xB6).putShort(pool.methodRef(toName, toMethod.getName(), descriptor(toMethod)));
+			popResult(code, toMethod.getReturnType());
+			int tryEnd = code.length();
+			jumpsToNext.add(code.length());
+			code.putByte(0xA7).putShort(0); // goto
+
+			// throw getterFailed(i, e), as the getter fails the same way without generated copier
+			int getHandler = code.length();
+			code.putByte(0x3A).putByte(LOCAL_EXCEPTION); // astore
+			code.putByte(0x2A); // aload_0
+			pushInt(code, i);
+			code.putByte(0x19).putByte(LOCAL_EXCEPTION); // aload
+			code.putByte(0xB6).putShort(pool.methodRef(SUPER_NAME, "getterFailed", GETTER_FAILED_DESC));
+			code.putByte(0xBF); // athrow
+			exceptionTable.add(new int[] { getStart, getEnd, getHandler, exceptionClass });
+
+			int handler = code.length();
+			code.putByte(0x3A).putByte(LOCAL_EXCEPTION); // astore
+			code.putByte(0x2A); // aload_0
+			pushInt(code, i);
+			code.putByte(0x2B); // aload_1
+			code.putByte(loadOpcode(type)).putByte(LOCAL_VALUE);
+			if (type.isPrimitive()) {
+				Class<?> wrapper = Accessors.wrap(type);
+				code.putByte(0xB8).putShort(pool.methodRef(internalName(wrapper), "valueOf",
+						"(" + typeDescriptor(type) + ")" + typeDescriptor(wrapper))); // invokestatic
+			}
+			code.putByte(0x19).putByte(LOCAL_EXCEPTION); // aload
+			code.putByte(0xB6).putShort(pool.methodRef(SUPER_NAME, "setValueFailed", SET_VALUE_FAILED_DESC));
+			exceptionTable.add(new int[] { tryStart, tryEnd, handler, exceptionClass });
+
+			for (Integer jump : jumpsToNext) {
+				code.putShort(jump + 1, code.length() - jump);
+			}
+		}
+		code.putByte(0xB1); // return
+		return code;
+	}
+
+	private static void writeMethod(ByteVector out, int access, int name, int desc, int codeName, int maxStack,
+			int maxLocals, ByteVector code, List<int[]> exceptionTable) {
+		out.putShort(access).putShort(name).putShort(desc);
+		out.putShort(1); // attributes
+		out.putShort(codeName);
+		out.putInt(12 + code.length() + 8 * exceptionTable.size());
+		out.putShort(maxStack).putShort(maxLocals);
+		out.putInt(code.length());
+		out.putBytes(code.toByteArray());
+		out.putShort(exceptionTable.size());
+		for (int[] entry : exceptionTable) {
+			out.putShort(entry[0]).putShort(entry[1]).putShort(entry[2]).putShort(entry[3]);
+		}
+		out.putShort(0); // code attributes
+	}
+
+	private static void pushInt(ByteVector code, int value) {
+		if (value <= 5) {
+			code.putByte(0x03 + value); // iconst_n
+		} else if (value <= Byte.MAX_VALUE) {
+			code.putByte(0x10).putByte(value); // bipush
+		} else {
+			code.putByte(0x11).putShort(value); // sipush
+		}
+	}
+
+	private static void popResult(ByteVector code, Class<?> returnType) {
+		if (returnType == void.class)
+			return;
+		if (returnType == long.class || returnType == double.class)
+			code.putByte(0x58); // pop2
+		else
+			code.putByte(0x57); // pop
+	}
+
+	private static int loadOpcode(Class<?> type) {
+		if (!type.isPrimitive())
+			return 0x19; // aload
+		if (type == long.class)
+			return 0x16; // lload
+		if (type == float.class)
+			return 0x17; // fload
+		if (type == double.class)
+			return 0x18; // dload
+		return 0x15; // iload
+	}
+
+	private static int storeOpcode(Class<?> type) {
+		return loadOpcode(type) + 0x21;
+	}
+
+	private static String descriptor(Method method) {
+		StringBuilder builder = new StringBuilder("(");
+		for (Class<?> parameterType : method.getParameterTypes()) {
+			builder.append(typeDescriptor(parameterType));
+		}
+		return builder.append(')').append(typeDescriptor(method.getReturnType())).toString();
+	}
+
+	private static String typeDescriptor(Class<?> type) {
+		if (type == void.class)
+			return "V";
+		if (type == int.class)
+			return "I";
+		if (type == long.class)
+			return "J";
+		if (type == boolean.class)
+			return "Z";
+		if (type == double.class)
+			return "D";
+		if (type == float.class)
+			return "F";
+		if (type == short.class)
+			return "S";
+		if (type == byte.class)
+			return "B";
+		if (type == char.class)
+			return "C";
+		if (type.isArray())
+			return internalName(type);
+		return "L" + internalName(type) + ";";
+	}
+
+	private static String internalName(Class<?> type) {
+		return internalName(type.getName());
+	}
+
+	private static String internalName(String className) {
+		return className.replace('.', '/');
+	}
+
+	private static String simpleName(Class<?> type) {
+		String name = type.getSimpleName();
+		return name.length() == 0 ? "Bean" : name;
+	}
+
+	/**
+	 * Growable byte array written in the big endian order of class files.
+	 */
+	private static final class ByteVector {
+
+		private byte[] data = new byte[256];
+		private int length;
+
+		int length() {
+			return length;
+		}
+
+		ByteVector putByte(int value) {
+			ensure(1);
+			data[length++] = (byte) value;
+			return this;
+		}
+
+		ByteVector putShort(int value) {
+			ensure(2);
+			data[length++] = (byte) (value >>> 8);
+			data[length++] = (byte) value;
+			return this;
+		}
+
+		void putShort(int offset, int value) {
+			data[offset] = (byte) (value >>> 8);
+			data[offset + 1] = (byte) value;
+		}
+
+		ByteVector putInt(int value) {
+			return putShort(value >>> 16).putShort(value & 0xFFFF);
+		}
+
+		ByteVector putBytes(byte[] bytes) {
+			ensure(bytes.length);
+			System.arraycopy(bytes, 0, data, length, bytes.length);
+			length += bytes.length;
+			return this;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(data, length);
+		}
+
+		private void ensure(int size) {
+			if (length + size > data.length) {
+				data = Arrays.copyOf(data, Math.max(data.length * 2, length + size));
+			}
+		}
+	}
+
+	/**
+	 * Constant pool of the generated class, each constant is added only once.
+	 */
+	private static final class ConstantPool {
+
+		private final ByteVector data = new ByteVector();
+		private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+		private int count = 1;
+
+		int utf8(String value) {
+			Integer index = indexes.get("U" + value);
+			if (index == null) {
+				data.putByte(1);
+				byte[] bytes = modifiedUtf8(value);
+				data.putShort(bytes.length).putBytes(bytes);
+				index = add("U" + value);
+			}
+			return index;
+		}
+
+		int classRef(String internalName) {
+			Integer index = indexes.get("C" + internalName);
+			if (index == null) {
+				int name = utf8(internalName);
+				data.putByte(7).putShort(name);
+				index = add("C" + internalName);
+			}
+			return index;
+		}
+
+		int methodRef(String owner, String name, String descriptor) {
+			String key = "M" + owner + "." + name + descriptor;
+			Integer index = indexes.get(key);
+			if (index == null) {
+				int ownerIndex = classRef(owner);
+				int nameIndex = utf8(name);
+				int descriptorIndex = utf8(descriptor);
+				Integer nameAndType = indexes.get("N" + name + descriptor);
+				if (nameAndType == null) {
+					data.putByte(12).putShort(nameIndex).putShort(descriptorIndex);
+					nameAndType = add("N" + name + descriptor);
+				}
+				data.putByte(10).putShort(ownerIndex).putShort(nameAndType);
+				index = add(key);
+			}
+			return index;
+		}
+
+		void writeTo(ByteVector out) {
+			out.putShort(count);
+			out.putBytes(data.toByteArray());
+		}
+
+		private int add(String key) {
+			int index = count++;
+			indexes.put(key, index);
+			return index;
+		}
+
+		private static byte[] modifiedUtf8(String value) {
+			ByteVector bytes = new ByteVector();
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				if (c >= 0x0001 && c <= 0x007F) {
+					bytes.putByte(c);
+				} else if (c <= 0x07FF) {
+					bytes.putByte(0xC0 | (c >> 6)).putByte(0x80 | (c & 0x3F));
+				} else {
+					bytes.putByte(0xE0 | (c >> 12)).putByte(0x80 | ((c >> 6) & 0x3F)).putByte(0x80 | (c & 0x3F));
+				}
+			}
+			return bytes.toByteArray();
+		}
+	}
+
+	/**
+	 * Class loader of one generated copier. Class names used by the copier are
+	 * resolved through the loaders of the bean classes, so beans loaded by child
+	 * class loaders are linked to the same classes.
+	 */
+	private static final class CopierClassLoader extends ClassLoader {
+
+		private final Class<?> toClass;
+		private final Class<?> fromClass;
+
+		CopierClassLoader(Class<?> toClass, Class<?> fromClass) {
+			super(GeneratedCopier.class.getClassLoader());
+			this.toClass = toClass;
+			this.fromClass = fromClass;
+		}
+
+		Class<?> define(String name, byte[] bytes) {
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (name.equals(toClass.getName()))
+				return toClass;
+			if (name.equals(fromClass.getName()))
+				return fromClass;
+			if (name.equals(GeneratedCopier.class.getName()))
+				return GeneratedCopier.class;
+			for (ClassLoader loader : new ClassLoader[] { toClass.getClassLoader(), fromClass.getClassLoader() }) {
+				if (loader != null && loader != getParent()) {
+					try {
+						return Class.forName(name, false, loader);
+					} catch (ClassNotFoundException e) {
+						// try next loader
+					}
+				}
+			}
+			return super.loadClass(name, resolve);
+		}
+	}
+}
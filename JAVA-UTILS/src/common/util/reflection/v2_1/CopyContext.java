@@ -0,0 +1,330 @@
+package common.util.reflection.v2_1;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * This class keeps the destination bean of every origin bean copied during one
+ * deep copy, so each origin bean is copied only once and shared references and
+ * cycles of origin graph are rebuilt in destination graph. The context of
+ * running deep copy is bound to the current thread.
+ * <p>
+ * Destination beans nested up to {@link #MAX_DEPTH} levels are populated at
+ * once, like a recursive copy would do, and deeper ones from a work queue, so
+ * the depth of origin graph does not use more stack. Work which needs populated
+ * beans, like adding them to a hashed {@link java.util.Set}, is deferred until
+ * the queue is empty and is run in reverse order, innermost first.
+ * <p>
+ * Copies are kept in an open addressing table by identity, like
+ * {@link java.util.IdentityHashMap}, and {@link #put(Object, Object)} stores
+ * into the slot found by the {@link #get(Object, Class)} of same origin bean, so
+ * each copied bean is looked up once. A thread keeps the context of its last
+ * deep copy, emptied, when its table is not larger than
+ * {@link #MAX_RETAINED_CAPACITY}, so the table is not grown again by each deep
+ * copy.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class CopyContext {
+
+	private static final ThreadLocal<CopyContext> CURRENT = new ThreadLocal<CopyContext>();
+	/**
+	 * Emptied context of the last deep copy of the thread, see {@link #clear()}.
+	 */
+	private static final ThreadLocal<CopyContext> SPARE = new ThreadLocal<CopyContext>();
+
+	/**
+	 * Initial number of slots of the table, a power of two.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * Largest number of slots of a table kept for next deep copy of the thread.
+	 */
+	private static final int MAX_RETAINED_CAPACITY = 1 << 15;
+
+	/**
+	 * Number of nested destination beans populated at once, before deeper ones
+	 * are added to the work queue.
+	 */
+	private static final int MAX_DEPTH = 32;
+
+	/**
+	 * Origin beans at even indexes, each followed by its destination bean.
+	 */
+	private Object[] copies = new Object[INITIAL_CAPACITY * 2];
+	private int size;
+
+	/**
+	 * Shift taking the top bits of a Fibonacci hash as index of a slot.
+	 */
+	private int shift = 32 - Integer.numberOfTrailingZeros(INITIAL_CAPACITY);
+
+	/**
+	 * Origin bean of last {@link #get(Object, Class)} and the index it was found
+	 * at, or would be put at.
+	 */
+	private Object lastFrom;
+	private int lastIndex;
+	/**
+	 * Work queue of beans to populate, as populator, destination bean and origin
+	 * bean triples, so scheduling a bean allocates nothing.
+	 */
+	private Object[] pending = new Object[48];
+	private int pendingSize;
+	private int depth;
+	private final ArrayDeque<Task> deferred = new ArrayDeque<Task>();
+
+	private CopyContext() {
+	}
+
+	/**
+	 * @return context of the deep copy running in current thread, or null
+	 */
+	static CopyContext current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * This method starts a new deep copy in current thread, with the context
+	 * kept from its last deep copy if there is one.
+	 *
+	 * @return context which was bound to current thread before, to be passed to
+	 *         {@link #exit(CopyContext)}
+	 */
+	static CopyContext enter() {
+		CopyContext previous = CURRENT.get();
+		CopyContext context = SPARE.get();
+		if (context == null) {
+			context = new CopyContext();
+		} else {
+			SPARE.set(null);
+		}
+		CURRENT.set(context);
+		return previous;
+	}
+
+	/**
+	 * This method ends the deep copy running in current thread.
+	 *
+	 * @param previous
+	 *            context returned by {@link #enter()}
+	 */
+	static void exit(CopyContext previous) {
+		CopyContext context = CURRENT.get();
+		if (context != null && context.clear()) {
+			SPARE.set(context);
+		}
+		if (previous == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(previous);
+		}
+	}
+
+	/**
+	 * This method empties the context of a finished deep copy, so it can be
+	 * used by next deep copy of the thread. A table much larger than the last
+	 * copy needed is replaced by a smaller one.
+	 *
+	 * @return true if the context is empty, false if the deep copy failed with
+	 *         queued work or the table is too large to be kept
+	 */
+	private boolean clear() {
+		int capacity = copies.length / 2;
+		if (pendingSize > 0 || !deferred.isEmpty() || capacity > MAX_RETAINED_CAPACITY) {
+			return false;
+		}
+		if (capacity > INITIAL_CAPACITY && size * 8 < capacity) {
+			capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(size) * 4);
+			copies = new Object[capacity * 2];
+			shift = 32 - Integer.numberOfTrailingZeros(capacity);
+		} else {
+			Arrays.fill(copies, null);
+		}
+		size = 0;
+		lastFrom = null;
+		return true;
+	}
+
+	/**
+	 * @param from
+	 *            origin bean
+	 * @param toClass
+	 *            required destination class
+	 * @return destination bean already created for given origin bean if it is
+	 *         an instance of given class, else null
+	 */
+	Object get(Object from, Class<?> toClass) {
+		int index = indexOf(from);
+		lastFrom = from;
+		lastIndex = index;
+		Object to = copies[index + 1];
+		return toClass.isInstance(to) ? to : null;
+	}
+
+	/**
+	 * This method registers the destination bean of given origin bean. It has to
+	 * be called before the destination bean is populated, so cycles back to the
+	 * origin bean resolve to it.
+	 *
+	 * @param from
+	 *            origin bean
+	 * @param to
+	 *            destination bean
+	 */
+	void put(Object from, Object to) {
+		int index = from == lastFrom ? lastIndex : indexOf(from);
+		lastFrom = null;
+		Object[] table = copies;
+		if (table[index] == null) {
+			table[index] = from;
+			if (++size * 4 > table.length) {
+				table[index + 1] = to;
+				resize();
+				return;
+			}
+		}
+		table[index + 1] = to;
+	}
+
+	/**
+	 * @return index of given origin bean in the table, or of the empty slot
+	 *         where it has to be put
+	 */
+	private int indexOf(Object from) {
+		Object[] table = copies;
+		int mask = table.length - 1;
+		int index = (System.identityHashCode(from) * 0x9E3779B9 >>> shift) << 1;
+		while (true) {
+			Object key = table[index];
+			if (key == from || key == null) {
+				return index;
+			}
+			index = (index + 2) & mask;
+		}
+	}
+
+	/**
+	 * This method doubles the table, which is filled up to half of its slots.
+	 */
+	private void resize() {
+		Object[] old = copies;
+		copies = new Object[old.length * 2];
+		shift--;
+		for (int i = 0; i < old.length; i += 2) {
+			Object from = old[i];
+			if (from != null) {
+				int index = indexOf(from);
+				copies[index] = from;
+				copies[index + 1] = old[i + 1];
+			}
+		}
+	}
+
+	/**
+	 * This method populates the destination bean at once, or adds it to the work
+	 * queue when {@link #MAX_DEPTH} beans are already being populated.
+	 *
+	 * @param populator
+	 *            populator copying the origin bean into the destination bean
+	 * @param to
+	 *            destination bean
+	 * @param from
+	 *            origin bean
+	 */
+	void populate(Populator populator, Object to, Object from) {
+		if (depth == MAX_DEPTH) {
+			schedule(populator, to, from);
+			return;
+		}
+		depth++;
+		try {
+			populator.populate(to, from);
+		} finally {
+			depth--;
+		}
+	}
+
+	/**
+	 * This method adds the destination bean to the work queue.
+	 *
+	 * @param populator
+	 *            populator copying the origin bean into the destination bean
+	 * @param to
+	 *            destination bean
+	 * @param from
+	 *            origin bean
+	 */
+	private void schedule(Populator populator, Object to, Object from) {
+		Object[] queue = pending;
+		int size = pendingSize;
+		if (size == queue.length) {
+			queue = Arrays.copyOf(queue, size * 2);
+			pending = queue;
+		}
+		queue[size] = populator;
+		queue[size + 1] = to;
+		queue[size + 2] = from;
+		pendingSize = size + 3;
+	}
+
+	/**
+	 * This method adds the task which has to run after all scheduled beans are
+	 * populated.
+	 *
+	 * @param task
+	 *            task needing populated destination beans
+	 */
+	void defer(Task task) {
+		deferred.addLast(task);
+	}
+
+	/**
+	 * This method populates the scheduled beans, including beans scheduled while
+	 * populating, and then runs the deferred tasks. Both are taken last added
+	 * first, so the graph is populated depth first like a recursive copy would
+	 * do.
+	 */
+	void drain() {
+		while (true) {
+			if (pendingSize > 0) {
+				Object[] queue = pending;
+				int size = pendingSize - 3;
+				Populator populator = (Populator) queue[size];
+				Object to = queue[size + 1];
+				Object from = queue[size + 2];
+				queue[size] = null;
+				queue[size + 1] = null;
+				queue[size + 2] = null;
+				pendingSize = size;
+				populator.populate(to, from);
+			} else {
+				Task task = deferred.pollLast();
+				if (task == null) {
+					return;
+				}
+				task.run();
+			}
+		}
+	}
+
+	/**
+	 * This interface populates the destination beans of a deep copy.
+	 */
+	interface Populator {
+
+		void populate(Object to, Object from);
+	}
+
+	/**
+	 * This interface is one unit of work deferred until all beans of a deep copy
+	 * are populated.
+	 */
+	interface Task {
+
+		void run();
+	}
+}
@@ -0,0 +1,249 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class holds the getter to setter pairs resolved for one (from class, to
+ * class, strictCopy, excludeClassesMap, accessor backend) combination. It is
+ * created once by {@link #of(Class, Class, boolean, ClassMappings, AccessorBackend)}
+ * and reused for every later copy of the same pair so the classes are not
+ * introspected again.
+ * <p>
+ * Plans are cached in a {@link ClassValue} of destination class, so they are
+ * held by the destination class itself and dropped together with its class
+ * loader instead of pinning it from a static map.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class CopyPlan {
+
+	/** copy plans per destination class, replaced when they have to be rebuilt */
+	private static volatile ClassValue<ConcurrentMap<Key, CopyPlan>> cache = newCache();
+
+	private final Class<?> toClass;
+	private final Class<?> fromClass;
+	private final boolean strictCopy;
+	private final ClassMappings excludeClassesMap;
+	private final PropertyMapping[] mappings;
+	private final GeneratedCopier copier;
+	private final AccessorBackend backend;
+	/** getters of destination class per mapping, resolved on first diff */
+	private volatile PropertyGetter[] toGetters;
+
+	private CopyPlan(Class<?> toClass, Class<?> fromClass, boolean strictCopy,
+			ClassMappings excludeClassesMap, PropertyMapping[] mappings, GeneratedCopier copier,
+			AccessorBackend backend) {
+		this.toClass = toClass;
+		this.fromClass = fromClass;
+		this.strictCopy = strictCopy;
+		this.excludeClassesMap = excludeClassesMap;
+		this.mappings = mappings;
+		this.copier = copier;
+		this.backend = backend;
+	}
+
+	/**
+	 * This method returns the cached copy plan of given classes, creating it on
+	 * first use.
+	 *
+	 * @param toClass
+	 *            destination class
+	 * @param fromClass
+	 *            origin class
+	 * @param strictCopy
+	 *            strict copy flag of the plan
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @param backend
+	 *            {@link AccessorBackend} used to call the getters and setters
+	 * @return {@link CopyPlan} with resolved getter and setter pairs
+	 */
+	static CopyPlan of(Class<?> toClass, Class<?> fromClass, boolean strictCopy, ClassMappings excludeClassesMap,
+			AccessorBackend backend) {
+		ConcurrentMap<Key, CopyPlan> plans = cache.get(toClass);
+		Key key = new Key(toClass, fromClass, strictCopy, excludeClassesMap, backend);
+		CopyPlan plan = plans.get(key);
+		if (plan == null) {
+			plan = create(toClass, fromClass, strictCopy, excludeClassesMap, backend);
+			CopyPlan existing = plans.putIfAbsent(key, plan);
+			if (existing != null) {
+				plan = existing;
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * This method drops all cached copy plans, so they are resolved again on
+	 * next use. It is called when a converter is registered, as converters are
+	 * chosen when a plan is created.
+	 */
+	static void clearCache() {
+		cache = newCache();
+	}
+
+	private static ClassValue<ConcurrentMap<Key, CopyPlan>> newCache() {
+		return new ClassValue<ConcurrentMap<Key, CopyPlan>>() {
+			@Override
+			protected ConcurrentMap<Key, CopyPlan> computeValue(Class<?> type) {
+				return new ConcurrentHashMap<Key, CopyPlan>();
+			}
+		};
+	}
+
+	/**
+	 * This method resolves the getter and setter pairs of given classes. Getters
+	 * are taken in the order of their names and each one is matched to a setter
+	 * having same property name, looked up in the {@link BeanProperties} index of
+	 * destination class and chosen by
+	 * {@link BeanProperties#chooseSetter(Method[], java.util.Collection, Class)}.
+	 * A setter is matched to one getter only.
+	 *
+	 * @param toClass
+	 *            destination class
+	 * @param fromClass
+	 *            origin class
+	 * @param strictCopy
+	 *            strict copy flag of the plan
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @param backend
+	 *            {@link AccessorBackend} used to call the getters and setters
+	 * @return resolved copy plan
+	 */
+	static CopyPlan create(Class<?> toClass, Class<?> fromClass, boolean strictCopy,
+			ClassMappings excludeClassesMap, AccessorBackend backend) {
+		BeanProperties fromProperties = BeanProperties.of(fromClass);
+		BeanProperties toProperties = BeanProperties.of(toClass);
+		List<PropertyMapping> mappings = new ArrayList<PropertyMapping>(fromProperties.getterCount());
+		Set<Method> usedSetters = new HashSet<Method>();
+		for (int i = 0; i < fromProperties.getterCount(); i++) {
+			Method[] setters = toProperties.getSetters(fromProperties.getGetterName(i));
+			if (setters == null) {
+				continue;
+			}
+			Method getter = fromProperties.getGetter(i);
+			Method setter = BeanProperties.chooseSetter(setters, usedSetters, getter.getReturnType());
+			if (setter != null) {
+				mappings.add(new PropertyMapping(fromClass, getter, toClass, setter, backend));
+				usedSetters.add(setter);
+			}
+		}
+		PropertyMapping[] mappingsArray = mappings.toArray(new PropertyMapping[mappings.size()]);
+		GeneratedCopier copier = null;
+		if (backend == AccessorBackend.BYTECODE) {
+			copier = CopierGenerator.generate(toClass, fromClass, mappingsArray, strictCopy, excludeClassesMap);
+		}
+		return new CopyPlan(toClass, fromClass, strictCopy, excludeClassesMap, mappingsArray, copier, backend);
+	}
+
+	Class<?> getToClass() {
+		return toClass;
+	}
+
+	Class<?> getFromClass() {
+		return fromClass;
+	}
+
+	boolean isStrictCopy() {
+		return strictCopy;
+	}
+
+	ClassMappings getExcludeClassesMap() {
+		return excludeClassesMap;
+	}
+
+	PropertyMapping[] getMappings() {
+		return mappings;
+	}
+
+	/**
+	 * @return generated copier of this plan, null if
+	 *         {@link AccessorBackend#BYTECODE} is not used or the copier could
+	 *         not be generated
+	 */
+	GeneratedCopier getCopier() {
+		return copier;
+	}
+
+	/**
+	 * This method returns the getters of destination class reading the current
+	 * value of every mapped property, in the order of {@link #getMappings()}.
+	 * They are only needed to compare beans, so they are resolved on first use.
+	 *
+	 * @return getters of destination class, null where the property has no
+	 *         getter
+	 */
+	PropertyGetter[] getToGetters() {
+		PropertyGetter[] getters = toGetters;
+		if (getters == null) {
+			BeanProperties toProperties = BeanProperties.of(toClass);
+			getters = new PropertyGetter[mappings.length];
+			for (int i = 0; i < mappings.length; i++) {
+				Method getter = toProperties.getGetter(mappings[i].getToMethod().getName().substring(3));
+				if (getter != null) {
+					getters[i] = Accessors.getter(getter, backend);
+				}
+			}
+			toGetters = getters;
+		}
+		return getters;
+	}
+
+	/**
+	 * Cache key of a copy plan. The class mappings are compared by identity
+	 * first, which is the usual hit as {@link ClassMappings#of(java.util.Map)}
+	 * returns the same registry for the same map, and then by their content, so
+	 * callers building new mappings for every call still hit the cache.
+	 */
+	static final class Key {
+
+		private final Class<?> toClass;
+		private final Class<?> fromClass;
+		private final boolean strictCopy;
+		private final ClassMappings excludeClassesMap;
+		private final AccessorBackend backend;
+		private final int hash;
+
+		Key(Class<?> toClass, Class<?> fromClass, boolean strictCopy, ClassMappings excludeClassesMap,
+				AccessorBackend backend) {
+			this.toClass = toClass;
+			this.fromClass = fromClass;
+			this.strictCopy = strictCopy;
+			this.excludeClassesMap = excludeClassesMap;
+			this.backend = backend;
+			int h = 31 * toClass.hashCode() + fromClass.hashCode();
+			h = 31 * h + (strictCopy ? 1 : 0);
+			h = 31 * h + backend.hashCode();
+			this.hash = 31 * h + (excludeClassesMap == null ? 0 : excludeClassesMap.hashCode());
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			if (hash != other.hash || toClass != other.toClass || fromClass != other.fromClass
+					|| strictCopy != other.strictCopy || backend != other.backend)
+				return false;
+			if (excludeClassesMap == other.excludeClassesMap)
+				return true;
+			return excludeClassesMap != null && excludeClassesMap.equals(other.excludeClassesMap);
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package common.util.reflection.v2_1;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import common.util.reflection.v2_1.FieldProperties.FieldAccessor;
+
+/**
+ * This class holds the resolved field pairs of an origin class and a
+ * destination class, matched by field name. A pair is copied when the value of
+ * origin field can be stored in destination field: same or widened primitive,
+ * assignable reference, boxing, and unboxing followed by widening, eg.
+ * <code>Integer</code> into <code>long</code>. Final destination fields are not
+ * copied. Values are stored as they are, nested beans are not copied.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class FieldCopyPlan {
+
+	private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, FieldCopyPlan>> CACHE =
+			new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, FieldCopyPlan>>();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/** (to, from)void handles moving primitive values without boxing */
+	private final MethodHandle[] transfers;
+	/** (from)Object handles reading reference values */
+	private final MethodHandle[] getters;
+	/** (to, value)void handles writing reference values */
+	private final MethodHandle[] setters;
+	/** true where a reference value is unboxed into a primitive field */
+	private final boolean[] unboxing;
+
+	private FieldCopyPlan(Class<?> toClass, Class<?> fromClass) {
+		FieldProperties fromFields = FieldProperties.of(fromClass);
+		FieldProperties toFields = FieldProperties.of(toClass);
+		List<MethodHandle> transferList = new ArrayList<MethodHandle>();
+		List<MethodHandle> getterList = new ArrayList<MethodHandle>();
+		List<MethodHandle> setterList = new ArrayList<MethodHandle>();
+		List<Boolean> unboxingList = new ArrayList<Boolean>();
+		for (int i = 0; i < fromFields.size(); i++) {
+			FieldAccessor from = fromFields.get(i);
+			FieldAccessor to = toFields.get(from.getField().getName());
+			if (to == null || to.getSetter() == null) {
+				continue;
+			}
+			Class<?> fromType = from.getType();
+			Class<?> toType = to.getType();
+			try {
+				if (fromType.isPrimitive() && toType.isPrimitive()) {
+					MethodHandle setter = to.getSetter()
+							.asType(MethodType.methodType(void.class, Object.class, fromType));
+					MethodHandle getter = from.getGetter().asType(MethodType.methodType(fromType, Object.class));
+					transferList.add(MethodHandles.filterArguments(setter, 1, getter));
+				} else if (toType.isAssignableFrom(Accessors.wrap(fromType))) {
+					getterList.add(from.getGetter().asType(GETTER_TYPE));
+					setterList.add(to.getSetter().asType(SETTER_TYPE));
+					unboxingList.add(Boolean.FALSE);
+				} else if (toType.isPrimitive() && Accessors.unwrap(fromType).isPrimitive()) {
+					// unboxed and widened when needed, eg. Integer into long
+					MethodHandle setter = to.getSetter()
+							.asType(MethodType.methodType(void.class, Object.class, fromType));
+					getterList.add(from.getGetter().asType(GETTER_TYPE));
+					setterList.add(setter.asType(SETTER_TYPE));
+					unboxingList.add(Boolean.TRUE);
+				}
+			} catch (WrongMethodTypeException e) {
+				// primitive types which can not be widened, field is not copied
+			}
+		}
+		this.transfers = transferList.toArray(new MethodHandle[transferList.size()]);
+		this.getters = getterList.toArray(new MethodHandle[getterList.size()]);
+		this.setters = setterList.toArray(new MethodHandle[setterList.size()]);
+		this.unboxing = new boolean[unboxingList.size()];
+		for (int i = 0; i < unboxing.length; i++) {
+			unboxing[i] = unboxingList.get(i).booleanValue();
+		}
+	}
+
+	/**
+	 * This method returns the cached field plan of given classes, creating it on
+	 * first use.
+	 *
+	 * @param toClass
+	 *            destination class
+	 * @param fromClass
+	 *            origin class
+	 * @return {@link FieldCopyPlan} of the classes
+	 */
+	static FieldCopyPlan of(Class<?> toClass, Class<?> fromClass) {
+		ConcurrentMap<Class<?>, FieldCopyPlan> plans = CACHE.get(toClass);
+		if (plans == null) {
+			plans = new ConcurrentHashMap<Class<?>, FieldCopyPlan>();
+			ConcurrentMap<Class<?>, FieldCopyPlan> existing = CACHE.putIfAbsent(toClass, plans);
+			if (existing != null) {
+				plans = existing;
+			}
+		}
+		FieldCopyPlan plan = plans.get(fromClass);
+		if (plan == null) {
+			plan = new FieldCopyPlan(toClass, fromClass);
+			FieldCopyPlan existing = plans.putIfAbsent(fromClass, plan);
+			if (existing != null) {
+				plan = existing;
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * This method copies the matched fields from origin bean to destination bean.
+	 *
+	 * @param to
+	 *            destination bean
+	 * @param from
+	 *            origin bean
+	 * @param strictCopy
+	 *            if true then null values are also copied, except into primitive
+	 *            fields
+	 * @throws Exception
+	 *             If a field can not be read or written
+	 */
+	void copy(Object to, Object from, boolean strictCopy) throws Exception {
+		try {
+			for (int i = 0; i < transfers.length; i++) {
+				transfers[i].invokeExact(to, from);
+			}
+			for (int i = 0; i < getters.length; i++) {
+				Object value = getters[i].invokeExact(from);
+				if (value != null || (strictCopy && !unboxing[i])) {
+					setters[i].invokeExact(to, value);
+				}
+			}
+		} catch (Throwable t) {
+			throw Accessors.rethrow(t);
+		}
+	}
+}
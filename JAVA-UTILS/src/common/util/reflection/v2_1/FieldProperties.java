@@ -0,0 +1,179 @@
+package common.util.reflection.v2_1;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.log4j.Logger;
+
+/**
+ * This class indexes the instance fields of one class and its super classes by
+ * field name, together with the method handles reading and writing them. A
+ * field hides the fields of same name declared in super classes. It is created
+ * once per class.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class FieldProperties {
+
+	private static final Logger LOGGER = Logger.getLogger(FieldProperties.class);
+
+	private static final ConcurrentMap<Class<?>, FieldProperties> CACHE =
+			new ConcurrentHashMap<Class<?>, FieldProperties>();
+
+	private final FieldAccessor[] accessors;
+	private final Map<String, FieldAccessor> byName;
+
+	private FieldProperties(Class<?> clazz) {
+		List<FieldAccessor> list = new ArrayList<FieldAccessor>();
+		Map<String, FieldAccessor> map = new HashMap<String, FieldAccessor>();
+		for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()
+						|| map.containsKey(field.getName())) {
+					continue;
+				}
+				FieldAccessor accessor = FieldAccessor.of(field);
+				if (accessor != null) {
+					list.add(accessor);
+					map.put(field.getName(), accessor);
+				}
+			}
+		}
+		this.accessors = list.toArray(new FieldAccessor[list.size()]);
+		this.byName = map;
+	}
+
+	/**
+	 * This method returns the cached fields of given class.
+	 *
+	 * @param clazz
+	 *            class to index
+	 * @return {@link FieldProperties} of the class
+	 */
+	static FieldProperties of(Class<?> clazz) {
+		FieldProperties properties = CACHE.get(clazz);
+		if (properties == null) {
+			properties = new FieldProperties(clazz);
+			FieldProperties existing = CACHE.putIfAbsent(clazz, properties);
+			if (existing != null) {
+				properties = existing;
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * @return number of fields, declared fields of the class first
+	 */
+	int size() {
+		return accessors.length;
+	}
+
+	/**
+	 * @return field accessor at given index
+	 */
+	FieldAccessor get(int index) {
+		return accessors[index];
+	}
+
+	/**
+	 * @return field accessor of given name, or null if there is no such field
+	 */
+	FieldAccessor get(String name) {
+		return byName.get(name);
+	}
+
+	/**
+	 * This class holds one field with the method handles reading and writing it.
+	 */
+	static final class FieldAccessor {
+
+		private final Field field;
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+
+		private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+			this.field = field;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		/**
+		 * @return accessor of given field, or null if the field can not be read
+		 */
+		static FieldAccessor of(Field field) {
+			try {
+				field.setAccessible(true);
+			} catch (RuntimeException e) {
+				LOGGER.debug("Field not accessible " + field + ". " + e);
+				return null;
+			}
+			try {
+				MethodHandle getter = Accessors.unreflectGetter(field);
+				MethodHandle setter = null;
+				if (!Modifier.isFinal(field.getModifiers())) {
+					setter = Accessors.unreflectSetter(field);
+				}
+				return new FieldAccessor(field, getter, setter);
+			} catch (IllegalAccessException e) {
+				LOGGER.debug("Method handle not available for " + field + ". " + e);
+				return null;
+			}
+		}
+
+		/**
+		 * This method reads the field value of given bean.
+		 *
+		 * @param bean
+		 *            bean to read value from
+		 * @return field value, primitive values are boxed
+		 * @throws Exception
+		 *             If bean is not an instance of declaring class
+		 */
+		Object get(Object bean) throws Exception {
+			try {
+				return getter.invoke(bean);
+			} catch (Throwable t) {
+				throw Accessors.rethrow(t);
+			}
+		}
+
+		/**
+		 * @return the field
+		 */
+		Field getField() {
+			return field;
+		}
+
+		/**
+		 * @return field type
+		 */
+		Class<?> getType() {
+			return field.getType();
+		}
+
+		/**
+		 * @return handle of type (declaring class)field type reading the field
+		 */
+		MethodHandle getGetter() {
+			return getter;
+		}
+
+		/**
+		 * @return handle of type (declaring class, field type)void writing the
+		 *         field, or null if the field is final
+		 */
+		MethodHandle getSetter() {
+			return setter;
+		}
+	}
+}
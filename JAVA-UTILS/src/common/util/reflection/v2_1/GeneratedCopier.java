@@ -0,0 +1,70 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Base class of the copier classes generated at runtime by
+ * {@link CopierGenerator} when {@link AccessorBackend#BYTECODE} is used. The
+ * generated subclass calls the getters and setters of one (from, to) class
+ * pair directly and hands the properties it can not copy with plain
+ * assignment back to {@link ReflectionUtil}.
+ * <p>
+ * This class is public only because the generated classes are defined in
+ * their own class loader. It is not meant to be extended by other code.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public abstract class GeneratedCopier {
+
+	private PropertyMapping[] mappings;
+	private boolean strictCopy;
+	private ClassMappings excludeClassesMap;
+
+	protected GeneratedCopier() {
+	}
+
+	void init(PropertyMapping[] mappings, boolean strictCopy, ClassMappings excludeClassesMap) {
+		this.mappings = mappings;
+		this.strictCopy = strictCopy;
+		this.excludeClassesMap = excludeClassesMap;
+	}
+
+	/**
+	 * This method copies all the properties of origin bean to destination bean.
+	 *
+	 * @param to
+	 *            destination bean
+	 * @param from
+	 *            origin bean
+	 * @throws Exception
+	 *             If any getter fails or null value can not be set
+	 */
+	protected abstract void copyProperties(Object to, Object from) throws Exception;
+
+	/**
+	 * This method copies the property at given index of the copy plan the same
+	 * way {@link ReflectionUtil} does without generated copier.
+	 */
+	protected final void copyProperty(int index, Object to, Object from) throws InvocationTargetException {
+		ReflectionUtil.copyProperty(mappings[index], to, from, strictCopy, excludeClassesMap);
+	}
+
+	/**
+	 * This method is called by the generated code when getter at given index of
+	 * the copy plan fails. The returned exception is thrown by the caller.
+	 */
+	protected final InvocationTargetException getterFailed(int index, Exception e) {
+		return ReflectionUtil.getterFailed(mappings[index], e);
+	}
+
+	/**
+	 * This method is called by the generated code when setter at given index of
+	 * the copy plan does not accept the value.
+	 */
+	protected final void setValueFailed(int index, Object to, Object value, Exception e)
+			throws InvocationTargetException {
+		ReflectionUtil.setValueFailed(value, mappings[index], to, e, excludeClassesMap);
+	}
+}
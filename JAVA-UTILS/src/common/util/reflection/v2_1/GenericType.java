@@ -0,0 +1,315 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class holds the resolved generic type of a getter return type or a
+ * setter parameter type. It is resolved once when the copy plan is built, so
+ * elements of nested collections, arrays and maps are mapped at copy time
+ * without reading generic types again.
+ * <p>
+ * Type variables are resolved against the bean class, eg.
+ * <code>List&lt;T&gt;</code> of <code>Page&lt;T&gt;</code> is
+ * <code>List&lt;User&gt;</code> in <code>UserPage extends Page&lt;User&gt;</code>.
+ * A type variable which can not be resolved is its first bound. A wildcard is
+ * its lower bound if it has one, else its upper bound. Raw collections and maps
+ * have {@link Object} elements. Elements are copied into the destination class
+ * of their declared type, see {@link #getDestination(GenericType, ClassMappings)}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class GenericType {
+
+	/**
+	 * Shape of a type.
+	 */
+	enum Kind {
+		/** any type not being one of the others */
+		VALUE,
+		/** {@link Collection} of elements */
+		COLLECTION,
+		/** {@link Map} of keys to values */
+		MAP,
+		/** array of components */
+		ARRAY
+	}
+
+	private static final GenericType OBJECT = new GenericType(Object.class, Kind.VALUE, null, null);
+
+	/** nesting of containers resolved at most, stops recursive bounds */
+	private static final int MAX_DEPTH = 32;
+
+	private final Class<?> rawType;
+	private final Kind kind;
+	private final GenericType elementType;
+	private final GenericType keyType;
+
+	private GenericType(Class<?> rawType, Kind kind, GenericType elementType, GenericType keyType) {
+		this.rawType = rawType;
+		this.kind = kind;
+		this.elementType = elementType;
+		this.keyType = keyType;
+	}
+
+	/**
+	 * @param getter
+	 *            getter method
+	 * @param beanClass
+	 *            class of the bean the getter is called on
+	 * @return resolved return type of the getter
+	 */
+	static GenericType ofReturnType(Method getter, Class<?> beanClass) {
+		return of(getter.getGenericReturnType(), beanClass);
+	}
+
+	/**
+	 * @param setter
+	 *            setter method
+	 * @param beanClass
+	 *            class of the bean the setter is called on
+	 * @return resolved type of first parameter of the setter
+	 */
+	static GenericType ofParameterType(Method setter, Class<?> beanClass) {
+		return of(setter.getGenericParameterTypes()[0], beanClass);
+	}
+
+	/**
+	 * This method resolves given type declared in given class or its super
+	 * classes.
+	 *
+	 * @param type
+	 *            declared type
+	 * @param beanClass
+	 *            class resolving the type variables
+	 * @return resolved type
+	 */
+	static GenericType of(Type type, Class<?> beanClass) {
+		if (type instanceof Class && kindOf((Class<?>) type) == Kind.VALUE) {
+			return new GenericType((Class<?>) type, Kind.VALUE, null, null);
+		}
+		Map<TypeVariable<?>, Type> bindings = new HashMap<TypeVariable<?>, Type>();
+		bind(beanClass, bindings, new HashSet<Class<?>>());
+		return resolve(type, bindings, new HashSet<TypeVariable<?>>(), 0);
+	}
+
+	private static Kind kindOf(Class<?> clazz) {
+		if (clazz.isArray()) {
+			return Kind.ARRAY;
+		} else if (Collection.class.isAssignableFrom(clazz)) {
+			return Kind.COLLECTION;
+		} else if (Map.class.isAssignableFrom(clazz)) {
+			return Kind.MAP;
+		}
+		return Kind.VALUE;
+	}
+
+	/**
+	 * This method collects the type arguments given to type variables of super
+	 * classes and interfaces of given type.
+	 */
+	private static void bind(Type type, Map<TypeVariable<?>, Type> bindings, Set<Class<?>> visited) {
+		Class<?> raw;
+		if (type instanceof ParameterizedType) {
+			ParameterizedType pType = (ParameterizedType) type;
+			raw = (Class<?>) pType.getRawType();
+			TypeVariable<?>[] variables = raw.getTypeParameters();
+			Type[] arguments = pType.getActualTypeArguments();
+			for (int i = 0; i < variables.length && i < arguments.length; i++) {
+				if (!bindings.containsKey(variables[i])) {
+					bindings.put(variables[i], arguments[i]);
+				}
+			}
+		} else if (type instanceof Class) {
+			raw = (Class<?>) type;
+		} else {
+			return;
+		}
+		if (!visited.add(raw)) {
+			return;
+		}
+		if (raw.getGenericSuperclass() != null) {
+			bind(raw.getGenericSuperclass(), bindings, visited);
+		}
+		for (Type face : raw.getGenericInterfaces()) {
+			bind(face, bindings, visited);
+		}
+	}
+
+	/**
+	 * This method resolves given type. Type variables being resolved in current
+	 * container are kept in <code>resolving</code> to stop on cyclic bindings.
+	 */
+	private static GenericType resolve(Type type, Map<TypeVariable<?>, Type> bindings,
+			Set<TypeVariable<?>> resolving, int depth) {
+		if (type instanceof Class) {
+			Class<?> clazz = (Class<?>) type;
+			if (clazz.isArray()) {
+				return array(resolve(clazz.getComponentType(), bindings, resolving, depth));
+			}
+			return container(clazz, clazz, bindings, depth);
+		} else if (type instanceof ParameterizedType) {
+			Class<?> raw = (Class<?>) ((ParameterizedType) type).getRawType();
+			return container(raw, type, bindings, depth);
+		} else if (type instanceof GenericArrayType) {
+			return array(resolve(((GenericArrayType) type).getGenericComponentType(), bindings, resolving, depth));
+		} else if (type instanceof WildcardType) {
+			WildcardType wildcard = (WildcardType) type;
+			Type[] bounds = wildcard.getLowerBounds();
+			if (bounds.length == 0) {
+				bounds = wildcard.getUpperBounds();
+			}
+			return bounds.length == 0 ? OBJECT : resolve(bounds[0], bindings, resolving, depth);
+		} else if (type instanceof TypeVariable) {
+			TypeVariable<?> variable = (TypeVariable<?>) type;
+			if (!resolving.add(variable)) {
+				return OBJECT;
+			}
+			try {
+				Type bound = bindings.get(variable);
+				if (bound == null) {
+					Type[] bounds = variable.getBounds();
+					bound = bounds.length == 0 ? Object.class : bounds[0];
+				}
+				return resolve(bound, bindings, resolving, depth);
+			} finally {
+				resolving.remove(variable);
+			}
+		}
+		return OBJECT;
+	}
+
+	private static GenericType array(GenericType componentType) {
+		Class<?> raw = Array.newInstance(componentType.rawType, 0).getClass();
+		return new GenericType(raw, Kind.ARRAY, componentType, null);
+	}
+
+	/**
+	 * This method resolves the element types of given collection or map type.
+	 */
+	private static GenericType container(Class<?> raw, Type type, Map<TypeVariable<?>, Type> bindings,
+			int depth) {
+		Kind kind = kindOf(raw);
+		if (kind == Kind.VALUE || depth == MAX_DEPTH) {
+			return new GenericType(raw, Kind.VALUE, null, null);
+		}
+		Map<TypeVariable<?>, Type> scope = new HashMap<TypeVariable<?>, Type>();
+		bind(type, scope, new HashSet<Class<?>>());
+		Map<TypeVariable<?>, Type> merged = new HashMap<TypeVariable<?>, Type>(bindings);
+		merged.putAll(scope);
+		if (kind == Kind.COLLECTION) {
+			GenericType elementType = argument(Collection.class, 0, scope, merged, depth + 1);
+			return new GenericType(raw, kind, elementType, null);
+		}
+		GenericType keyType = argument(Map.class, 0, scope, merged, depth + 1);
+		GenericType valueType = argument(Map.class, 1, scope, merged, depth + 1);
+		return new GenericType(raw, kind, valueType, keyType);
+	}
+
+	private static GenericType argument(Class<?> generic, int index, Map<TypeVariable<?>, Type> scope,
+			Map<TypeVariable<?>, Type> bindings, int depth) {
+		TypeVariable<?> variable = generic.getTypeParameters()[index];
+		if (!scope.containsKey(variable)) {
+			return OBJECT;
+		}
+		return resolve(variable, bindings, new HashSet<TypeVariable<?>>(), depth);
+	}
+
+	/**
+	 * @return erased class of this type
+	 */
+	Class<?> getRawType() {
+		return rawType;
+	}
+
+	/**
+	 * @return shape of this type
+	 */
+	Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * @return element type of a collection, component type of an array or
+	 *         value type of a map, null for {@link Kind#VALUE}
+	 */
+	GenericType getElementType() {
+		return elementType;
+	}
+
+	/**
+	 * @return key type of a map, null for other kinds
+	 */
+	GenericType getKeyType() {
+		return keyType;
+	}
+
+	/**
+	 * This method tells if a value of this type is copied, instead of being
+	 * passed as it is, to become a value of given type. A bean is copied if its
+	 * class is mapped to a destination class of given type, and a collection,
+	 * array or map if any of its elements, at any depth, is copied.
+	 *
+	 * @param toType
+	 *            type of the destination value
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @return true if the value is copied
+	 */
+	boolean isCopiedInto(GenericType toType, ClassMappings excludeClassesMap) {
+		if (excludeClassesMap == null || kind != toType.kind) {
+			return false;
+		}
+		switch (kind) {
+		case VALUE:
+			return getDestination(toType, excludeClassesMap) != null;
+		case MAP:
+			return keyType.isCopiedInto(toType.keyType, excludeClassesMap)
+					|| elementType.isCopiedInto(toType.elementType, excludeClassesMap);
+		default:
+			return elementType.isCopiedInto(toType.elementType, excludeClassesMap);
+		}
+	}
+
+	/**
+	 * This method returns the destination class of beans of this type. It is
+	 * looked up by the declared class, not by the class of each bean, so every
+	 * element of a <code>List&lt;Bean&gt;</code> is copied into the destination
+	 * class of <code>Bean</code>, even an element of a mapped subclass.
+	 *
+	 * @param toType
+	 *            type of the destination value
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, not null
+	 * @return destination class which beans of this type are copied into, or null
+	 *         if they are not copied
+	 */
+	Class<?> getDestination(GenericType toType, ClassMappings excludeClassesMap) {
+		Class<?> destination = excludeClassesMap.getDestination(rawType);
+		return destination != null && toType.rawType.isAssignableFrom(destination) ? destination : null;
+	}
+
+	@Override
+	public String toString() {
+		switch (kind) {
+		case COLLECTION:
+			return rawType.getSimpleName() + "<" + elementType + ">";
+		case MAP:
+			return rawType.getSimpleName() + "<" + keyType + ", " + elementType + ">";
+		default:
+			return rawType.getSimpleName();
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package common.util.reflection.v2_1;
+
+/**
+ * This interface creates new instances of one destination class. An
+ * instantiator can be registered with
+ * {@link ReflectionUtil#registerInstantiator(Class, Instantiator)} for classes
+ * which have no default constructor or need a custom way of creation.
+ * 
+ * <pre>
+ * ReflectionUtil.registerInstantiator(Money.class, new Instantiator&lt;Money&gt;() {
+ * 	public Money newInstance() {
+ * 		return new Money(Currency.getInstance("EUR"));
+ * 	}
+ * });
+ * </pre>
+ * 
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public interface Instantiator<T> {
+
+	/**
+	 * @return new instance of the class
+	 * @throws Exception
+	 *             If instance can not be created
+	 */
+	T newInstance() throws Exception;
+}
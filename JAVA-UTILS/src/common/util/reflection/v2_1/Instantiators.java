@@ -0,0 +1,134 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class keeps the {@link Instantiator} of every destination class. The
+ * instantiator of a class is either registered by the user or built once from
+ * its public no-arg constructor by {@link Accessors#instantiator(Constructor)}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class Instantiators {
+
+	private static final ConcurrentMap<Class<?>, Instantiator<?>> CACHE =
+			new ConcurrentHashMap<Class<?>, Instantiator<?>>();
+
+	private Instantiators() {
+	}
+
+	/**
+	 * This method creates a new instance of given class.
+	 *
+	 * @param clazz
+	 *            class to instantiate
+	 * @return new instance
+	 * @throws InstantiationException
+	 *             If class has no instantiator or the instantiator fails with a
+	 *             checked exception, which is the cause
+	 * @throws IllegalAccessException
+	 *             If access denied to the constructor
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T newInstance(Class<T> clazz) throws InstantiationException, IllegalAccessException {
+		Instantiator<?> instantiator = CACHE.get(clazz);
+		if (instantiator == null) {
+			instantiator = create(clazz);
+			Instantiator<?> existing = CACHE.putIfAbsent(clazz, instantiator);
+			if (existing != null) {
+				instantiator = existing;
+			}
+		}
+		try {
+			return (T) instantiator.newInstance();
+		} catch (InstantiationException e) {
+			throw e;
+		} catch (IllegalAccessException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			InstantiationException exception = new InstantiationException(
+					"Not able to create an instance of " + clazz.getName());
+			exception.initCause(e);
+			throw exception;
+		}
+	}
+
+	/**
+	 * This method registers the instantiator of given class, replacing the
+	 * instantiator in use.
+	 *
+	 * @param clazz
+	 *            class to instantiate
+	 * @param instantiator
+	 *            instantiator of the class, null to use its no-arg constructor
+	 */
+	static void register(Class<?> clazz, Instantiator<?> instantiator) {
+		if (instantiator == null) {
+			CACHE.remove(clazz);
+		} else {
+			CACHE.put(clazz, instantiator);
+		}
+	}
+
+	/**
+	 * This method builds the instantiator of given class from its public no-arg
+	 * constructor. A constructor which is not public is not called, as
+	 * {@link Class#newInstance()} did not call it, since its class may be a
+	 * singleton or created by a factory only. Such classes need a registered
+	 * instantiator. Classes which can not be instantiated get an instantiator
+	 * throwing {@link InstantiationException} or {@link IllegalAccessException},
+	 * so the failure is cached too.
+	 */
+	private static Instantiator<?> create(Class<?> clazz) {
+		if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers()) || clazz.isPrimitive()
+				|| clazz.isArray()) {
+			return new Failing(clazz.getName() + " is not a concrete class");
+		}
+		Constructor<?> constructor;
+		try {
+			constructor = clazz.getDeclaredConstructor();
+		} catch (NoSuchMethodException e) {
+			return new Failing("No default constructor found in " + clazz.getName()
+					+ ", register an Instantiator for it");
+		}
+		if (!Modifier.isPublic(constructor.getModifiers())) {
+			return new Failing("Default constructor of " + clazz.getName()
+					+ " is not public, register an Instantiator for it", true);
+		}
+		try {
+			return Accessors.instantiator(constructor);
+		} catch (IllegalAccessException e) {
+			return new Failing(e.getMessage(), true);
+		}
+	}
+
+	private static final class Failing implements Instantiator<Object> {
+
+		private final String message;
+		private final boolean denied;
+
+		Failing(String message) {
+			this(message, false);
+		}
+
+		Failing(String message, boolean denied) {
+			this.message = message;
+			this.denied = denied;
+		}
+
+		@Override
+		public Object newInstance() throws InstantiationException, IllegalAccessException {
+			if (denied) {
+				throw new IllegalAccessException(message);
+			}
+			throw new InstantiationException(message);
+		}
+	}
+}
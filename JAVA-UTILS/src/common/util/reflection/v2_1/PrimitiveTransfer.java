@@ -0,0 +1,224 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.log4j.Logger;
+
+/**
+ * This class moves one primitive property from a getter to a setter of the
+ * same primitive type without boxing the value. It is created for
+ * <code>int</code>, <code>long</code>, <code>double</code> and
+ * <code>boolean</code> properties when the accessors are generated with
+ * {@link java.lang.invoke.LambdaMetafactory}, other properties are copied by
+ * {@link PropertyGetter} and {@link PropertySetter}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+abstract class PrimitiveTransfer {
+
+	private static final Logger LOGGER = Logger.getLogger(PrimitiveTransfer.class);
+
+	interface IntGetter {
+		int get(Object bean) throws Exception;
+	}
+
+	interface IntSetter {
+		void set(Object bean, int value) throws Exception;
+	}
+
+	interface LongGetter {
+		long get(Object bean) throws Exception;
+	}
+
+	interface LongSetter {
+		void set(Object bean, long value) throws Exception;
+	}
+
+	interface DoubleGetter {
+		double get(Object bean) throws Exception;
+	}
+
+	interface DoubleSetter {
+		void set(Object bean, double value) throws Exception;
+	}
+
+	interface BooleanGetter {
+		boolean get(Object bean) throws Exception;
+	}
+
+	interface BooleanSetter {
+		void set(Object bean, boolean value) throws Exception;
+	}
+
+	/**
+	 * This method creates the transfer of given getter and setter.
+	 *
+	 * @param getter
+	 *            getter method of origin class
+	 * @param setter
+	 *            setter method of destination class
+	 * @param backend
+	 *            {@link AccessorBackend} of the copy plan
+	 * @return {@link PrimitiveTransfer} of the pair, or null if the values have
+	 *         to be boxed
+	 */
+	static PrimitiveTransfer create(Method getter, Method setter, AccessorBackend backend) {
+		if (backend == AccessorBackend.REFLECTION) {
+			return null;
+		}
+		Class<?> type = getter.getReturnType();
+		if (!type.isPrimitive() || type != setter.getParameterTypes()[0] || Modifier.isStatic(getter.getModifiers())
+				|| Modifier.isStatic(setter.getModifiers()) || !Accessors.isLambdaTarget(getter)
+				|| !Accessors.isLambdaTarget(setter)) {
+			return null;
+		}
+		try {
+			if (type == int.class) {
+				return new IntTransfer(Accessors.lambda(IntGetter.class, getter),
+						Accessors.lambda(IntSetter.class, setter));
+			} else if (type == long.class) {
+				return new LongTransfer(Accessors.lambda(LongGetter.class, getter),
+						Accessors.lambda(LongSetter.class, setter));
+			} else if (type == double.class) {
+				return new DoubleTransfer(Accessors.lambda(DoubleGetter.class, getter),
+						Accessors.lambda(DoubleSetter.class, setter));
+			} else if (type == boolean.class) {
+				return new BooleanTransfer(Accessors.lambda(BooleanGetter.class, getter),
+						Accessors.lambda(BooleanSetter.class, setter));
+			}
+		} catch (Throwable e) {
+			LOGGER.debug("Primitive transfer not available for " + getter + ", using boxed accessors. " + e);
+		}
+		return null;
+	}
+
+	/**
+	 * This method copies the property from origin bean to destination bean.
+	 *
+	 * @param mapping
+	 *            mapping of the property
+	 * @param to
+	 *            destination class object
+	 * @param from
+	 *            origin class object
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, passed on when the
+	 *            setter fails
+	 * @throws InvocationTargetException
+	 *             If getter method fails
+	 */
+	abstract void transfer(PropertyMapping mapping, Object to, Object from, ClassMappings excludeClassesMap)
+			throws InvocationTargetException;
+
+	private static final class IntTransfer extends PrimitiveTransfer {
+
+		private final IntGetter getter;
+		private final IntSetter setter;
+
+		IntTransfer(IntGetter getter, IntSetter setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		void transfer(PropertyMapping mapping, Object to, Object from, ClassMappings excludeClassesMap)
+				throws InvocationTargetException {
+			int value;
+			try {
+				value = getter.get(from);
+			} catch (Exception e) {
+				throw ReflectionUtil.getterFailed(mapping, e);
+			}
+			try {
+				setter.set(to, value);
+			} catch (Exception e) {
+				ReflectionUtil.setValueFailed(Integer.valueOf(value), mapping, to, e, excludeClassesMap);
+			}
+		}
+	}
+
+	private static final class LongTransfer extends PrimitiveTransfer {
+
+		private final LongGetter getter;
+		private final LongSetter setter;
+
+		LongTransfer(LongGetter getter, LongSetter setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		void transfer(PropertyMapping mapping, Object to, Object from, ClassMappings excludeClassesMap)
+				throws InvocationTargetException {
+			long value;
+			try {
+				value = getter.get(from);
+			} catch (Exception e) {
+				throw ReflectionUtil.getterFailed(mapping, e);
+			}
+			try {
+				setter.set(to, value);
+			} catch (Exception e) {
+				ReflectionUtil.setValueFailed(Long.valueOf(value), mapping, to, e, excludeClassesMap);
+			}
+		}
+	}
+
+	private static final class DoubleTransfer extends PrimitiveTransfer {
+
+		private final DoubleGetter getter;
+		private final DoubleSetter setter;
+
+		DoubleTransfer(DoubleGetter getter, DoubleSetter setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		void transfer(PropertyMapping mapping, Object to, Object from, ClassMappings excludeClassesMap)
+				throws InvocationTargetException {
+			double value;
+			try {
+				value = getter.get(from);
+			} catch (Exception e) {
+				throw ReflectionUtil.getterFailed(mapping, e);
+			}
+			try {
+				setter.set(to, value);
+			} catch (Exception e) {
+				ReflectionUtil.setValueFailed(Double.valueOf(value), mapping, to, e, excludeClassesMap);
+			}
+		}
+	}
+
+	private static final class BooleanTransfer extends PrimitiveTransfer {
+
+		private final BooleanGetter getter;
+		private final BooleanSetter setter;
+
+		BooleanTransfer(BooleanGetter getter, BooleanSetter setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		void transfer(PropertyMapping mapping, Object to, Object from, ClassMappings excludeClassesMap)
+				throws InvocationTargetException {
+			boolean value;
+			try {
+				value = getter.get(from);
+			} catch (Exception e) {
+				throw ReflectionUtil.getterFailed(mapping, e);
+			}
+			try {
+				setter.set(to, value);
+			} catch (Exception e) {
+				ReflectionUtil.setValueFailed(Boolean.valueOf(value), mapping, to, e, excludeClassesMap);
+			}
+		}
+	}
+}
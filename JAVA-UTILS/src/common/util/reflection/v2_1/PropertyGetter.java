@@ -0,0 +1,20 @@
+package common.util.reflection.v2_1;
+
+/**
+ * This interface reads one property value of a bean.
+ * 
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+interface PropertyGetter {
+
+	/**
+	 * @param bean
+	 *            bean to read value from
+	 * @return property value, primitive values are boxed
+	 * @throws Exception
+	 *             If getter method throws any exception
+	 */
+	Object get(Object bean) throws Exception;
+}
@@ -0,0 +1,128 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Method;
+
+/**
+ * This class holds one resolved getter of origin class and the setter of
+ * destination class which receives its value.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class PropertyMapping {
+
+	private final Method fromMethod;
+	private final Method toMethod;
+	private final Class<?> returnType;
+	private final Class<?> parameterType;
+	private final PropertyGetter getter;
+	private final PropertySetter setter;
+	private final PrimitiveTransfer primitiveTransfer;
+	private final Converter<Object, Object> converter;
+	private final GenericType fromType;
+	private final GenericType toType;
+
+	PropertyMapping(Class<?> fromClass, Method fromMethod, Class<?> toClass, Method toMethod,
+			AccessorBackend backend) {
+		this.fromMethod = fromMethod;
+		this.toMethod = toMethod;
+		this.returnType = fromMethod.getReturnType();
+		this.parameterType = toMethod.getParameterTypes()[0];
+		this.getter = Accessors.getter(fromMethod, backend);
+		this.setter = Accessors.setter(toMethod, backend);
+		this.primitiveTransfer = PrimitiveTransfer.create(fromMethod, toMethod, backend);
+		this.converter = Converters.find(returnType, parameterType);
+		this.fromType = GenericType.ofReturnType(fromMethod, fromClass);
+		this.toType = GenericType.ofParameterType(toMethod, toClass);
+	}
+
+	/**
+	 * @return getter method of origin class
+	 */
+	Method getFromMethod() {
+		return fromMethod;
+	}
+
+	/**
+	 * @return setter method of destination class
+	 */
+	Method getToMethod() {
+		return toMethod;
+	}
+
+	/**
+	 * @return return type of the getter method
+	 */
+	Class<?> getReturnType() {
+		return returnType;
+	}
+
+	/**
+	 * @return parameter type of the setter method
+	 */
+	Class<?> getParameterType() {
+		return parameterType;
+	}
+
+	/**
+	 * @return resolved generic return type of the getter method
+	 */
+	GenericType getFromType() {
+		return fromType;
+	}
+
+	/**
+	 * @return resolved generic parameter type of the setter method
+	 */
+	GenericType getToType() {
+		return toType;
+	}
+
+	/**
+	 * @return accessor calling the getter method
+	 */
+	PropertyGetter getGetter() {
+		return getter;
+	}
+
+	/**
+	 * @return accessor calling the setter method
+	 */
+	PropertySetter getSetter() {
+		return setter;
+	}
+
+	/**
+	 * @return transfer moving the primitive value without boxing, or null if the
+	 *         value is copied by getter and setter accessors
+	 */
+	PrimitiveTransfer getPrimitiveTransfer() {
+		return primitiveTransfer;
+	}
+
+	/**
+	 * @return converter of getter value to setter parameter type, or null if the
+	 *         value is passed as it is
+	 */
+	Converter<Object, Object> getConverter() {
+		return converter;
+	}
+
+	/**
+	 * This method converts the getter value into the setter parameter type.
+	 *
+	 * @param value
+	 *            getter value
+	 * @return converted value, or the value itself if it is null or has no
+	 *         converter
+	 * @throws Exception
+	 *             If the converter fails
+	 */
+	Object convert(Object value) throws Exception {
+		if (converter == null || value == null) {
+			return value;
+		}
+		return converter.convert(value);
+	}
+}
@@ -0,0 +1,482 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class is a property path parsed once into a chain of steps, eg.
+ * <code>address.city</code>, <code>items[3].price</code> or
+ * <code>attributes['k']</code>. A step is a property name, a list or array
+ * index, or a map key in single or double quotes. A quote or backslash inside
+ * a key is escaped by a backslash, eg. <code>attributes['it\'s']</code>, so a
+ * quoted key can hold any character, including <code>]</code>. A step in
+ * brackets is followed by a dot, another bracket or the end of the path.
+ * <p>
+ * Compiled paths are cached by their text, at most {@link #MAX_CACHED_PATHS}
+ * of them. When the cache is full, the paths not used since the previous
+ * eviction are dropped, so paths in use stay cached while paths built at
+ * runtime do not make the cache grow without limit.
+ * <p>
+ * A property is read by its public field, or else by its public getter
+ * <code>getName()</code> or <code>isName()</code>, and written by its public
+ * setter or else by its public field. Accessors are resolved once per bean
+ * class of each step.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class PropertyPath {
+
+	/** number of compiled paths cached at most */
+	static final int MAX_CACHED_PATHS = 1024;
+
+	private static final ConcurrentMap<String, PropertyPath> CACHE = new ConcurrentHashMap<String, PropertyPath>();
+
+	private final String path;
+	private final Step[] steps;
+	/** set when the cached path is used, cleared by {@link #evict()} */
+	private volatile boolean used;
+
+	private PropertyPath(String path, Step[] steps) {
+		this.path = path;
+		this.steps = steps;
+	}
+
+	/**
+	 * This method returns the compiled path of given text, parsing it on first
+	 * use.
+	 *
+	 * @param path
+	 *            property path text
+	 * @return compiled {@link PropertyPath}
+	 * @throws IllegalArgumentException
+	 *             If path is empty or not valid, eg. has an empty step like
+	 *             <code>a..b</code>
+	 */
+	static PropertyPath compile(String path) {
+		if (path == null) {
+			throw new IllegalArgumentException("No property path specified");
+		}
+		PropertyPath compiled = CACHE.get(path);
+		if (compiled != null) {
+			if (!compiled.used) {
+				compiled.used = true;
+			}
+			return compiled;
+		}
+		compiled = new PropertyPath(path, parse(path));
+		if (CACHE.size() >= MAX_CACHED_PATHS) {
+			evict();
+		}
+		PropertyPath existing = CACHE.putIfAbsent(path, compiled);
+		if (existing != null) {
+			compiled = existing;
+		}
+		return compiled;
+	}
+
+	/**
+	 * This method drops the cached paths not used since the previous eviction
+	 * and marks the other ones as not used. If every path was used, one of them
+	 * is dropped, so the cache stays within its bound.
+	 */
+	private static synchronized void evict() {
+		if (CACHE.size() < MAX_CACHED_PATHS) {
+			return;
+		}
+		boolean dropped = false;
+		for (Iterator<PropertyPath> paths = CACHE.values().iterator(); paths.hasNext();) {
+			PropertyPath cached = paths.next();
+			if (cached.used) {
+				cached.used = false;
+			} else {
+				paths.remove();
+				dropped = true;
+			}
+		}
+		if (!dropped) {
+			Iterator<PropertyPath> paths = CACHE.values().iterator();
+			if (paths.hasNext()) {
+				paths.next();
+				paths.remove();
+			}
+		}
+	}
+
+	/**
+	 * This method reads the value at the end of the path.
+	 *
+	 * @param root
+	 *            bean to start from
+	 * @param backend
+	 *            {@link AccessorBackend} used to call getters
+	 * @return value, or null if the path reaches a null value before its end
+	 * @throws Exception
+	 *             If a step can not be resolved or its accessor fails
+	 */
+	Object get(Object root, AccessorBackend backend) throws Exception {
+		Object target = root;
+		for (int i = 0; i < steps.length && target != null; i++) {
+			target = steps[i].get(target, backend);
+		}
+		return target;
+	}
+
+	/**
+	 * This method writes the value at the end of the path.
+	 *
+	 * @param root
+	 *            bean to start from
+	 * @param value
+	 *            value to write
+	 * @param backend
+	 *            {@link AccessorBackend} used to call getters and setters
+	 * @throws Exception
+	 *             If the path reaches a null value before its end, a step can not
+	 *             be resolved or its accessor fails
+	 */
+	void set(Object root, Object value, AccessorBackend backend) throws Exception {
+		Object target = root;
+		int last = steps.length - 1;
+		for (int i = 0; i < last; i++) {
+			target = steps[i].get(target, backend);
+			if (target == null) {
+				throw new NullPointerException("Null value at step " + (i + 1) + " of path " + path);
+			}
+		}
+		steps[last].set(target, value, backend);
+	}
+
+	/**
+	 * @return number of compiled paths in the cache
+	 */
+	static int cacheSize() {
+		return CACHE.size();
+	}
+
+	@Override
+	public String toString() {
+		return path;
+	}
+
+	/**
+	 * This method splits the path text into steps.
+	 */
+	private static Step[] parse(String path) {
+		if (path == null || path.length() == 0) {
+			throw new IllegalArgumentException("No property path specified");
+		}
+		List<Step> steps = new ArrayList<Step>();
+		int length = path.length();
+		int i = 0;
+		while (i < length) {
+			char c = path.charAt(i);
+			if (c == '[') {
+				int j = skipSpaces(path, i + 1);
+				if (j < length && (path.charAt(j) == '\'' || path.charAt(j) == '"')) {
+					char quote = path.charAt(j);
+					StringBuilder key = new StringBuilder();
+					for (j++; j < length && path.charAt(j) != quote; j++) {
+						char k = path.charAt(j);
+						if (k == '\\' && j + 1 < length
+								&& (path.charAt(j + 1) == quote || path.charAt(j + 1) == '\\')) {
+							k = path.charAt(++j);
+						}
+						key.append(k);
+					}
+					j = skipSpaces(path, j + 1);
+					if (j >= length || path.charAt(j) != ']') {
+						throw invalid(path, i);
+					}
+					steps.add(new KeyStep(key.toString()));
+					i = j + 1;
+				} else {
+					int close = path.indexOf(']', i);
+					if (close < 0) {
+						throw invalid(path, i);
+					}
+					try {
+						steps.add(new IndexStep(Integer.parseInt(path.substring(i + 1, close).trim())));
+					} catch (NumberFormatException e) {
+						throw invalid(path, i);
+					}
+					i = close + 1;
+				}
+				if (i < length && path.charAt(i) != '.' && path.charAt(i) != '[') {
+					throw invalid(path, i);
+				}
+			} else if (c == '.' && !steps.isEmpty()) {
+				if (i + 1 == length || path.charAt(i + 1) == '.' || path.charAt(i + 1) == '[') {
+					throw invalid(path, i + 1);
+				}
+				i++;
+			} else {
+				int end = i;
+				while (end < length && path.charAt(end) != '.' && path.charAt(end) != '[') {
+					if (path.charAt(end) == ']') {
+						throw invalid(path, end);
+					}
+					end++;
+				}
+				if (end == i) {
+					throw invalid(path, i);
+				}
+				steps.add(new NameStep(path.substring(i, end)));
+				i = end;
+			}
+		}
+		return steps.toArray(new Step[steps.size()]);
+	}
+
+	/**
+	 * @return index of first character from given index which is not a space
+	 */
+	private static int skipSpaces(String path, int index) {
+		while (index < path.length() && path.charAt(index) == ' ') {
+			index++;
+		}
+		return index;
+	}
+
+	private static IllegalArgumentException invalid(String path, int index) {
+		return new IllegalArgumentException("Invalid property path " + path + " at index " + index);
+	}
+
+	/**
+	 * One step of a path, reading or writing one value of its target.
+	 */
+	private abstract static class Step {
+
+		abstract Object get(Object target, AccessorBackend backend) throws Exception;
+
+		abstract void set(Object target, Object value, AccessorBackend backend) throws Exception;
+	}
+
+	/**
+	 * Step reading or writing a bean property.
+	 */
+	private static final class NameStep extends Step {
+
+		private final String name;
+		private final ConcurrentMap<Class<?>, PropertyAccess> accessors =
+				new ConcurrentHashMap<Class<?>, PropertyAccess>(4);
+		/** accessor of the bean class seen last, checked before the map */
+		private volatile PropertyAccess last;
+
+		NameStep(String name) {
+			this.name = name;
+		}
+
+		@Override
+		Object get(Object target, AccessorBackend backend) throws Exception {
+			PropertyGetter getter = access(target.getClass(), backend).getter;
+			if (getter == null) {
+				throw new NoSuchMethodException("No getter or public field " + name + " in " + target.getClass());
+			}
+			return getter.get(target);
+		}
+
+		@Override
+		void set(Object target, Object value, AccessorBackend backend) throws Exception {
+			PropertySetter setter = access(target.getClass(), backend).setter;
+			if (setter == null) {
+				throw new NoSuchMethodException("No setter or public field " + name + " in " + target.getClass());
+			}
+			setter.set(target, value);
+		}
+
+		private PropertyAccess access(Class<?> clazz, AccessorBackend backend) {
+			PropertyAccess access = last;
+			if (access != null && access.clazz == clazz && access.backend == backend) {
+				return access;
+			}
+			access = accessors.get(clazz);
+			if (access == null || access.backend != backend) {
+				access = new PropertyAccess(clazz, name, backend);
+				accessors.put(clazz, access);
+			}
+			last = access;
+			return access;
+		}
+	}
+
+	/**
+	 * Step reading or writing an element of a {@link List} or an array.
+	 */
+	private static final class IndexStep extends Step {
+
+		private final int index;
+
+		IndexStep(int index) {
+			this.index = index;
+		}
+
+		@Override
+		Object get(Object target, AccessorBackend backend) {
+			if (target instanceof List) {
+				return ((List<?>) target).get(index);
+			} else if (target.getClass().isArray()) {
+				return Array.get(target, index);
+			}
+			throw new IllegalArgumentException("Index [" + index + "] used on " + target.getClass());
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		void set(Object target, Object value, AccessorBackend backend) {
+			if (target instanceof List) {
+				((List<Object>) target).set(index, value);
+			} else if (target.getClass().isArray()) {
+				Array.set(target, index, value);
+			} else {
+				throw new IllegalArgumentException("Index [" + index + "] used on " + target.getClass());
+			}
+		}
+	}
+
+	/**
+	 * Step reading or writing a value of a {@link Map}.
+	 */
+	private static final class KeyStep extends Step {
+
+		private final String key;
+
+		KeyStep(String key) {
+			this.key = key;
+		}
+
+		@Override
+		Object get(Object target, AccessorBackend backend) {
+			if (target instanceof Map) {
+				return ((Map<?, ?>) target).get(key);
+			}
+			throw new IllegalArgumentException("Key ['" + key + "'] used on " + target.getClass());
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		void set(Object target, Object value, AccessorBackend backend) {
+			if (target instanceof Map) {
+				((Map<Object, Object>) target).put(key, value);
+			} else {
+				throw new IllegalArgumentException("Key ['" + key + "'] used on " + target.getClass());
+			}
+		}
+	}
+
+	/**
+	 * Getter and setter of one property of one bean class.
+	 */
+	private static final class PropertyAccess {
+
+		private final Class<?> clazz;
+		private final AccessorBackend backend;
+		private final PropertyGetter getter;
+		private final PropertySetter setter;
+
+		PropertyAccess(Class<?> clazz, String name, AccessorBackend backend) {
+			this.clazz = clazz;
+			this.backend = backend;
+			String suffix = name.substring(0, 1).toUpperCase() + name.substring(1);
+			FieldProperties.FieldAccessor field = FieldProperties.of(clazz).get(name);
+			boolean publicField = field != null && Modifier.isPublic(field.getField().getModifiers());
+			PropertyGetter propertyGetter = null;
+			if (publicField) {
+				propertyGetter = new FieldGetter(field);
+			} else {
+				Method method = publicMethod(clazz, "get" + suffix);
+				if (method == null || method.getReturnType() == void.class) {
+					method = publicMethod(clazz, "is" + suffix);
+				}
+				if (method != null && method.getReturnType() != void.class) {
+					propertyGetter = Accessors.getter(method, backend);
+				}
+			}
+			PropertySetter propertySetter = null;
+			Method method = setterMethod(clazz, "set" + suffix, field == null ? null : field.getType());
+			if (method != null) {
+				propertySetter = Accessors.setter(method, backend);
+			} else if (publicField && field.getSetter() != null) {
+				propertySetter = new FieldSetter(field);
+			}
+			this.getter = propertyGetter;
+			this.setter = propertySetter;
+		}
+
+		private static Method publicMethod(Class<?> clazz, String name) {
+			try {
+				return clazz.getMethod(name);
+			} catch (NoSuchMethodException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * @return public setter taking the field type, or else the only public
+		 *         one parameter method of given name
+		 */
+		private static Method setterMethod(Class<?> clazz, String name, Class<?> fieldType) {
+			if (fieldType != null) {
+				try {
+					return clazz.getMethod(name, fieldType);
+				} catch (NoSuchMethodException e) {
+					// setter of another type, looked up below
+				}
+			}
+			Method found = null;
+			for (Method method : clazz.getMethods()) {
+				if (method.getName().equals(name) && method.getParameterTypes().length == 1
+						&& !Modifier.isStatic(method.getModifiers())) {
+					if (found != null) {
+						return null;
+					}
+					found = method;
+				}
+			}
+			return found;
+		}
+	}
+
+	/**
+	 * Getter reading a public field.
+	 */
+	private static final class FieldGetter implements PropertyGetter {
+
+		private final FieldProperties.FieldAccessor field;
+
+		FieldGetter(FieldProperties.FieldAccessor field) {
+			this.field = field;
+		}
+
+		@Override
+		public Object get(Object bean) throws Exception {
+			return field.get(bean);
+		}
+	}
+
+	/**
+	 * Setter writing a public field.
+	 */
+	private static final class FieldSetter implements PropertySetter {
+
+		private final Field field;
+
+		FieldSetter(FieldProperties.FieldAccessor field) {
+			this.field = field.getField();
+		}
+
+		@Override
+		public void set(Object bean, Object value) throws Exception {
+			field.set(bean, value);
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package common.util.reflection.v2_1;
+
+/**
+ * This interface writes one property value of a bean.
+ * 
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+interface PropertySetter {
+
+	/**
+	 * @param bean
+	 *            bean to write value into
+	 * @param value
+	 *            value to set, primitive values are passed boxed
+	 * @throws Exception
+	 *             If value type does not match or setter method throws any
+	 *             exception
+	 */
+	void set(Object bean, Object value) throws Exception;
+}
@@ -0,0 +1,179 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.log4j.Logger;
+
+/**
+ * This class indexes the properties of one class by field name, for converting
+ * beans to maps and back. A property is an instance field of the class or of
+ * any super class having a public getter <code>getName()</code> or
+ * <code>isName()</code> and/or a public setter <code>setName(type)</code> of the
+ * field type. A field hides the fields of same name declared in super classes.
+ * It is created once per class and backend, so each map key costs one hash
+ * lookup.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+final class PropertyTable {
+
+	private static final Logger LOGGER = Logger.getLogger(PropertyTable.class);
+
+	private static final ConcurrentMap<Key, PropertyTable> CACHE = new ConcurrentHashMap<Key, PropertyTable>();
+
+	/** names of readable properties, declared fields of the class first */
+	private final String[] names;
+	private final PropertyGetter[] getters;
+	private final Map<String, PropertySetter> setters;
+
+	private PropertyTable(Class<?> clazz, AccessorBackend backend) {
+		List<String> nameList = new ArrayList<String>();
+		List<PropertyGetter> getterList = new ArrayList<PropertyGetter>();
+		Map<String, PropertySetter> setterMap = new HashMap<String, PropertySetter>();
+		Map<String, Boolean> seen = new HashMap<String, Boolean>();
+		for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				String name = field.getName();
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || seen.containsKey(name)) {
+					continue;
+				}
+				seen.put(name, Boolean.TRUE);
+				String suffix = name.substring(0, 1).toUpperCase() + name.substring(1);
+				Method getter = publicMethod(clazz, "get" + suffix);
+				if (getter == null && field.getType() == boolean.class) {
+					getter = publicMethod(clazz, "is" + suffix);
+				}
+				if (getter != null && getter.getReturnType() != void.class) {
+					nameList.add(name);
+					getterList.add(Accessors.getter(getter, backend));
+				}
+				Method setter = publicMethod(clazz, "set" + suffix, field.getType());
+				if (setter != null) {
+					setterMap.put(name, Accessors.setter(setter, backend));
+				}
+			}
+		}
+		this.names = nameList.toArray(new String[nameList.size()]);
+		this.getters = getterList.toArray(new PropertyGetter[getterList.size()]);
+		this.setters = setterMap;
+	}
+
+	/**
+	 * This method returns the cached table of given class, built with given
+	 * backend.
+	 *
+	 * @param clazz
+	 *            bean class
+	 * @param backend
+	 *            {@link AccessorBackend} used to call getters and setters
+	 * @return {@link PropertyTable} of the class
+	 */
+	static PropertyTable of(Class<?> clazz, AccessorBackend backend) {
+		Key key = new Key(clazz, backend);
+		PropertyTable table = CACHE.get(key);
+		if (table == null) {
+			table = new PropertyTable(clazz, backend);
+			PropertyTable existing = CACHE.putIfAbsent(key, table);
+			if (existing != null) {
+				table = existing;
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * This method reads all readable properties of given bean.
+	 *
+	 * @param bean
+	 *            bean of the indexed class
+	 * @return {@link LinkedHashMap} of property name and value, null values
+	 *         included
+	 * @throws Exception
+	 *             If any getter fails
+	 */
+	Map<String, Object> toMap(Object bean) throws Exception {
+		Map<String, Object> map = new LinkedHashMap<String, Object>(names.length * 4 / 3 + 1);
+		for (int i = 0; i < names.length; i++) {
+			map.put(names[i], getters[i].get(bean));
+		}
+		return map;
+	}
+
+	/**
+	 * This method sets every map value having a writable property of same name
+	 * into given bean. Keys without property and values the setter does not
+	 * accept are skipped.
+	 *
+	 * @param bean
+	 *            bean of the indexed class
+	 * @param map
+	 *            property name and value map
+	 */
+	void putAll(Object bean, Map<String, ?> map) {
+		for (Map.Entry<String, ?> entry : map.entrySet()) {
+			PropertySetter setter = setters.get(entry.getKey());
+			if (setter == null) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug(entry.getKey() + " : no setter found in " + bean.getClass() + ", hence skipping it.");
+				}
+				continue;
+			}
+			try {
+				setter.set(bean, entry.getValue());
+			} catch (Exception e) {
+				LOGGER.error(entry.getKey() + " : value not accepted by setter, hence skipping it. " + e);
+			}
+		}
+	}
+
+	/**
+	 * @return public method of given signature, or null if there is no such
+	 *         method
+	 */
+	private static Method publicMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
+		try {
+			return clazz.getMethod(name, parameterTypes);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private static final class Key {
+
+		private final Class<?> clazz;
+		private final AccessorBackend backend;
+		private final int hash;
+
+		Key(Class<?> clazz, AccessorBackend backend) {
+			this.clazz = clazz;
+			this.backend = backend;
+			this.hash = 31 * clazz.hashCode() + backend.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return clazz == other.clazz && backend == other.backend;
+		}
+	}
+}
@@ -1,19 +1,28 @@
 package common.util.reflection.v2_1;
 
-import java.lang.reflect.Field;
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.log4j.Logger;
 
@@ -30,6 +39,86 @@ public class ReflectionUtil {
 
 	private static final Logger LOGGER = Logger.getLogger(ReflectionUtil.class);
 
+	/**
+	 * Default number of beans copied by one task of
+	 * {@link #copyAllParallel(Class, Collection)}.
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
+	private static volatile AccessorBackend accessorBackend = AccessorBackend.fromSystemProperty();
+
+	/**
+	 * This method returns the backend used to call getters and setters while
+	 * copying beans.
+	 * 
+	 * @return current {@link AccessorBackend}
+	 */
+	public static AccessorBackend getAccessorBackend() {
+		return accessorBackend;
+	}
+
+	/**
+	 * This method sets the backend used to call getters and setters while copying
+	 * beans. Default is {@link AccessorBackend#REFLECTION} unless
+	 * {@link AccessorBackend#SYSTEM_PROPERTY} is set.
+	 * 
+	 * @param backend
+	 *            {@link AccessorBackend} to use for further copies
+	 * @throws IllegalArgumentException
+	 *             If passed backend is null.
+	 */
+	public static void setAccessorBackend(AccessorBackend backend) {
+		if (backend == null)
+			throw new IllegalArgumentException("No accessor backend specified");
+		accessorBackend = backend;
+	}
+
+	/**
+	 * This method registers the way new instances of given destination class are
+	 * created by the copy methods. By default a class is instantiated by its
+	 * public no-arg constructor, so an instantiator is needed for classes without
+	 * one, such as singletons or classes created by a factory only.
+	 * 
+	 * @param clazz
+	 *            destination class
+	 * @param instantiator
+	 *            {@link Instantiator} creating instances of the class, null to
+	 *            use the public no-arg constructor again
+	 * @throws IllegalArgumentException
+	 *             If passed class is null.
+	 */
+	public static <T> void registerInstantiator(Class<T> clazz, Instantiator<? extends T> instantiator) {
+		if (clazz == null)
+			throw new IllegalArgumentException("No destination class specified");
+		Instantiators.register(clazz, instantiator);
+	}
+
+	/**
+	 * This method registers the converter used when a getter of origin class
+	 * returns a type the setter of destination class does not take. Converters
+	 * for numbers, strings, enums and dates are built in, a registered converter
+	 * replaces the built in one of same types and also applies to sub classes
+	 * of origin type. Converters are chosen when the classes are copied first,
+	 * so registering one clears the cached copy plans.
+	 * 
+	 * @param from
+	 *            getter return type, a primitive type is same as its wrapper
+	 * @param to
+	 *            setter parameter type, a primitive type is same as its wrapper
+	 * @param converter
+	 *            {@link Converter} of the types, null to remove the registered
+	 *            converter
+	 * @throws IllegalArgumentException
+	 *             If passed types are null.
+	 */
+	public static <S, T> void registerConverter(Class<S> from, Class<T> to,
+			Converter<? super S, ? extends T> converter) {
+		if (from == null || to == null)
+			throw new IllegalArgumentException("No converter types specified");
+		Converters.register(from, to, converter);
+		CopyPlan.clearCache();
+	}
+
 	/**
 	 * This method is used to copy one bean values to another bean.
 	 * 
@@ -87,7 +176,7 @@ public class ReflectionUtil {
 	 * @throws InvocationTargetException
 	 *             If method access is denied
 	 */
-	synchronized public static void copy(final Object to, final Object from, boolean strictCopy)
+	public static void copy(final Object to, final Object from, boolean strictCopy)
 			throws InvocationTargetException {
 		copy(to, from, strictCopy, null);
 	}
@@ -117,7 +206,7 @@ public class ReflectionUtil {
 	public static <T> T copy(Class<T> toClazz, Object from, boolean strictCopy) throws Exception {
 		if (toClazz == null)
 			throw new IllegalArgumentException("No destination bean specified");
-		Object to = toClazz.newInstance();
+		Object to = Instantiators.newInstance(toClazz);
 		copy(to, from, strictCopy);
 		return (T) to;
 	}
@@ -145,13 +234,40 @@ public class ReflectionUtil {
 	 * @throws IllegalAccessException
 	 *             If access denied to access given class
 	 */
-	@SuppressWarnings("unchecked")
 	public static <T> T copy(Class<T> toClazz, Object from, Map<Class<?>, Class<?>> excludeClassesMap)
 			throws InstantiationException, IllegalAccessException, InvocationTargetException {
+		return copy(toClazz, from, ClassMappings.of(excludeClassesMap));
+	}
+
+	/**
+	 * This method is used to copy one bean values to another bean. Nested beans
+	 * whose class is mapped by given {@link ClassMappings} are copied into their
+	 * destination class.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination bean, which will be used to create
+	 *            class instance to copy values from passed object
+	 * @param from
+	 *            Origin bean from where to copy values
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null.
+	 * @throws InvocationTargetException
+	 *             If method access is denied
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T copy(Class<T> toClazz, Object from, ClassMappings mappings)
+			throws InstantiationException, IllegalAccessException, InvocationTargetException {
 		if (toClazz == null)
 			throw new IllegalArgumentException("No destination bean specified");
-		Object to = toClazz.newInstance();
-		copy(to, from, false, excludeClassesMap);
+		Object to = Instantiators.newInstance(toClazz);
+		copy(to, from, false, mappings);
 		return (T) to;
 	}
 
@@ -175,415 +291,2061 @@ public class ReflectionUtil {
 	 */
 	public static void copy(final Object to, final Object from, final Map<Class<?>, Class<?>> excludeClassesMap)
 			throws InvocationTargetException {
-		copy(to, from, false, excludeClassesMap);
+		copy(to, from, false, ClassMappings.of(excludeClassesMap));
 	}
 
 	/**
-	 * This method is used to copy one bean values to another bean.
+	 * This method is used to copy one bean values to another bean. Nested beans
+	 * whose class is mapped by given {@link ClassMappings} are copied into their
+	 * destination class.
 	 * 
 	 * @param to
-	 *            : Origin bean from where to copy values
-	 * @param from
 	 *            : Destination bean where values need to be copy from origin
-	 * @param strictCopy
-	 *            boolean value denoting that copy should be in strict manner or
-	 *            not. If this is true then null values will also copied to
-	 *            destination bean from origin bean
-	 * @param excludeClassesMap
-	 *            {@link Map} map of excluded classes key-value pair. eg. key will
-	 *            be class in "to" and value will be class in "from".
+	 * @param from
+	 *            : Origin bean from where to copy values
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
 	 * @throws IllegalArgumentException
 	 *             If passed bean is null.
 	 * @throws InvocationTargetException
 	 *             If method access is denied
 	 */
-	synchronized private static void copy(final Object to, final Object from, boolean strictCopy,
-			final Map<Class<?>, Class<?>> excludeClassesMap) throws InvocationTargetException {
-		if (to == null) {
-			throw new IllegalArgumentException("No destination bean specified");
-		}
-		if (from == null) {
-			throw new IllegalArgumentException("No origin bean specified");
-		}
-		try {
-			if (checkForCollection(to, from)) {
-				copyCollection((Collection<?>) to, (Collection<?>) from, excludeClassesMap);
-			} else {
-				Class<? extends Object> toClass = to.getClass();
-				Method[] toMethods = toClass.getMethods();
-				Set<Method> toMethodsList = new LinkedHashSet<Method>(Arrays.asList(toMethods));
-
-				Class<? extends Object> fromClass = from.getClass();
-				Method[] fromMethods = fromClass.getMethods();
-				Set<Method> fromMethodsList = new LinkedHashSet<Method>(Arrays.asList(fromMethods));
-
-				Iterator<Method> fromMethodsIterator = fromMethodsList.iterator();
-				while (fromMethodsIterator.hasNext()) {
-					Method fromMethod = fromMethodsIterator.next();
-					boolean isBoolean = false;
-					Class<?> returnType = fromMethod.getReturnType();
-					if (fromMethod.getName().startsWith("is") && boolean.class.equals(returnType)) {
-						isBoolean = true;
-					}
-					if (isGetter(fromMethod, isBoolean)) {
-						Object value = null;
-						try {
-							value = fromMethod.invoke(from);
-						} catch (Exception e) {
-							throw new InvocationTargetException(e,
-									"Getter method cannot have any parameter. Error on method : "
-											+ fromMethod.getName());
-						}
-						if (strictCopy) {
-							setValues(returnType, value, fromMethod, to, toMethodsList, isBoolean, excludeClassesMap);
-						} else {
-							if (value != null) {
-								setValues(returnType, value, fromMethod, to, toMethodsList, isBoolean,
-										excludeClassesMap);
-							}
-						}
-					}
-				}
-			}
-		} catch (Exception e) {
-			e.printStackTrace();
-		} finally {
-
-		}
+	public static void copy(final Object to, final Object from, final ClassMappings mappings)
+			throws InvocationTargetException {
+		copy(to, from, false, mappings);
 	}
 
 	/**
-	 * This method is used to check method is getter or not.
+	 * This method compares origin bean with destination bean and returns the
+	 * properties which {@link #copy(Object, Object)} would change. Properties are
+	 * paired the same way as by copy and null values of origin bean are ignored.
 	 * 
-	 * @param method
-	 *            Method which needs to be check
-	 * @param isBoolean
-	 *            If the given method is primitive boolean type because getter for
-	 *            it starts with "is".
-	 * @return true is method is getter
+	 * @param to
+	 *            : Destination bean which would receive the values
+	 * @param from
+	 *            : Origin bean from where values would be copied
+	 * @return {@link BeanDelta} of changed properties
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null.
+	 * @throws InvocationTargetException
+	 *             If getter method of any bean or a converter fails
 	 */
-	private static boolean isGetter(Method method, boolean isBoolean) {
-		if (isBoolean && !method.getName().startsWith("is"))
-			return false;
-		if (!isBoolean && !method.getName().startsWith("get"))
-			return false;
-		if (method.getParameterTypes().length != 0)
-			return false;
-		if (void.class.equals(method.getReturnType()))
-			return false;
-		return true;
+	public static BeanDelta diff(final Object to, final Object from) throws InvocationTargetException {
+		return diff(to, from, false);
 	}
 
 	/**
-	 * This method is used to check method is setter or not.
+	 * This method compares origin bean with destination bean and returns the
+	 * properties which {@link #copy(Object, Object, boolean)} would change. A
+	 * property is changed when the value of origin bean is not equal to the value
+	 * of destination bean. Properties having no getter in destination class are
+	 * always reported as changed.
 	 * 
-	 * @param method
-	 *            Method which needs to be check
-	 * @return true is method is setter
+	 * @param to
+	 *            : Destination bean which would receive the values
+	 * @param from
+	 *            : Origin bean from where values would be copied
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values are also compared
+	 * @return {@link BeanDelta} of changed properties
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null.
+	 * @throws InvocationTargetException
+	 *             If getter method of any bean or a converter fails
 	 */
-	private static boolean isSetter(Method method) {
-		if (!method.getName().startsWith("set"))
-			return false;
-		if (method.getParameterTypes().length != 1)
-			return false;
-		return true;
+	public static BeanDelta diff(final Object to, final Object from, boolean strictCopy)
+			throws InvocationTargetException {
+		return diff(to, from, strictCopy, null);
 	}
 
 	/**
-	 * This method set the values to destination bean
+	 * This method compares origin bean with destination bean and returns the
+	 * properties which {@link #copy(Object, Object, ClassMappings)} would change.
+	 * Nested beans of mapped classes are always reported as changed, as the
+	 * origin bean is never equal to the destination bean.
 	 * 
-	 * @param returnType
-	 *            Return type of from class method
-	 * @param value
-	 *            value of from class getter method to be copied to destination
-	 * @param fromMethod
-	 *            method of from class
 	 * @param to
-	 *            destination class object
-	 * @param toMethodsList
-	 *            set of to class all methods
-	 * @param isBoolean
-	 *            method return type is boolean or not
+	 *            : Destination bean which would receive the values
+	 * @param from
+	 *            : Origin bean from where values would be copied
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
+	 * @return {@link BeanDelta} of changed properties
 	 * @throws IllegalArgumentException
 	 *             If passed bean is null.
 	 * @throws InvocationTargetException
-	 *             If method access is denied
-	 * @throws IllegalAccessException
-	 *             If access denied to access given class
+	 *             If getter method of any bean or a converter fails
 	 */
-	private static void setValues(Class<?> returnType, Object value, final Method fromMethod, final Object to,
-			Set<Method> toMethodsList, boolean isBoolean, Map<Class<?>, Class<?>> excludeClassesMap)
+	public static BeanDelta diff(final Object to, final Object from, final ClassMappings mappings)
 			throws InvocationTargetException {
-		if (!returnType.isPrimitive()) {
-			fromMethod.getReturnType().cast(value);
-		}
-		Iterator<Method> toMethodsIterator = toMethodsList.iterator();
-		while (toMethodsIterator.hasNext()) {
-			Method toMethod = toMethodsIterator.next();
-			if (isSetter(toMethod)) {
-				int fromSubstringIndex = 3;
-				if (isBoolean)
-					fromSubstringIndex = 2;
-				if (toMethod.getName().substring(3).equals(fromMethod.getName().substring(fromSubstringIndex))) {
-					try {
-						if (excludeClassesMap != null && value instanceof Collection) {
-							processInnerCollections(toMethod, fromMethod, value, to, excludeClassesMap);
-						} else {
-							toMethod.invoke(to, value);
-						}
-					} catch (Exception e) {
-						if (value != null) {
-							Class<?>[] parameterTypes = toMethod.getParameterTypes();
-							Class<?> pTypeClazz = parameterTypes[0];
-							if (pTypeClazz.isInstance(to)) {
-								// Instance found for same class.
-								try {
-									toMethod.invoke(to, toMethod.getDeclaringClass()
-											.cast(copy(toMethod.getDeclaringClass(), value, excludeClassesMap)));
-								} catch (Exception e1) {
-									LOGGER.error(
-											e1.getMessage() + ": Not able to copy the same instance of given object");
-									LOGGER.error(e1);
-								}
-							} else {
-								if (excludeClassesMap != null && excludeClassesMap.get(pTypeClazz) != null
-										&& excludeClassesMap.get(pTypeClazz).equals(fromMethod.getReturnType())) {
-									try {
-										toMethod.invoke(to,
-												pTypeClazz.cast(copy(pTypeClazz, value, excludeClassesMap)));
-									} catch (Exception e2) {
-										LOGGER.error(e2);
-									}
-								}
-							}
-						} else {
-							throw new InvocationTargetException(e,
-									"Data type mismatched or access specifier is wrong. Error on method: TO method = "
-											+ toMethod.getName() + " FROM method = " + fromMethod.getName());
-						}
-					}
-					toMethodsList.remove(toMethod);
-					break;
-				}
-			}
-		}
+		return diff(to, from, false, mappings);
 	}
 
 	/**
-	 * This method is used to copy collections of User Defined classes.
+	 * This method compares origin bean with destination bean and returns the
+	 * properties which a copy in given mode with given class mappings would
+	 * change, see {@link #diff(Object, Object, boolean)} and
+	 * {@link #diff(Object, Object, ClassMappings)}. The mappings are kept in the
+	 * delta and used by {@link #applyDelta(Object, BeanDelta)}.
 	 * 
-	 * @param toMethod
-	 *            method of to class
-	 * @param fromMethod
-	 *            method of from class
-	 * @param value
-	 *            - value to copy
 	 * @param to
-	 *            destination class object
-	 * @param excludeClassesMap
-	 *            {@link Map} map of excluded classes key-value pair. eg. key will
-	 *            be class in "to" and value will be class in "from".
-	 * @throws Exception
+	 *            : Destination bean which would receive the values
+	 * @param from
+	 *            : Origin bean from where values would be copied
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values are also compared
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
+	 * @return {@link BeanDelta} of changed properties
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null.
+	 * @throws InvocationTargetException
+	 *             If getter method of any bean or a converter fails
 	 */
-	@SuppressWarnings("unchecked")
-	private static void processInnerCollections(Method toMethod, Method fromMethod, Object value, Object to,
-			Map<Class<?>, Class<?>> excludeClassesMap) throws Exception {
-
-		Type[] types = toMethod.getGenericParameterTypes();
-		ParameterizedType pType = (ParameterizedType) types[0];
-		Class<?> clazz = (Class<?>) pType.getActualTypeArguments()[0];
-
-		Type type = fromMethod.getGenericReturnType();
-		ParameterizedType fpType = (ParameterizedType) type;
-		Class<?> fromSubclazz = (Class<?>) fpType.getActualTypeArguments()[0];
-		if (excludeClassesMap.get(clazz) != null && excludeClassesMap.get(clazz).equals(fromSubclazz)) {
-			if (value instanceof List) {
-				@SuppressWarnings("rawtypes")
-				List list = new ArrayList();
-				for (@SuppressWarnings("rawtypes")
-				Iterator it = ((List) value).iterator(); it.hasNext();) {
-					list.add(copy(clazz, it.next(), excludeClassesMap));
+	public static BeanDelta diff(final Object to, final Object from, boolean strictCopy,
+			final ClassMappings mappings) throws InvocationTargetException {
+		if (to == null) {
+			throw new IllegalArgumentException("No destination bean specified");
+		}
+		if (from == null) {
+			throw new IllegalArgumentException("No origin bean specified");
+		}
+		CopyPlan plan = getCopyPlan(to.getClass(), from.getClass(), strictCopy, mappings);
+		PropertyMapping[] properties = plan.getMappings();
+		PropertyGetter[] toGetters = plan.getToGetters();
+		int[] indexes = new int[properties.length];
+		Object[] values = new Object[properties.length];
+		int count = 0;
+		for (int i = 0; i < properties.length; i++) {
+			Object value;
+			try {
+				value = properties[i].getGetter().get(from);
+			} catch (Exception e) {
+				throw getterFailed(properties[i], e);
+			}
+			if (value == null && !strictCopy) {
+				continue;
+			}
+			try {
+				value = properties[i].convert(value);
+			} catch (Exception e) {
+				throw new InvocationTargetException(e, "Converter failed. Error on property : "
+						+ properties[i].getToMethod().getName().substring(3));
+			}
+			if (toGetters[i] != null) {
+				Object current;
+				try {
+					current = toGetters[i].get(to);
+				} catch (Exception e) {
+					throw new InvocationTargetException(e,
+							"Getter method of destination bean failed. Error on property : "
+									+ properties[i].getToMethod().getName().substring(3));
 				}
-				toMethod.invoke(to, list);
-			} else if (value instanceof Set) {
-				@SuppressWarnings("rawtypes")
-				Set set = new HashSet();
-				for (@SuppressWarnings("rawtypes")
-				Iterator it = ((Set) value).iterator(); it.hasNext();) {
-					set.add(copy(clazz, it.next(), excludeClassesMap));
+				if (value == null ? current == null : value.equals(current)) {
+					continue;
 				}
-				toMethod.invoke(to, set);
 			}
-		} else {
-			toMethod.invoke(to, value);
+			indexes[count] = i;
+			values[count] = value;
+			count++;
 		}
+		return new BeanDelta(plan, Arrays.copyOf(indexes, count), Arrays.copyOf(values, count));
 	}
 
 	/**
-	 * This method put the given field value into given object
+	 * This method writes the changed properties of given delta to destination
+	 * bean. Only the setters of changed properties are called, values are set the
+	 * same way as by {@link #copy(Object, Object, boolean)}, with the
+	 * {@link ClassMappings} the delta was computed with.
 	 * 
-	 * @param obj
-	 *            - object where value has to be put
-	 * @param clazz
-	 *            - class of passed object
-	 * @param fieldName
-	 *            - {@link String} field(variable) name
-	 * @param value
-	 *            - value which has to be set
+	 * @param to
+	 *            : Destination bean, of the class the delta was computed for
+	 * @param delta
+	 *            {@link BeanDelta} returned by {@link #diff(Object, Object)}
+	 * @throws IllegalArgumentException
+	 *             If passed bean or delta is null or bean is not of the class the
+	 *             delta was computed for.
+	 * @throws InvocationTargetException
+	 *             If null value can not be set
 	 */
-	public static <T> void findPut(Object obj, Class<T> clazz, String fieldName, Object value) {
-		if (clazz.isInstance(obj)) {
-			clazz.cast(obj);
+	public static void applyDelta(final Object to, BeanDelta delta) throws InvocationTargetException {
+		if (to == null) {
+			throw new IllegalArgumentException("No destination bean specified");
 		}
-		try {
-			Field field = clazz.getDeclaredField(fieldName);
-			String methodName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
-			Method setter = clazz.getMethod(methodName, field.getType());
-			setter.invoke(obj, value);
-		} catch (Exception e) {
-			LOGGER.error(e);
+		if (delta == null) {
+			throw new IllegalArgumentException("No delta specified");
+		}
+		if (to.getClass() != delta.getPlan().getToClass()) {
+			throw new IllegalArgumentException("Delta of " + delta.getPlan().getToClass().getName()
+					+ " can not be applied to " + to.getClass().getName());
+		}
+		for (int i = 0; i < delta.size(); i++) {
+			setValues(delta.getValue(i), delta.getMapping(i), to, delta.getPlan().getExcludeClassesMap());
 		}
 	}
 
 	/**
-	 * This method put the given map string key field key with their respective
-	 * value into given object
+	 * This method is used to copy one bean fields to another bean. Fields of
+	 * both classes and their super classes are matched by name and copied
+	 * directly, getter and setter methods are not called. Values are copied as
+	 * they are, nested beans are not converted.
 	 * 
-	 * @param obj
-	 *            - object where value has to be put
-	 * @param map
-	 *            - {@link Map} String key and Object value map, where key will be
-	 *            field name and object will be value for that field.
+	 * @param toClazz
+	 *            Class object of Destination bean, which will be used to create
+	 *            class instance to copy values from passed object
+	 * @param from
+	 *            Origin bean from where to copy values
+	 * @return destination bean
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+
+	 * @throws IllegalStateException
+	 *             If a field can not be read or written
 	 */
-	public static void findNPut(Object obj, Map<String, Object> map) {
-		if (obj == null || map == null || map.size() == 0) {
-			LOGGER.info("Invalid Input.");
-			return;
-		}
-		Class<?> clazz = obj.getClass();
-		if (clazz.isInstance(obj)) {
-			try {
-				clazz.cast(obj);
-				Set<String> fields = map.keySet();
-				for (Iterator<String> iterator = fields.iterator(); iterator.hasNext();) {
-					String variable = iterator.next();
-					Field field = null;
-					try {
-						field = clazz.getDeclaredField(variable);
-					} catch (Exception e) {
-						LOGGER.error(variable + " : field not found in this class hence finding in its super class.");
-						try {
-							field = clazz.getSuperclass().getDeclaredField(variable);
-						} catch (Exception e1) {
-							LOGGER.error(variable + " : field also not found in super class, hence skipping it.");
-							continue;
-						}
-					}
-					if (field != null) {
-						Method setter = null;
-						String methodName = "set" + variable.substring(0, 1).toUpperCase() + variable.substring(1);
-						try {
-							setter = clazz.getDeclaredMethod(methodName, field.getType());
-						} catch (Exception e) {
-							LOGGER.info(
-									methodName + " : method not found in this class hence finding in its super class.");
-							try {
-								setter = clazz.getSuperclass().getDeclaredMethod(methodName, field.getType());
-							} catch (Exception e1) {
-								LOGGER.info(methodName + " : method also not found in super class, hence skipping it.");
-								continue;
-							}
-						}
-						if (setter != null) {
-							setter.invoke(obj, map.get(variable));
-						}
-					}
-				}
-			} catch (Exception e) {
-				LOGGER.error("Cannot cast passed object " + obj + " to given " + clazz + " Class." + "" + e);
-			}
-		} else {
-			LOGGER.info("Sent Object " + obj + " is not an instance of passed " + clazz + " Class.");
-		}
+	public static <T> T copyFields(Class<T> toClazz, Object from)
+			throws InstantiationException, IllegalAccessException {
+		if (toClazz == null)
+			throw new IllegalArgumentException("No destination bean specified");
+		T to = Instantiators.newInstance(toClazz);
+		copyFields(to, from, false);
+		return to;
 	}
 
 	/**
-	 * This method check that to and from object are collections object or not.
+	 * This method is used to copy one bean fields to another bean. Fields of
+	 * both classes and their super classes are matched by name and copied
+	 * directly, getter and setter methods are not called. Values are copied as
+	 * they are, nested beans are not converted.
 	 * 
 	 * @param to
-	 *            - to object
+	 *            : Destination bean where values need to be copy from origin
 	 * @param from
-	 *            - from object
-	 * @exception {@link
-	 *                IllegalArgumentException} - if one is collection and other is
-	 *                not.
-	 * @return true if both are collections else if both are not collections then
-	 *         false otherwise throw {@link IllegalArgumentException}
+	 *            : Origin bean from where to copy values
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null.
+
+	 * @throws IllegalStateException
+	 *             If a field can not be read or written
 	 */
-	private static boolean checkForCollection(Object to, Object from) {
-		if (to instanceof Collection) {
-			if (from instanceof Collection) {
-				return true;
-			} else {
-				throw new IllegalArgumentException(
-						"From object found as collection but To object is not a collection.");
-			}
-		} else
-			return false;
+	public static void copyFields(final Object to, final Object from) {
+		copyFields(to, from, false);
 	}
 
 	/**
-	 * This method copy the one collection object values into another collection.
+	 * This method is used to copy one bean fields to another bean. Fields of
+	 * both classes and their super classes are matched by name and copied when
+	 * the origin value can be stored in destination field, getter and setter
+	 * methods are not called. Final and static fields are not copied. Values are
+	 * copied as they are, nested beans are not converted. Collections are copied
+	 * like {@link #copy(Object, Object)} does.
 	 * 
 	 * @param to
-	 *            - to object
+	 *            : Destination bean where values need to be copy from origin
 	 * @param from
-	 *            - from object
-	 * @param excludeClassesMap
-	 *            {@link Map} map of excluded classes key-value pair. eg. key will
-	 *            be class in "to" and value will be class in "from".
+	 *            : Origin bean from where to copy values
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values will also copied to
+	 *            destination bean from origin bean
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null.
+
+	 * @throws IllegalStateException
+	 *             If a field can not be read or written
 	 */
-	@SuppressWarnings("rawtypes")
-	private static void copyCollection(Collection<?> to, Collection<?> from,
-			Map<Class<?>, Class<?>> excludeClassesMap) {
-		if (!from.isEmpty()) {
-			if (to instanceof List && from instanceof List) {
-				copyList((List) to, (List) from, excludeClassesMap);
-			} else if (to instanceof Set && from instanceof Set) {
-				copySet((Set) to, (Set) from, excludeClassesMap);
+	public static void copyFields(final Object to, final Object from, boolean strictCopy) {
+		if (to == null) {
+			throw new IllegalArgumentException("No destination bean specified");
+		}
+		if (from == null) {
+			throw new IllegalArgumentException("No origin bean specified");
+		}
+		try {
+			if (checkForCollection(to, from)) {
+				copyCollection(to, from, null);
+			} else {
+				FieldCopyPlan.of(to.getClass(), from.getClass()).copy(to, from, strictCopy);
 			}
+		} catch (Exception e) {
+			throw new IllegalStateException(
+					"Not able to copy fields of " + from.getClass().getName() + " into " + to.getClass().getName(), e);
 		}
 	}
 
 	/**
-	 * This method copy the one list object values into another list.
+	 * This method is used to create a shallow clone of a bean. All instance
+	 * fields of the bean class and its super classes are copied as they are into
+	 * a new instance created by the no-arg constructor, getter and setter methods
+	 * are not called. The field layout of each class is resolved once.
 	 * 
-	 * @param to
-	 *            - to object
 	 * @param from
-	 *            - from object
-	 * @param excludeClassesMap
-	 *            {@link Map} map of excluded classes key-value pair. eg. key will
-	 *            be class in "to" and value will be class in "from".
+	 *            bean to clone
+	 * @return clone of the bean
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null or it is an instance of a JDK class.
+	 * @throws Exception
+	 *             If not able to create an instance of the bean class or to copy
+	 *             its fields
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private static void copyList(List to, List from, Map<Class<?>, Class<?>> excludeClassesMap) {
-		for (Object obj : from) {
-			if (obj != null) {
-				Class<?> fromListParametrizedClass = obj.getClass();
+	public static <T> T cloneBean(T from) throws Exception {
+		return cloneBean(from, 0);
+	}
+
+	/**
+	 * This method is used to clone a bean up to the given depth. All instance
+	 * fields of the bean class and its super classes are copied into a new
+	 * instance created by the no-arg constructor, getter and setter methods are
+	 * not called. Nested beans and arrays are cloned too while depth is
+	 * positive, each one once per call, so shared references and cycles are kept.
+	 * Instances of JDK classes, like {@link String} or collections, and enums are
+	 * never cloned.
+	 * 
+	 * @param from
+	 *            bean to clone
+	 * @param depth
+	 *            number of levels of nested beans and arrays to clone, 0 for a
+	 *            shallow clone
+	 * @return clone of the bean
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null or it is an instance of a JDK class, or
+	 *             depth is negative.
+	 * @throws Exception
+	 *             If not able to create an instance of a bean class or to copy
+	 *             its fields
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T cloneBean(T from, int depth) throws Exception {
+		if (from == null)
+			throw new IllegalArgumentException("No origin bean specified");
+		if (CloneLayout.isValue(from.getClass()))
+			throw new IllegalArgumentException("Not a bean class: " + from.getClass().getName());
+		if (depth < 0)
+			throw new IllegalArgumentException("Clone depth can not be negative: " + depth);
+		Map<Object, Object> clones = null;
+		if (depth > 0) {
+			clones = new IdentityHashMap<Object, Object>();
+		}
+		return (T) CloneLayout.clone(from, depth, clones);
+	}
+
+	/**
+	 * This method is used to copy a graph of beans. It copies like
+	 * {@link #copy(Class, Object)} but each nested origin bean which has to be
+	 * converted, either directly or as a List/Set element, is copied only once.
+	 * Origin beans referenced from several places share one destination bean and
+	 * cycles of origin graph are rebuilt in destination graph. Nested beans are
+	 * populated from a work queue, so deep graphs do not overflow the stack, and
+	 * may be passed to the setters before they are populated.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination bean, which will be used to create
+	 *            class instance to copy values from passed object
+	 * @param from
+	 *            Origin bean from where to copy values
+	 * @return destination bean
+	 * @throws IllegalArgumentException
+	 *             If passed class or bean is null.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <T> T deepCopy(Class<T> toClazz, Object from) throws InstantiationException, IllegalAccessException {
+		return deepCopy(toClazz, from, (ClassMappings) null);
+	}
+
+	/**
+	 * This method is used to copy a graph of beans. It copies like
+	 * {@link #copy(Class, Object, Map)} but each nested origin bean which has to
+	 * be converted, either directly or as a List/Set element, is copied only
+	 * once. Origin beans referenced from several places share one destination
+	 * bean and cycles of origin graph are rebuilt in destination graph. Nested
+	 * beans are populated from a work queue, so deep graphs do not overflow the
+	 * stack, and may be passed to the setters before they are populated. Set
+	 * elements are added once they are populated.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination bean, which will be used to create
+	 *            class instance to copy values from passed object
+	 * @param from
+	 *            Origin bean from where to copy values
+	 * @param excludeClassesMap
+	 *            {@link Map} map of excluded classes key-value pair. eg. key will
+	 *            be class in "to" and value will be class in "from".
+	 * @return destination bean
+	 * @throws IllegalArgumentException
+	 *             If passed class or bean is null.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <T> T deepCopy(Class<T> toClazz, Object from, Map<Class<?>, Class<?>> excludeClassesMap)
+			throws InstantiationException, IllegalAccessException {
+		return deepCopy(toClazz, from, ClassMappings.of(excludeClassesMap));
+	}
+
+	/**
+	 * This method is used to copy a graph of beans, see
+	 * {@link #deepCopy(Class, Object, Map)}. Nested beans whose class is mapped
+	 * by given {@link ClassMappings} are copied into their destination class.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination bean, which will be used to create
+	 *            class instance to copy values from passed object
+	 * @param from
+	 *            Origin bean from where to copy values
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
+	 * @return destination bean
+	 * @throws IllegalArgumentException
+	 *             If passed class or bean is null.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <T> T deepCopy(Class<T> toClazz, Object from, ClassMappings mappings)
+			throws InstantiationException, IllegalAccessException {
+		if (toClazz == null)
+			throw new IllegalArgumentException("No destination bean specified");
+		if (from == null)
+			throw new IllegalArgumentException("No origin bean specified");
+		CopyContext previous = CopyContext.enter();
+		try {
+			T to = new BatchCopier<T>(toClazz, false, mappings).copy(from);
+			CopyContext.current().drain();
+			return to;
+		} finally {
+			CopyContext.exit(previous);
+		}
+	}
+
+	/**
+	 * This method is used to copy a batch of beans into new beans of given class.
+	 * Getter and setter pairs are resolved once per origin class and reused for
+	 * the whole batch. A null origin bean is copied as null.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @return {@link List} of destination beans in the iteration order of origin
+	 *         beans
+	 * @throws IllegalArgumentException
+	 *             If passed class or beans are null.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <T> List<T> copyAll(Class<T> toClazz, Iterable<?> from)
+			throws InstantiationException, IllegalAccessException {
+		return copyAll(toClazz, from, false, null);
+	}
+
+	/**
+	 * This method is used to copy a batch of beans into new beans of given class.
+	 * Getter and setter pairs are resolved once per origin class and reused for
+	 * the whole batch. A null origin bean is copied as null.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values will also copied to
+	 *            destination beans from origin beans
+	 * @return {@link List} of destination beans in the iteration order of origin
+	 *         beans
+	 * @throws IllegalArgumentException
+	 *             If passed class or beans are null.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <T> List<T> copyAll(Class<T> toClazz, Iterable<?> from, boolean strictCopy)
+			throws InstantiationException, IllegalAccessException {
+		return copyAll(toClazz, from, strictCopy, null);
+	}
+
+	/**
+	 * This method is used to copy a batch of beans into new beans of given class.
+	 * Getter and setter pairs are resolved once per origin class and reused for
+	 * the whole batch. A null origin bean is copied as null.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @param excludeClassesMap
+	 *            {@link Map} map of excluded classes key-value pair. eg. key will
+	 *            be class in "to" and value will be class in "from".
+	 * @return {@link List} of destination beans in the iteration order of origin
+	 *         beans
+	 * @throws IllegalArgumentException
+	 *             If passed class or beans are null.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <T> List<T> copyAll(Class<T> toClazz, Iterable<?> from,
+			Map<Class<?>, Class<?>> excludeClassesMap) throws InstantiationException, IllegalAccessException {
+		return copyAll(toClazz, from, false, ClassMappings.of(excludeClassesMap));
+	}
+
+	/**
+	 * This method is used to copy a batch of beans into new beans of given class.
+	 * Getter and setter pairs are resolved once per origin class and reused for
+	 * the whole batch. A null origin bean is copied as null.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
+	 * @return {@link List} of destination beans in the iteration order of origin
+	 *         beans
+	 * @throws IllegalArgumentException
+	 *             If passed class or beans are null.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <T> List<T> copyAll(Class<T> toClazz, Iterable<?> from, ClassMappings mappings)
+			throws InstantiationException, IllegalAccessException {
+		return copyAll(toClazz, from, false, mappings);
+	}
+
+	/**
+	 * This method is used to copy an array into a new array of given class. An
+	 * array of primitives, or of the same or a sub class of destination
+	 * component type, is copied by {@link System#arraycopy}, boxing, unboxing or
+	 * widening the elements when the component types differ, eg.
+	 * <code>int[]</code> into <code>long[]</code>. Elements of an object array
+	 * which are not instances of destination component type are copied into new
+	 * beans of it, like {@link #copyAll(Class, Iterable)} does. A null element is
+	 * copied as null.
+	 * 
+	 * <pre>
+	 * UserDto[] users = ReflectionUtil.copyArray(UserDto[].class, entities);
+	 * long[] ids = ReflectionUtil.copyArray(long[].class, intIds);
+	 * </pre>
+	 * 
+	 * @param toArrayClazz
+	 *            Class object of Destination array, eg. <code>UserDto[].class</code>
+	 * @param from
+	 *            Origin array from where to copy elements
+	 * @return new destination array of the length of origin array
+	 * @throws IllegalArgumentException
+	 *             If passed class or origin is null or not an array, or a
+	 *             primitive element can not be stored in destination array.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of destination component type
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <A> A copyArray(Class<A> toArrayClazz, Object from)
+			throws InstantiationException, IllegalAccessException {
+		return copyArray(toArrayClazz, from, (ClassMappings) null);
+	}
+
+	/**
+	 * This method is used to copy an array into a new array of given class. It
+	 * copies like {@link #copyArray(Class, Object)} but elements whose class is
+	 * excluded are copied into their destination class, if it is assignable to
+	 * destination component type.
+	 * 
+	 * @param toArrayClazz
+	 *            Class object of Destination array, eg. <code>UserDto[].class</code>
+	 * @param from
+	 *            Origin array from where to copy elements
+	 * @param excludeClassesMap
+	 *            {@link Map} map of excluded classes key-value pair. eg. key will
+	 *            be class in "to" and value will be class in "from".
+	 * @return new destination array of the length of origin array
+	 * @throws IllegalArgumentException
+	 *             If passed class or origin is null or not an array, or a
+	 *             primitive element can not be stored in destination array.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of destination component type
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <A> A copyArray(Class<A> toArrayClazz, Object from, Map<Class<?>, Class<?>> excludeClassesMap)
+			throws InstantiationException, IllegalAccessException {
+		return copyArray(toArrayClazz, from, ClassMappings.of(excludeClassesMap));
+	}
+
+	/**
+	 * This method is used to copy an array into a new array of given class. It
+	 * copies like {@link #copyArray(Class, Object)} but elements whose class is
+	 * mapped by given {@link ClassMappings} are copied into their destination
+	 * class, if it is assignable to destination component type.
+	 * 
+	 * @param toArrayClazz
+	 *            Class object of Destination array, eg. <code>UserDto[].class</code>
+	 * @param from
+	 *            Origin array from where to copy elements
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
+	 * @return new destination array of the length of origin array
+	 * @throws IllegalArgumentException
+	 *             If passed class or origin is null or not an array, or a
+	 *             primitive element can not be stored in destination array.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of destination component type
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <A> A copyArray(Class<A> toArrayClazz, Object from, ClassMappings mappings)
+			throws InstantiationException, IllegalAccessException {
+		if (toArrayClazz == null || !toArrayClazz.isArray())
+			throw new IllegalArgumentException("No destination array class specified");
+		if (from == null || !from.getClass().isArray())
+			throw new IllegalArgumentException("No origin array specified");
+		return toArrayClazz.cast(copyArray(from, toArrayClazz.getComponentType(), mappings));
+	}
+
+	/**
+	 * This method copies an array into a new array of given component type, see
+	 * {@link #copyArray(Class, Object, Map)}.
+	 */
+	private static Object copyArray(Object from, Class<?> componentType, ClassMappings excludeClassesMap)
+			throws InstantiationException, IllegalAccessException {
+		Class<?> fromComponentType = from.getClass().getComponentType();
+		if (componentType.isPrimitive() || fromComponentType.isPrimitive()
+				|| excludeClassesMap == null && componentType.isAssignableFrom(fromComponentType)) {
+			return Containers.copyArray(from, componentType);
+		}
+		Object[] source = (Object[]) from;
+		Object[] to = (Object[]) Array.newInstance(componentType, source.length);
+		ElementCopier copier = new ElementCopier(null);
+		for (int i = 0; i < source.length; i++) {
+			Object element = source[i];
+			if (element != null) {
+				Class<?> destination = excludeClassesMap == null ? null
+						: excludeClassesMap.getDestination(element.getClass());
+				if (destination != null && componentType.isAssignableFrom(destination)) {
+					to[i] = copier.copyInto(destination, element);
+				} else if (componentType.isInstance(element)) {
+					to[i] = element;
+				} else {
+					to[i] = copier.copyInto(componentType, element);
+				}
+			}
+		}
+		return to;
+	}
+
+	/**
+	 * This method is used to copy a large batch of beans into new beans of given
+	 * class using {@link ForkJoinPool#commonPool()}. Origin beans are split in
+	 * ranges of {@link #DEFAULT_PARALLEL_THRESHOLD} beans which are copied in
+	 * parallel. Destination list keeps the order of origin beans and a null
+	 * origin bean is copied as null.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @return {@link List} of destination beans in the iteration order of origin
+	 *         beans
+	 * @throws IllegalArgumentException
+	 *             If passed class or beans are null.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <T> List<T> copyAllParallel(Class<T> toClazz, Collection<?> from)
+			throws InstantiationException, IllegalAccessException {
+		return copyAllParallel(toClazz, from, false, (ClassMappings) null, ForkJoinPool.commonPool(),
+				DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * This method is used to copy a large batch of beans into new beans of given
+	 * class using given pool. Origin beans are split in ranges of at most
+	 * threshold beans which are copied in parallel. Destination list keeps the
+	 * order of origin beans and a null origin bean is copied as null.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @param pool
+	 *            {@link ForkJoinPool} which copies the ranges
+	 * @param threshold
+	 *            maximum number of beans copied by one task, batches up to this
+	 *            size are copied in calling thread
+	 * @return {@link List} of destination beans in the iteration order of origin
+	 *         beans
+	 * @throws IllegalArgumentException
+	 *             If passed class, beans or pool is null or threshold is not
+	 *             positive.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <T> List<T> copyAllParallel(Class<T> toClazz, Collection<?> from, ForkJoinPool pool,
+			int threshold) throws InstantiationException, IllegalAccessException {
+		return copyAllParallel(toClazz, from, false, (ClassMappings) null, pool, threshold);
+	}
+
+	/**
+	 * This method is used to copy a large batch of beans into new beans of given
+	 * class using given pool. Origin beans are split in ranges of at most
+	 * threshold beans which are copied in parallel. Destination list keeps the
+	 * order of origin beans and a null origin bean is copied as null.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values will also copied to
+	 *            destination beans from origin beans
+	 * @param excludeClassesMap
+	 *            {@link Map} map of excluded classes key-value pair. eg. key will
+	 *            be class in "to" and value will be class in "from".
+	 * @param pool
+	 *            {@link ForkJoinPool} which copies the ranges
+	 * @param threshold
+	 *            maximum number of beans copied by one task, batches up to this
+	 *            size are copied in calling thread
+	 * @return {@link List} of destination beans in the iteration order of origin
+	 *         beans
+	 * @throws IllegalArgumentException
+	 *             If passed class, beans or pool is null or threshold is not
+	 *             positive.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <T> List<T> copyAllParallel(Class<T> toClazz, Collection<?> from, boolean strictCopy,
+			Map<Class<?>, Class<?>> excludeClassesMap, ForkJoinPool pool, int threshold)
+			throws InstantiationException, IllegalAccessException {
+		return copyAllParallel(toClazz, from, strictCopy, ClassMappings.of(excludeClassesMap), pool, threshold);
+	}
+
+	/**
+	 * This method is used to copy a large batch of beans into new beans of given
+	 * class using given pool, see
+	 * {@link #copyAllParallel(Class, Collection, boolean, Map, ForkJoinPool, int)}.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values will also copied to
+	 *            destination beans from origin beans
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
+	 * @param pool
+	 *            {@link ForkJoinPool} which copies the ranges
+	 * @param threshold
+	 *            maximum number of beans copied by one task, batches up to this
+	 *            size are copied in calling thread
+	 * @return {@link List} of destination beans in the iteration order of origin
+	 *         beans
+	 * @throws IllegalArgumentException
+	 *             If passed class, beans or pool is null or threshold is not
+	 *             positive.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 * @throws IllegalStateException
+	 *             If a property of an origin bean can not be copied
+	 */
+	public static <T> List<T> copyAllParallel(Class<T> toClazz, Collection<?> from, boolean strictCopy,
+			ClassMappings mappings, ForkJoinPool pool, int threshold)
+			throws InstantiationException, IllegalAccessException {
+		if (pool == null)
+			throw new IllegalArgumentException("No fork/join pool specified");
+		if (threshold < 1)
+			throw new IllegalArgumentException("Parallel threshold must be positive: " + threshold);
+		if (from == null || from.size() <= threshold)
+			return copyAll(toClazz, from, strictCopy, mappings);
+		if (toClazz == null)
+			throw new IllegalArgumentException("No destination bean specified");
+		Object[] source = from.toArray();
+		List<T> to = new ArrayList<T>(Collections.<T> nCopies(source.length, null));
+		ParallelCopyTask<T> task = new ParallelCopyTask<T>(toClazz, strictCopy, mappings, source, to, threshold);
+		pool.invoke(task);
+		task.rethrowFailure();
+		return to;
+	}
+
+	/**
+	 * This method is used to copy one bean asynchronously in given executor. It
+	 * is meant for origin beans whose getters block, eg. load data lazily, so the
+	 * copy does not hold calling thread. On JDK 21 or later an executor of
+	 * virtual threads, <code>Executors.newVirtualThreadPerTaskExecutor()</code>,
+	 * can be passed.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination bean, which will be used to create
+	 *            class instance to copy values from passed object
+	 * @param from
+	 *            Origin bean from where to copy values
+	 * @param executor
+	 *            {@link Executor} which runs the copy
+	 * @return {@link CompletableFuture} of destination bean, completed
+	 *         exceptionally if the destination bean can not be created
+	 * @throws IllegalArgumentException
+	 *             If passed class, bean or executor is null.
+	 */
+	public static <T> CompletableFuture<T> copyAsync(Class<T> toClazz, Object from, Executor executor) {
+		return copyAsync(toClazz, from, (ClassMappings) null, executor);
+	}
+
+	/**
+	 * This method is used to copy one bean asynchronously in given executor, like
+	 * {@link #copyAsync(Class, Object, Executor)} does, converting the beans of
+	 * excluded classes.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination bean, which will be used to create
+	 *            class instance to copy values from passed object
+	 * @param from
+	 *            Origin bean from where to copy values
+	 * @param excludeClassesMap
+	 *            {@link Map} map of excluded classes key-value pair. eg. key will
+	 *            be class in "to" and value will be class in "from".
+	 * @param executor
+	 *            {@link Executor} which runs the copy
+	 * @return {@link CompletableFuture} of destination bean, completed
+	 *         exceptionally if the destination bean can not be created
+	 * @throws IllegalArgumentException
+	 *             If passed class, bean or executor is null.
+	 */
+	public static <T> CompletableFuture<T> copyAsync(Class<T> toClazz, Object from,
+			Map<Class<?>, Class<?>> excludeClassesMap, Executor executor) {
+		return copyAsync(toClazz, from, ClassMappings.of(excludeClassesMap), executor);
+	}
+
+	/**
+	 * This method is used to copy one bean asynchronously in given executor, like
+	 * {@link #copyAsync(Class, Object, Executor)} does, converting the beans of
+	 * classes mapped by given {@link ClassMappings}.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination bean, which will be used to create
+	 *            class instance to copy values from passed object
+	 * @param from
+	 *            Origin bean from where to copy values
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
+	 * @param executor
+	 *            {@link Executor} which runs the copy
+	 * @return {@link CompletableFuture} of destination bean, completed
+	 *         exceptionally if the destination bean can not be created
+	 * @throws IllegalArgumentException
+	 *             If passed class, bean or executor is null.
+	 */
+	public static <T> CompletableFuture<T> copyAsync(final Class<T> toClazz, final Object from,
+			final ClassMappings mappings, Executor executor) {
+		if (toClazz == null)
+			throw new IllegalArgumentException("No destination bean specified");
+		if (from == null)
+			throw new IllegalArgumentException("No origin bean specified");
+		if (executor == null)
+			throw new IllegalArgumentException("No executor specified");
+		return CompletableFuture.supplyAsync(new Supplier<T>() {
+			@Override
+			public T get() {
+				return new BatchCopier<T>(toClazz, false, mappings).apply(from);
+			}
+		}, executor);
+	}
+
+	/**
+	 * This method is used to copy a batch of beans asynchronously in given
+	 * executor. At most <code>maxConcurrency</code> tasks are submitted, each
+	 * copying the next origin bean not yet taken until none is left, so no more
+	 * than that many beans are copied at once whatever the size of the batch.
+	 * It is meant for origin beans whose getters block, eg. load data lazily,
+	 * so their waits overlap instead of adding up. On JDK 21 or later an
+	 * executor of virtual threads,
+	 * <code>Executors.newVirtualThreadPerTaskExecutor()</code>, can be passed.
+	 * <p>
+	 * Destination list keeps the order of origin beans and a null origin bean is
+	 * copied as null. On first failure the future is completed exceptionally and
+	 * the remaining beans are not copied, as they are not if the future is
+	 * cancelled.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @param executor
+	 *            {@link Executor} which runs the copies
+	 * @param maxConcurrency
+	 *            maximum number of beans copied at once
+	 * @return {@link CompletableFuture} of the {@link List} of destination beans
+	 *         in the iteration order of origin beans
+	 * @throws IllegalArgumentException
+	 *             If passed class, beans or executor is null or maxConcurrency
+	 *             is not positive.
+	 */
+	public static <T> CompletableFuture<List<T>> copyAllAsync(Class<T> toClazz, Collection<?> from,
+			Executor executor, int maxConcurrency) {
+		return copyAllAsync(toClazz, from, false, (ClassMappings) null, executor, maxConcurrency);
+	}
+
+	/**
+	 * This method is used to copy a batch of beans asynchronously in given
+	 * executor, see {@link #copyAllAsync(Class, Collection, Executor, int)}.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values will also copied to
+	 *            destination beans from origin beans
+	 * @param excludeClassesMap
+	 *            {@link Map} map of excluded classes key-value pair. eg. key will
+	 *            be class in "to" and value will be class in "from".
+	 * @param executor
+	 *            {@link Executor} which runs the copies
+	 * @param maxConcurrency
+	 *            maximum number of beans copied at once
+	 * @return {@link CompletableFuture} of the {@link List} of destination beans
+	 *         in the iteration order of origin beans
+	 * @throws IllegalArgumentException
+	 *             If passed class, beans or executor is null or maxConcurrency
+	 *             is not positive.
+	 */
+	public static <T> CompletableFuture<List<T>> copyAllAsync(Class<T> toClazz, Collection<?> from,
+			boolean strictCopy, Map<Class<?>, Class<?>> excludeClassesMap, Executor executor, int maxConcurrency) {
+		return copyAllAsync(toClazz, from, strictCopy, ClassMappings.of(excludeClassesMap), executor, maxConcurrency);
+	}
+
+	/**
+	 * This method is used to copy a batch of beans asynchronously in given
+	 * executor, see {@link #copyAllAsync(Class, Collection, Executor, int)}.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values will also copied to
+	 *            destination beans from origin beans
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
+	 * @param executor
+	 *            {@link Executor} which runs the copies
+	 * @param maxConcurrency
+	 *            maximum number of beans copied at once
+	 * @return {@link CompletableFuture} of the {@link List} of destination beans
+	 *         in the iteration order of origin beans
+	 * @throws IllegalArgumentException
+	 *             If passed class, beans or executor is null or maxConcurrency
+	 *             is not positive.
+	 */
+	public static <T> CompletableFuture<List<T>> copyAllAsync(Class<T> toClazz, Collection<?> from,
+			boolean strictCopy, ClassMappings mappings, Executor executor, int maxConcurrency) {
+		if (toClazz == null)
+			throw new IllegalArgumentException("No destination bean specified");
+		if (from == null)
+			throw new IllegalArgumentException("No origin bean specified");
+		if (executor == null)
+			throw new IllegalArgumentException("No executor specified");
+		if (maxConcurrency < 1)
+			throw new IllegalArgumentException("Maximum concurrency must be positive: " + maxConcurrency);
+		Object[] source = from.toArray();
+		List<T> to = new ArrayList<T>(Collections.<T> nCopies(source.length, null));
+		CompletableFuture<List<T>> result = new CompletableFuture<List<T>>();
+		if (source.length == 0) {
+			result.complete(to);
+			return result;
+		}
+		int workers = Math.min(maxConcurrency, source.length);
+		AsyncCopyTask<T> task = new AsyncCopyTask<T>(toClazz, strictCopy, mappings, source, to, result, workers);
+		try {
+			for (int i = 0; i < workers; i++) {
+				executor.execute(task);
+			}
+		} catch (RuntimeException e) {
+			result.completeExceptionally(e);
+		}
+		return result;
+	}
+
+	/**
+	 * This method is used to copy beans lazily. Each bean of the origin iterator
+	 * is copied into a new bean of given class when it is returned by the
+	 * destination iterator, so no more than one bean is held at a time. A null
+	 * origin bean is copied as null.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            {@link Iterator} of origin beans from where to copy values
+	 * @return {@link Iterator} of destination beans, {@link Iterator#remove()}
+	 *         removes from origin iterator
+	 * @throws IllegalArgumentException
+	 *             If passed class or iterator is null.
+	 * @throws IllegalStateException
+	 *             From {@link Iterator#next()} if not able to create an instance
+	 *             of an passed toClass or to copy a property of the origin bean
+	 */
+	public static <T> Iterator<T> copyIterator(Class<T> toClazz, Iterator<?> from) {
+		return copyIterator(toClazz, from, false, (ClassMappings) null);
+	}
+
+	/**
+	 * This method is used to copy beans lazily. Each bean of the origin iterator
+	 * is copied into a new bean of given class when it is returned by the
+	 * destination iterator, so no more than one bean is held at a time. A null
+	 * origin bean is copied as null.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            {@link Iterator} of origin beans from where to copy values
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values will also copied to
+	 *            destination beans from origin beans
+	 * @param excludeClassesMap
+	 *            {@link Map} map of excluded classes key-value pair. eg. key will
+	 *            be class in "to" and value will be class in "from".
+	 * @return {@link Iterator} of destination beans, {@link Iterator#remove()}
+	 *         removes from origin iterator
+	 * @throws IllegalArgumentException
+	 *             If passed class or iterator is null.
+	 * @throws IllegalStateException
+	 *             From {@link Iterator#next()} if not able to create an instance
+	 *             of an passed toClass or to copy a property of the origin bean
+	 */
+	public static <T> Iterator<T> copyIterator(Class<T> toClazz, Iterator<?> from, boolean strictCopy,
+			Map<Class<?>, Class<?>> excludeClassesMap) {
+		return copyIterator(toClazz, from, strictCopy, ClassMappings.of(excludeClassesMap));
+	}
+
+	/**
+	 * This method is used to copy beans lazily, see
+	 * {@link #copyIterator(Class, Iterator, boolean, Map)}.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            {@link Iterator} of origin beans from where to copy values
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values will also copied to
+	 *            destination beans from origin beans
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
+	 * @return {@link Iterator} of destination beans, {@link Iterator#remove()}
+	 *         removes from origin iterator
+	 * @throws IllegalArgumentException
+	 *             If passed class or iterator is null.
+	 * @throws IllegalStateException
+	 *             From {@link Iterator#next()} if not able to create an instance
+	 *             of an passed toClass or to copy a property of the origin bean
+	 */
+	public static <T> Iterator<T> copyIterator(Class<T> toClazz, Iterator<?> from, boolean strictCopy,
+			ClassMappings mappings) {
+		if (toClazz == null)
+			throw new IllegalArgumentException("No destination bean specified");
+		if (from == null)
+			throw new IllegalArgumentException("No origin bean specified");
+		return new CopyIterator<T>(from, new BatchCopier<T>(toClazz, strictCopy, mappings));
+	}
+
+	/**
+	 * This method is used to copy beans lazily. It returns a sequential
+	 * {@link Stream} which copies each bean of given {@link Iterable} when it is
+	 * consumed. A null origin bean is copied as null.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            Origin beans from where to copy values
+	 * @return {@link Stream} of destination beans
+	 * @throws IllegalArgumentException
+	 *             If passed class or beans are null.
+	 * @throws IllegalStateException
+	 *             From terminal operation of the stream if not able to create an
+	 *             instance of an passed toClass or to copy a property of the
+	 *             origin bean
+	 */
+	public static <T> Stream<T> copyStream(Class<T> toClazz, Iterable<?> from) {
+		if (from == null)
+			throw new IllegalArgumentException("No origin bean specified");
+		return copyStream(toClazz, StreamSupport.stream(from.spliterator(), false), false, (ClassMappings) null);
+	}
+
+	/**
+	 * This method is used to copy beans lazily. It returns a {@link Stream} which
+	 * copies each bean of given stream when it is consumed. A null origin bean is
+	 * copied as null.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            {@link Stream} of origin beans from where to copy values
+	 * @return {@link Stream} of destination beans
+	 * @throws IllegalArgumentException
+	 *             If passed class or stream is null.
+	 * @throws IllegalStateException
+	 *             From terminal operation of the stream if not able to create an
+	 *             instance of an passed toClass or to copy a property of the
+	 *             origin bean
+	 */
+	public static <T> Stream<T> copyStream(Class<T> toClazz, Stream<?> from) {
+		return copyStream(toClazz, from, false, (ClassMappings) null);
+	}
+
+	/**
+	 * This method is used to copy beans lazily. It returns a {@link Stream} which
+	 * copies each bean of given stream when it is consumed. The returned stream
+	 * is parallel if given stream is parallel. A null origin bean is copied as
+	 * null. A terminal operation which does not consume the beans, like
+	 * {@link Stream#count()} of a sized stream, copies none of them.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            {@link Stream} of origin beans from where to copy values
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values will also copied to
+	 *            destination beans from origin beans
+	 * @param excludeClassesMap
+	 *            {@link Map} map of excluded classes key-value pair. eg. key will
+	 *            be class in "to" and value will be class in "from".
+	 * @return {@link Stream} of destination beans
+	 * @throws IllegalArgumentException
+	 *             If passed class or stream is null.
+	 * @throws IllegalStateException
+	 *             From terminal operation of the stream if not able to create an
+	 *             instance of an passed toClass or to copy a property of the
+	 *             origin bean
+	 */
+	public static <T> Stream<T> copyStream(Class<T> toClazz, Stream<?> from, boolean strictCopy,
+			Map<Class<?>, Class<?>> excludeClassesMap) {
+		return copyStream(toClazz, from, strictCopy, ClassMappings.of(excludeClassesMap));
+	}
+
+	/**
+	 * This method is used to copy beans lazily, see
+	 * {@link #copyStream(Class, Stream, boolean, Map)}.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination beans, which will be used to create
+	 *            class instances to copy values from passed objects
+	 * @param from
+	 *            {@link Stream} of origin beans from where to copy values
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values will also copied to
+	 *            destination beans from origin beans
+	 * @param mappings
+	 *            {@link ClassMappings} of origin class to destination class, may
+	 *            be null
+	 * @return {@link Stream} of destination beans
+	 * @throws IllegalArgumentException
+	 *             If passed class or stream is null.
+	 * @throws IllegalStateException
+	 *             From terminal operation of the stream if not able to create an
+	 *             instance of an passed toClass or to copy a property of the
+	 *             origin bean
+	 */
+	public static <T> Stream<T> copyStream(Class<T> toClazz, Stream<?> from, boolean strictCopy,
+			ClassMappings mappings) {
+		if (toClazz == null)
+			throw new IllegalArgumentException("No destination bean specified");
+		if (from == null)
+			throw new IllegalArgumentException("No origin bean specified");
+		return from.map(new BatchCopier<T>(toClazz, strictCopy, mappings));
+	}
+
+	/**
+	 * This method is used to copy a batch of beans into a new list, presized when
+	 * the origin beans are a {@link Collection}.
+	 */
+	private static <T> List<T> copyAll(Class<T> toClazz, Iterable<?> from, boolean strictCopy,
+			ClassMappings excludeClassesMap) throws InstantiationException, IllegalAccessException {
+		if (toClazz == null)
+			throw new IllegalArgumentException("No destination bean specified");
+		if (from == null)
+			throw new IllegalArgumentException("No origin bean specified");
+		List<T> to;
+		if (from instanceof Collection) {
+			to = new ArrayList<T>(((Collection<?>) from).size());
+		} else {
+			to = new ArrayList<T>();
+		}
+		copyAll(to, toClazz, from, strictCopy, excludeClassesMap);
+		return to;
+	}
+
+	/**
+	 * This method copies each origin bean into a new bean of given class and adds
+	 * it to given collection. A {@link RandomAccess} list is read by index.
+	 */
+	private static <T> void copyAll(Collection<? super T> to, Class<T> toClazz, Iterable<?> from,
+			boolean strictCopy, ClassMappings excludeClassesMap)
+			throws InstantiationException, IllegalAccessException {
+		BatchCopier<T> copier = new BatchCopier<T>(toClazz, strictCopy, excludeClassesMap);
+		if (from instanceof Collection && Containers.isIndexed((Collection<?>) from)) {
+			List<?> list = (List<?>) from;
+			for (int i = 0, size = list.size(); i < size; i++) {
+				Object bean = list.get(i);
+				to.add(bean == null ? null : copier.copy(bean));
+			}
+		} else {
+			for (Object bean : from) {
+				to.add(bean == null ? null : copier.copy(bean));
+			}
+		}
+	}
+
+	/**
+	 * This method is used to copy one bean values to another bean.
+	 * 
+	 * @param to
+	 *            : Origin bean from where to copy values
+	 * @param from
+	 *            : Destination bean where values need to be copy from origin
+	 * @param strictCopy
+	 *            boolean value denoting that copy should be in strict manner or
+	 *            not. If this is true then null values will also copied to
+	 *            destination bean from origin bean
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null.
+	 * @throws InvocationTargetException
+	 *             If method access is denied
+	 */
+	private static void copy(final Object to, final Object from, boolean strictCopy,
+			final ClassMappings excludeClassesMap) throws InvocationTargetException {
+		if (to == null) {
+			throw new IllegalArgumentException("No destination bean specified");
+		}
+		if (from == null) {
+			throw new IllegalArgumentException("No origin bean specified");
+		}
+		try {
+			if (checkForCollection(to, from)) {
+				copyCollection(to, from, excludeClassesMap);
+			} else {
+				copyProperties(to, from, getCopyPlan(to.getClass(), from.getClass(), strictCopy, excludeClassesMap));
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+		} finally {
+
+		}
+	}
+
+	/**
+	 * This method copies all properties of given plan from origin bean to
+	 * destination bean.
+	 * 
+	 * @param to
+	 *            destination bean of {@link CopyPlan#getToClass()}
+	 * @param from
+	 *            origin bean of {@link CopyPlan#getFromClass()}
+	 * @param plan
+	 *            resolved {@link CopyPlan} of both beans
+	 * @throws Exception
+	 *             If any getter fails or null value can not be set
+	 */
+	private static void copyProperties(final Object to, final Object from, CopyPlan plan) throws Exception {
+		GeneratedCopier copier = plan.getCopier();
+		if (copier != null) {
+			copier.copyProperties(to, from);
+		} else {
+			PropertyMapping[] mappings = plan.getMappings();
+			boolean strictCopy = plan.isStrictCopy();
+			ClassMappings excludeClassesMap = plan.getExcludeClassesMap();
+			for (int i = 0; i < mappings.length; i++) {
+				copyProperty(mappings[i], to, from, strictCopy, excludeClassesMap);
+			}
+		}
+	}
+
+	/**
+	 * This method returns the cached copy plan of given classes, creating it on
+	 * first use.
+	 * 
+	 * @param toClass
+	 *            destination class
+	 * @param fromClass
+	 *            origin class
+	 * @param strictCopy
+	 *            strict copy flag
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @return {@link CopyPlan} with resolved getter and setter pairs
+	 */
+	private static CopyPlan getCopyPlan(Class<?> toClass, Class<?> fromClass, boolean strictCopy,
+			ClassMappings excludeClassesMap) {
+		return CopyPlan.of(toClass, fromClass, strictCopy, excludeClassesMap, accessorBackend);
+	}
+
+	/**
+	 * This method copies one resolved property from origin bean to destination
+	 * bean.
+	 * 
+	 * @param mapping
+	 *            resolved getter of from class and setter of to class
+	 * @param to
+	 *            destination class object
+	 * @param from
+	 *            origin class object
+	 * @param strictCopy
+	 *            if true then null value will also be copied
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @throws InvocationTargetException
+	 *             If getter method fails or null value can not be set
+	 */
+	static void copyProperty(PropertyMapping mapping, final Object to, final Object from, boolean strictCopy,
+			ClassMappings excludeClassesMap) throws InvocationTargetException {
+		PrimitiveTransfer primitiveTransfer = mapping.getPrimitiveTransfer();
+		if (primitiveTransfer != null) {
+			primitiveTransfer.transfer(mapping, to, from, excludeClassesMap);
+			return;
+		}
+		Object value = null;
+		try {
+			value = mapping.getGetter().get(from);
+		} catch (Exception e) {
+			throw getterFailed(mapping, e);
+		}
+		if (mapping.getConverter() != null && value != null) {
+			try {
+				value = mapping.convert(value);
+			} catch (Exception e) {
+				setValueFailed(value, mapping, to, e, excludeClassesMap);
+				return;
+			}
+		}
+		if (strictCopy) {
+			setValues(value, mapping, to, excludeClassesMap);
+		} else {
+			if (value != null) {
+				setValues(value, mapping, to, excludeClassesMap);
+			}
+		}
+	}
+
+	/**
+	 * This method creates the exception reported when getter of origin bean
+	 * fails.
+	 * 
+	 * @param mapping
+	 *            resolved getter of from class and setter of to class
+	 * @param e
+	 *            exception thrown by the getter
+	 * @return {@link InvocationTargetException} to throw
+	 */
+	static InvocationTargetException getterFailed(PropertyMapping mapping, Exception e) {
+		return new InvocationTargetException(e,
+				"Getter method cannot have any parameter. Error on method : " + mapping.getFromMethod().getName());
+	}
+
+	/**
+	 * This method set the values to destination bean
+	 * 
+	 * @param value
+	 *            value of from class getter method to be copied to destination
+	 * @param mapping
+	 *            resolved getter of from class and setter of to class
+	 * @param to
+	 *            destination class object
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null.
+	 * @throws InvocationTargetException
+	 *             If method access is denied
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 */
+	private static void setValues(Object value, PropertyMapping mapping, final Object to,
+			ClassMappings excludeClassesMap) throws InvocationTargetException {
+		PropertySetter setter = mapping.getSetter();
+		try {
+			if (excludeClassesMap != null
+					&& (value instanceof Collection || value instanceof Map || value instanceof Object[])) {
+				processInnerCollections(mapping, value, to, excludeClassesMap);
+			} else {
+				setter.set(to, value);
+			}
+		} catch (Exception e) {
+			setValueFailed(value, mapping, to, e, excludeClassesMap);
+		}
+	}
+
+	/**
+	 * This method is called when setter of destination bean does not accept the
+	 * value. If the value is a bean of same or excluded class then its copy is set,
+	 * otherwise the failure is reported.
+	 * 
+	 * @param value
+	 *            value of from class getter method which was not accepted
+	 * @param mapping
+	 *            resolved getter of from class and setter of to class
+	 * @param to
+	 *            destination class object
+	 * @param e
+	 *            exception thrown while setting the value
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @throws InvocationTargetException
+	 *             If null value can not be set
+	 */
+	static void setValueFailed(Object value, PropertyMapping mapping, final Object to, Exception e,
+			ClassMappings excludeClassesMap) throws InvocationTargetException {
+		PropertySetter setter = mapping.getSetter();
+		if (value != null) {
+			Class<?> pTypeClazz = mapping.getParameterType();
+			if (pTypeClazz.isInstance(to)) {
+				// Instance found for same class.
+				Class<?> declaringClass = mapping.getToMethod().getDeclaringClass();
 				try {
-					if (excludeClassesMap != null && excludeClassesMap.get(fromListParametrizedClass) != null) {
-						Object convertedObj = ReflectionUtil.copy(excludeClassesMap.get(fromListParametrizedClass),
-								obj);
-						to.add(convertedObj);
-					} else {
-						to.add(obj);
+					setter.set(to, declaringClass.cast(copyNested(declaringClass, value, excludeClassesMap)));
+				} catch (Exception e1) {
+					LOGGER.error(e1.getMessage() + ": Not able to copy the same instance of given object");
+					LOGGER.error(e1);
+				}
+			} else {
+				Class<?> destination = excludeClassesMap == null ? null
+						: excludeClassesMap.getDestination(value.getClass());
+				if (destination != null && pTypeClazz.isAssignableFrom(destination)) {
+					try {
+						setter.set(to, pTypeClazz.cast(copyNested(destination, value, excludeClassesMap)));
+					} catch (Exception e2) {
+						LOGGER.error(e2);
 					}
-				} catch (Exception e) {
-					LOGGER.error(e);
-					LOGGER.error("Exception while copying list data: + " + obj);
 				}
 			}
+		} else {
+			throw new InvocationTargetException(e,
+					"Data type mismatched or access specifier is wrong. Error on method: TO method = "
+							+ mapping.getToMethod().getName() + " FROM method = " + mapping.getFromMethod().getName());
+		}
+	}
+
+	/**
+	 * This method copies a nested bean which is not accepted as it is by the
+	 * setter of destination bean. Inside {@link #deepCopy(Class, Object, Map)} an
+	 * origin bean already copied is not copied again.
+	 * 
+	 * @param toClazz
+	 *            class of destination bean
+	 * @param from
+	 *            nested origin bean
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @return destination bean
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 */
+	private static <T> T copyNested(Class<T> toClazz, Object from, ClassMappings excludeClassesMap)
+			throws InstantiationException, IllegalAccessException {
+		return new BatchCopier<T>(toClazz, false, excludeClassesMap).copy(from);
+	}
+
+	/**
+	 * This method is used to copy collections, maps and object arrays of User
+	 * Defined classes. The resolved generic types of the getter and setter decide
+	 * which elements, keys and values are copied, at any depth of nested
+	 * collections, arrays and maps, see
+	 * {@link #copyGeneric(Object, GenericType, GenericType, ClassMappings)}.
+	 * 
+	 * @param mapping
+	 *            resolved getter of from class and setter of to class
+	 * @param value
+	 *            - value to copy
+	 * @param to
+	 *            destination class object
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @throws Exception
+	 */
+	private static void processInnerCollections(PropertyMapping mapping, Object value, Object to,
+			ClassMappings excludeClassesMap) throws Exception {
+		GenericType fromType = mapping.getFromType();
+		GenericType toType = mapping.getToType();
+		if (!fromType.isCopiedInto(toType, excludeClassesMap)) {
+			mapping.getSetter().set(to, value);
+			return;
+		}
+		CopyContext context = CopyContext.current();
+		if (context != null && value instanceof Collection && toType.getKind() == GenericType.Kind.COLLECTION) {
+			Collection<?> fromCollection = (Collection<?>) value;
+			Collection<Object> collection = Containers.newCollection(fromCollection, toType.getRawType(), true);
+			if (collection instanceof Set) {
+				List<Object> elements = new ArrayList<Object>(fromCollection.size());
+				copyElements(elements, fromCollection, fromType.getElementType(), toType.getElementType(),
+						excludeClassesMap);
+				context.defer(new DeferredSet(mapping, to, value, collection, elements, excludeClassesMap));
+			} else {
+				copyElements(collection, fromCollection, fromType.getElementType(), toType.getElementType(),
+						excludeClassesMap);
+				mapping.getSetter().set(to, collection);
+			}
+		} else {
+			mapping.getSetter().set(to, copyGeneric(value, fromType, toType, excludeClassesMap));
+		}
+	}
+
+	/**
+	 * This method copies a value of given resolved type into a value of given
+	 * destination type. Beans whose class is mapped are copied into their
+	 * destination class, and collections, arrays and maps holding such beans at
+	 * any depth are rebuilt with copied elements. Any other value is returned as
+	 * it is. A rebuilt collection is presized and keeps the type of origin
+	 * collection when possible, see
+	 * {@link Containers#newCollection(Collection, Class, boolean)}.
+	 * <p>
+	 * Inside {@link #deepCopy(Class, Object, Map)} elements of a rebuilt set and
+	 * entries of a rebuilt map are added once the copied beans are populated, as
+	 * their hash codes are not known before.
+	 * 
+	 * @param value
+	 *            value to copy, may be null
+	 * @param fromType
+	 *            resolved type of the value
+	 * @param toType
+	 *            resolved type of the destination value
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 * @return copied value, or the value itself
+	 * @throws InstantiationException
+	 *             If not able to create an instance of a destination class
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object copyGeneric(Object value, GenericType fromType, GenericType toType,
+			ClassMappings excludeClassesMap) throws InstantiationException, IllegalAccessException {
+		if (value == null || !fromType.isCopiedInto(toType, excludeClassesMap)) {
+			return value;
+		}
+		switch (toType.getKind()) {
+		case COLLECTION:
+			if (!(value instanceof Collection)) {
+				return value;
+			}
+			Collection<?> fromCollection = (Collection<?>) value;
+			Collection<Object> collection = Containers.newCollection(fromCollection, toType.getRawType(), true);
+			CopyContext context = CopyContext.current();
+			Collection<Object> elements = collection;
+			if (context != null && collection instanceof Set) {
+				elements = new ArrayList<Object>(fromCollection.size());
+			}
+			copyElements(elements, fromCollection, fromType.getElementType(), toType.getElementType(),
+					excludeClassesMap);
+			if (elements != collection) {
+				context.defer(new DeferredAdd(collection, elements));
+			}
+			return collection;
+		case MAP:
+			if (!(value instanceof Map)) {
+				return value;
+			}
+			Map<?, ?> fromMap = (Map<?, ?>) value;
+			boolean keysCopied = fromType.getKeyType().isCopiedInto(toType.getKeyType(), excludeClassesMap);
+			Map<Object, Object> map = Containers.newMap(fromMap, toType.getRawType(), keysCopied);
+			List<Object> entries = CopyContext.current() == null ? null : new ArrayList<Object>(fromMap.size() * 2);
+			for (Map.Entry<?, ?> entry : fromMap.entrySet()) {
+				Object key = copyGeneric(entry.getKey(), fromType.getKeyType(), toType.getKeyType(), excludeClassesMap);
+				Object mapValue = copyGeneric(entry.getValue(), fromType.getElementType(), toType.getElementType(),
+						excludeClassesMap);
+				if (entries == null) {
+					map.put(key, mapValue);
+				} else {
+					entries.add(key);
+					entries.add(mapValue);
+				}
+			}
+			if (entries != null) {
+				CopyContext.current().defer(new DeferredPut(map, entries));
+			}
+			return map;
+		case ARRAY:
+			if (!(value instanceof Object[])) {
+				return value;
+			}
+			Object[] fromArray = (Object[]) value;
+			GenericType fromElement = fromType.getElementType();
+			GenericType toElement = toType.getElementType();
+			Object[] array = (Object[]) Array.newInstance(toElement.getRawType(), fromArray.length);
+			BatchCopier<Object> copier = null;
+			if (fromElement.getKind() == GenericType.Kind.VALUE) {
+				Class<?> destination = fromElement.getDestination(toElement, excludeClassesMap);
+				copier = new BatchCopier<Object>((Class<Object>) destination, false, excludeClassesMap);
+			}
+			for (int i = 0; i < fromArray.length; i++) {
+				Object element = fromArray[i];
+				if (element != null) {
+					array[i] = copier != null ? copier.copy(element)
+							: copyGeneric(element, fromElement, toElement, excludeClassesMap);
+				}
+			}
+			return array;
+		default:
+			Class<?> destination = fromType.getDestination(toType, excludeClassesMap);
+			return new BatchCopier<Object>((Class<Object>) destination, false, excludeClassesMap).copy(value);
+		}
+	}
+
+	/**
+	 * This method copies the elements of a collection or array into given
+	 * collection. Beans are copied by one {@link BatchCopier} shared by all
+	 * elements, and a {@link RandomAccess} list is read by index.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void copyElements(Collection<Object> to, Collection<?> from, GenericType fromType,
+			GenericType toType, ClassMappings excludeClassesMap)
+			throws InstantiationException, IllegalAccessException {
+		if (fromType.getKind() == GenericType.Kind.VALUE) {
+			Class<?> destination = fromType.getDestination(toType, excludeClassesMap);
+			if (destination != null) {
+				copyAll(to, (Class<Object>) destination, from, false, excludeClassesMap);
+				return;
+			}
+		}
+		if (Containers.isIndexed(from)) {
+			List<?> list = (List<?>) from;
+			for (int i = 0, size = list.size(); i < size; i++) {
+				to.add(copyGeneric(list.get(i), fromType, toType, excludeClassesMap));
+			}
+		} else {
+			for (Object element : from) {
+				to.add(copyGeneric(element, fromType, toType, excludeClassesMap));
+			}
+		}
+	}
+
+	/**
+	 * This method reads given properties of every bean of the list into one
+	 * array per property, in a single pass over the list. The column types are
+	 * taken from the getters of first non null bean, see {@link BeanColumns}.
+	 * Beans of other classes must have getters whose types fit these columns,
+	 * eg. a <code>long</code> getter does not fit an <code>int[]</code> column.
+	 * 
+	 * @param beans
+	 *            - {@link List} of beans to read, null elements give 0, false or
+	 *            null values
+	 * @param propertyNames
+	 *            - property names, eg. "price" for <code>getPrice()</code>
+	 * @return {@link BeanColumns} holding one column per property
+	 * @throws IllegalArgumentException
+	 *             If list or property names are null or a bean has no getter of
+	 *             a property or its getter type does not fit the column.
+	 * @throws InvocationTargetException
+	 *             If any getter method fails
+	 */
+	public static BeanColumns project(List<?> beans, String... propertyNames) throws InvocationTargetException {
+		if (beans == null)
+			throw new IllegalArgumentException("No origin beans specified");
+		Class<?> beanClass = null;
+		for (Object bean : beans) {
+			if (bean != null) {
+				beanClass = bean.getClass();
+				break;
+			}
+		}
+		return project(beanClass, beans, propertyNames);
+	}
+
+	/**
+	 * This method reads given properties of every bean of the list into one
+	 * array per property, in a single pass over the list. The column types are
+	 * taken from the getters of given class, so they are known even for an empty
+	 * list, see {@link BeanColumns}. Beans of other classes must have getters
+	 * whose types fit these columns, eg. a <code>long</code> getter does not fit
+	 * an <code>int[]</code> column.
+	 * 
+	 * @param beanClass
+	 *            - class whose getters give the column types, null to use
+	 *            <code>String[]</code> columns
+	 * @param beans
+	 *            - {@link List} of beans to read, null elements give 0, false or
+	 *            null values
+	 * @param propertyNames
+	 *            - property names, eg. "price" for <code>getPrice()</code>
+	 * @return {@link BeanColumns} holding one column per property
+	 * @throws IllegalArgumentException
+	 *             If list or property names are null or a bean has no getter of
+	 *             a property or its getter type does not fit the column.
+	 * @throws InvocationTargetException
+	 *             If any getter method fails
+	 */
+	public static BeanColumns project(Class<?> beanClass, List<?> beans, String... propertyNames)
+			throws InvocationTargetException {
+		if (beans == null)
+			throw new IllegalArgumentException("No origin beans specified");
+		if (propertyNames == null)
+			throw new IllegalArgumentException("No property names specified");
+		AccessorBackend backend = accessorBackend;
+		int size = beans.size();
+		int count = propertyNames.length;
+		ColumnReader.Kind[] kinds = new ColumnReader.Kind[count];
+		Object[] columns = new Object[count];
+		Map<String, Object> columnMap = new LinkedHashMap<String, Object>(count * 4 / 3 + 1);
+		for (int c = 0; c < count; c++) {
+			kinds[c] = beanClass == null ? ColumnReader.Kind.STRING
+					: ColumnReader.Kind.of(ColumnReader.getterMethod(beanClass, propertyNames[c]).getReturnType());
+			columns[c] = kinds[c].newColumn(size);
+			columnMap.put(propertyNames[c], columns[c]);
+		}
+		ColumnReader[] readers = new ColumnReader[count];
+		Class<?> readersClass = null;
+		Iterator<?> iterator = beans instanceof RandomAccess ? null : beans.iterator();
+		for (int row = 0; row < size; row++) {
+			Object bean = iterator == null ? beans.get(row) : iterator.next();
+			if (bean == null) {
+				continue;
+			}
+			if (bean.getClass() != readersClass) {
+				readersClass = bean.getClass();
+				for (int c = 0; c < count; c++) {
+					readers[c] = ColumnReader.of(readersClass, propertyNames[c], kinds[c], backend);
+				}
+			}
+			try {
+				for (int c = 0; c < count; c++) {
+					readers[c].read(bean, columns[c], row);
+				}
+			} catch (Exception e) {
+				throw new InvocationTargetException(e, "Getter method failed on row " + row + " of projection");
+			}
+		}
+		return new BeanColumns(size, columnMap);
+	}
+
+	/**
+	 * This method put the given field value into given object. The field name
+	 * can be a property path like <code>address.city</code>,
+	 * <code>items[3].price</code> or <code>attributes['k']</code>, which is
+	 * parsed once and cached, see {@link #find(Object, String)}.
+	 * 
+	 * @param obj
+	 *            - object where value has to be put
+	 * @param clazz
+	 *            - class of passed object
+	 * @param fieldName
+	 *            - {@link String} field(variable) name or property path
+	 * @param value
+	 *            - value which has to be set
+	 */
+	public static <T> void findPut(Object obj, Class<T> clazz, String fieldName, Object value) {
+		if (!clazz.isInstance(obj)) {
+			LOGGER.error("Sent Object " + obj + " is not an instance of passed " + clazz + " Class.");
+			return;
+		}
+		try {
+			PropertyPath.compile(fieldName).set(obj, value, accessorBackend);
+		} catch (Exception e) {
+			LOGGER.error(e);
+		}
+	}
+
+	/**
+	 * This method put the given map string key field key with their respective
+	 * value into given object
+	 * 
+	 * @param obj
+	 *            - object where value has to be put
+	 * @param map
+	 *            - {@link Map} String key and Object value map, where key will be
+	 *            field name and object will be value for that field.
+	 */
+	public static void findNPut(Object obj, Map<String, Object> map) {
+		if (obj == null || map == null || map.size() == 0) {
+			LOGGER.info("Invalid Input.");
+			return;
+		}
+		PropertyTable.of(obj.getClass(), accessorBackend).putAll(obj, map);
+	}
+
+	/**
+	 * This method reads the properties of given bean into a map. A property is
+	 * a field of the bean class or of its super classes having a public getter,
+	 * the key is the field name.
+	 * 
+	 * @param bean
+	 *            - bean to read
+	 * @return {@link Map} of field name and value in field order, null values
+	 *         included
+	 * @throws IllegalArgumentException
+	 *             If passed bean is null.
+	 * @throws InvocationTargetException
+	 *             If any getter method fails
+	 */
+	public static Map<String, Object> toMap(Object bean) throws InvocationTargetException {
+		if (bean == null)
+			throw new IllegalArgumentException("No origin bean specified");
+		try {
+			return PropertyTable.of(bean.getClass(), accessorBackend).toMap(bean);
+		} catch (InvocationTargetException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new InvocationTargetException(e, "Getter method failed on " + bean.getClass().getName());
+		}
+	}
+
+	/**
+	 * This method creates a bean of given class and puts the given map values
+	 * into it, the same way as {@link #findNPut(Object, Map)}.
+	 * 
+	 * @param toClazz
+	 *            Class object of Destination bean
+	 * @param map
+	 *            - {@link Map} String key and Object value map, where key will be
+	 *            field name and object will be value for that field.
+	 * @return new bean of given class
+	 * @throws IllegalArgumentException
+	 *             If passed class is null.
+	 * @throws InstantiationException
+	 *             If not able to create an instance of an passed toClass
+	 * @throws IllegalAccessException
+	 *             If access denied to access given class
+	 */
+	public static <T> T fromMap(Class<T> toClazz, Map<String, ?> map)
+			throws InstantiationException, IllegalAccessException {
+		if (toClazz == null)
+			throw new IllegalArgumentException("No destination bean specified");
+		T to = Instantiators.newInstance(toClazz);
+		if (map != null) {
+			PropertyTable.of(toClazz, accessorBackend).putAll(to, map);
+		}
+		return to;
+	}
+
+	/**
+	 * This method check that to and from object are collections or maps object or
+	 * not.
+	 * 
+	 * @param to
+	 *            - to object
+	 * @param from
+	 *            - from object
+	 * @exception {@link
+	 *                IllegalArgumentException} - if one is collection and other is
+	 *                not, or one is map and other is not.
+	 * @return true if both are collections or both are maps else if to is neither
+	 *         then false otherwise throw {@link IllegalArgumentException}
+	 */
+	private static boolean checkForCollection(Object to, Object from) {
+		if (to instanceof Collection) {
+			if (from instanceof Collection) {
+				return true;
+			} else {
+				throw new IllegalArgumentException(
+						"From object found as collection but To object is not a collection.");
+			}
+		} else if (to instanceof Map) {
+			if (from instanceof Map) {
+				return true;
+			} else {
+				throw new IllegalArgumentException("To object found as map but From object is not a map.");
+			}
+		} else
+			return false;
+	}
+
+	/**
+	 * This method copy the one collection object values into another collection,
+	 * or the one map object entries into another map.
+	 * 
+	 * @param to
+	 *            - to object, a {@link Collection} or {@link Map} checked by
+	 *            {@link #checkForCollection(Object, Object)}
+	 * @param from
+	 *            - from object
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void copyCollection(Object to, Object from, ClassMappings excludeClassesMap) {
+		if (to instanceof Map) {
+			copyMap((Map) to, (Map<?, ?>) from, excludeClassesMap);
+		} else if (!((Collection<?>) from).isEmpty()) {
+			if (to instanceof List && from instanceof List) {
+				copyList((List) to, (List) from, excludeClassesMap);
+			} else if (to instanceof Set && from instanceof Set) {
+				copySet((Set) to, (Set) from, excludeClassesMap);
+			}
+		}
+	}
+
+	/**
+	 * This method copy the one list object values into another list. Without
+	 * excluded classes the elements which are not null are added in bulk, else a
+	 * {@link RandomAccess} list is read by index.
+	 * 
+	 * @param to
+	 *            - to object
+	 * @param from
+	 *            - from object
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void copyList(List to, List from, ClassMappings excludeClassesMap) {
+		if (excludeClassesMap == null) {
+			Containers.addAllNonNull(to, from);
+			return;
+		}
+		if (to instanceof ArrayList) {
+			((ArrayList) to).ensureCapacity(to.size() + from.size());
+		}
+		ElementCopier copier = new ElementCopier(excludeClassesMap);
+		if (Containers.isIndexed(from)) {
+			for (int i = 0, size = from.size(); i < size; i++) {
+				copyListElement(to, from.get(i), copier);
+			}
+		} else {
+			for (Object obj : from) {
+				copyListElement(to, obj, copier);
+			}
+		}
+	}
+
+	/**
+	 * This method adds given element, or its copy if its class is excluded, to
+	 * given list. Null elements are skipped.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void copyListElement(List to, Object obj, ElementCopier copier) {
+		if (obj != null) {
+			try {
+				to.add(copier.copy(obj));
+			} catch (Exception e) {
+				LOGGER.error(e);
+				LOGGER.error("Exception while copying list data: + " + obj);
+			}
+		}
+	}
+
+	/**
+	 * This method copy the one map object entries into another map. Keys and
+	 * values whose class is excluded are copied into their destination class,
+	 * others are put as they are. Without excluded classes all entries are put
+	 * in bulk. Inside {@link #deepCopy(Class, Object, Map)} the entries are put
+	 * once copied keys are populated.
+	 * 
+	 * @param to
+	 *            - to object
+	 * @param from
+	 *            - from object
+	 * @param excludeClassesMap
+	 *            {@link ClassMappings} of excluded classes, may be null
+	 */
+	private static void copyMap(Map<Object, Object> to, Map<?, ?> from, ClassMappings excludeClassesMap) {
+		if (excludeClassesMap == null) {
+			to.putAll(from);
+			return;
+		}
+		CopyContext context = CopyContext.current();
+		List<Object> entries = context == null ? null : new ArrayList<Object>(from.size() * 2);
+		ElementCopier copier = new ElementCopier(excludeClassesMap);
+		for (Map.Entry<?, ?> entry : from.entrySet()) {
+			try {
+				Object key = copier.copy(entry.getKey());
+				Object value = copier.copy(entry.getValue());
+				if (entries == null) {
+					to.put(key, value);
+				} else {
+					entries.add(key);
+					entries.add(value);
+				}
+			} catch (Exception e) {
+				LOGGER.error(e);
+				LOGGER.error("Exception while copying map data: + " + entry);
+			}
+		}
+		if (context != null) {
+			context.defer(new DeferredPut(to, entries));
 		}
 	}
 
@@ -595,21 +2357,22 @@ public class ReflectionUtil {
 	 * @param from
 	 *            - from object
 	 * @param excludeClassesMap
-	 *            {@link Map} map of excluded classes key-value pair. eg. key will
-	 *            be class in "to" and value will be class in "from".
+	 *            {@link ClassMappings} of excluded classes, may be null
 	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private static void copySet(Set to, Set from, Map<Class<?>, Class<?>> excludeClassesMap) {
+	private static void copySet(Set to, Set from, ClassMappings excludeClassesMap) {
+		CopyContext context = CopyContext.current();
+		Collection elements = context == null ? to : new ArrayList(from.size());
+		BatchCopier<?> copier = null;
 		for (Object obj : from) {
 			if (obj != null) {
 				Class<?> fromListParametrizedClass = obj.getClass();
-				if (fromListParametrizedClass != null)
-					fromListParametrizedClass = obj.getClass();
 				try {
-					if (excludeClassesMap != null && excludeClassesMap.get(fromListParametrizedClass) != null) {
-						Object convertedObj = ReflectionUtil.copy(excludeClassesMap.get(fromListParametrizedClass),
-								obj);
-						to.add(convertedObj);
+					Class<?> destination = excludeClassesMap == null ? null
+							: excludeClassesMap.getElementDestination(fromListParametrizedClass);
+					if (destination != null) {
+						copier = BatchCopier.reuse(copier, destination);
+						elements.add(copier.copy(obj));
 					}
 				} catch (Exception e) {
 					LOGGER.error(e);
@@ -617,35 +2380,425 @@ public class ReflectionUtil {
 				}
 			}
 		}
+		if (context != null) {
+			context.defer(new DeferredAdd(to, elements));
+		}
 	}
 
 	/**
 	 * This method will act as Map to get the value of a variable from the class by
 	 * calling getter method of the given object if field is not accessible(not
-	 * public) else use direct .(dot) operator with field name.
+	 * public) else use direct .(dot) operator with field name. Public fields,
+	 * declared in the class or its super classes, are read through the cached
+	 * field handle used by {@link #copyFields(Object, Object, boolean)}.
+	 * <p>
+	 * The field name can also be a property path: names separated by dots,
+	 * list or array indexes and map keys in quotes, eg.
+	 * <code>address.city</code>, <code>items[3].price</code> or
+	 * <code>attributes['k']</code>. A quote or backslash inside a key is escaped
+	 * by a backslash. A path is parsed once and its accessors are
+	 * resolved once per bean class, so repeated lookups do no string work nor
+	 * reflection lookups.
 	 * 
 	 * @param obj
 	 *            - {@link Object} this object is the instance of the class to get
 	 *            the field value.
 	 * @param fieldName
-	 *            - {@link String} field name to get the value.
+	 *            - {@link String} field name or property path to get the value.
+	 * @return value, or null if it can not be read or the path reaches a null
+	 *         value
 	 */
 	public static Object find(Object obj, String fieldName) {
-		Object ret = null;
-		Class<?> clazz = obj.getClass();
 		try {
-			Field field = clazz.getDeclaredField(fieldName);
-			if (field.isAccessible())
-				ret = field.get(obj);
-			else {
-				String methodName = "get" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
-				Method getter = clazz.getMethod(methodName);
-				ret = getter.invoke(obj);
-			}
+			return PropertyPath.compile(fieldName).get(obj, accessorBackend);
 		} catch (Exception e) {
 			LOGGER.error(e);
 		}
-		return ret;
+		return null;
+	}
+
+	/**
+	 * This class copies beans into new beans of one destination class. It keeps
+	 * the copy plan of last origin class, so a batch of beans of same class is
+	 * copied with a single plan lookup. The plan is kept in a single field, so a
+	 * copier can also be shared by the threads of a parallel {@link Stream}. A
+	 * copier created inside a deep copy takes part in it.
+	 */
+	private static final class BatchCopier<T> implements Function<Object, T>, CopyContext.Populator {
+
+		private final Class<T> toClazz;
+		private final boolean strictCopy;
+		private final ClassMappings excludeClassesMap;
+		private final CopyContext context;
+
+		private volatile CopyPlan plan;
+
+		BatchCopier(Class<T> toClazz, boolean strictCopy, ClassMappings excludeClassesMap) {
+			this.toClazz = toClazz;
+			this.strictCopy = strictCopy;
+			this.excludeClassesMap = excludeClassesMap;
+			this.context = CopyContext.current();
+		}
+
+		/**
+		 * @return given copier if it copies into given class with default settings,
+		 *         else a new one
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		static BatchCopier<?> reuse(BatchCopier<?> copier, Class<?> toClazz) {
+			if (copier != null && copier.toClazz == toClazz) {
+				return copier;
+			}
+			return new BatchCopier(toClazz, false, null);
+		}
+
+		/**
+		 * This method creates the destination bean and copies given bean into it
+		 * the same way {@link ReflectionUtil#copy(Class, Object, boolean)} does.
+		 * Inside a deep copy the bean already copied from given bean is returned,
+		 * and a new destination bean is populated through {@link CopyContext},
+		 * which queues it when it is nested too deep.
+		 */
+		T copy(Object from) throws InstantiationException, IllegalAccessException {
+			if (context != null) {
+				Object copied = context.get(from, toClazz);
+				if (copied != null) {
+					return toClazz.cast(copied);
+				}
+			}
+			T to = Instantiators.newInstance(toClazz);
+			if (context != null) {
+				context.put(from, to);
+				context.populate(this, to, from);
+			} else {
+				populate(to, from);
+			}
+			return to;
+		}
+
+		/**
+		 * This method copies given origin bean into given destination bean. A
+		 * failure is thrown as {@link IllegalStateException}, so no batch returns
+		 * beans copied in part.
+		 */
+		@Override
+		public void populate(Object to, Object from) {
+			try {
+				if (checkForCollection(to, from)) {
+					copyCollection(to, from, excludeClassesMap);
+				} else {
+					CopyPlan plan = this.plan;
+					if (plan == null || plan.getFromClass() != from.getClass()) {
+						plan = getCopyPlan(toClazz, from.getClass(), strictCopy, excludeClassesMap);
+						this.plan = plan;
+					}
+					copyProperties(to, from, plan);
+				}
+			} catch (Exception e) {
+				throw new IllegalStateException(
+						"Not able to copy " + from.getClass().getName() + " into " + toClazz.getName(), e);
+			}
+		}
+
+		/**
+		 * This method copies given bean for lazy copies. A null bean is copied as
+		 * null and failure to create the destination bean is thrown as
+		 * {@link IllegalStateException}.
+		 */
+		@Override
+		public T apply(Object from) {
+			if (from == null) {
+				return null;
+			}
+			try {
+				return copy(from);
+			} catch (InstantiationException e) {
+				throw new IllegalStateException("Not able to create an instance of " + toClazz.getName(), e);
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException("Not able to create an instance of " + toClazz.getName(), e);
+			}
+		}
+	}
+
+	/**
+	 * This iterator copies each bean of origin iterator when it is consumed.
+	 */
+	private static final class CopyIterator<T> implements Iterator<T> {
+
+		private final Iterator<?> from;
+		private final BatchCopier<T> copier;
+
+		CopyIterator(Iterator<?> from, BatchCopier<T> copier) {
+			this.from = from;
+			this.copier = copier;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return from.hasNext();
+		}
+
+		@Override
+		public T next() {
+			return copier.apply(from.next());
+		}
+
+		@Override
+		public void remove() {
+			from.remove();
+		}
+	}
+
+	/**
+	 * This task copies a range of origin beans into the same positions of the
+	 * destination list, splitting the range in halves until it is not larger
+	 * than the threshold. The first failure stops the remaining ranges.
+	 */
+	private static final class ParallelCopyTask<T> extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Class<T> toClazz;
+		private final boolean strictCopy;
+		private final ClassMappings excludeClassesMap;
+		private final Object[] from;
+		private final List<T> to;
+		private final int threshold;
+		private final AtomicReference<Exception> failure;
+		private final int start;
+		private final int end;
+
+		ParallelCopyTask(Class<T> toClazz, boolean strictCopy, ClassMappings excludeClassesMap,
+				Object[] from, List<T> to, int threshold) {
+			this.toClazz = toClazz;
+			this.strictCopy = strictCopy;
+			this.excludeClassesMap = excludeClassesMap;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+			this.failure = new AtomicReference<Exception>();
+			this.start = 0;
+			this.end = from.length;
+		}
+
+		private ParallelCopyTask(ParallelCopyTask<T> parent, int start, int end) {
+			this.toClazz = parent.toClazz;
+			this.strictCopy = parent.strictCopy;
+			this.excludeClassesMap = parent.excludeClassesMap;
+			this.from = parent.from;
+			this.to = parent.to;
+			this.threshold = parent.threshold;
+			this.failure = parent.failure;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if (failure.get() != null) {
+				return;
+			}
+			if (end - start > threshold) {
+				int middle = (start + end) >>> 1;
+				invokeAll(new ParallelCopyTask<T>(this, start, middle), new ParallelCopyTask<T>(this, middle, end));
+				return;
+			}
+			BatchCopier<T> copier = new BatchCopier<T>(toClazz, strictCopy, excludeClassesMap);
+			try {
+				for (int i = start; i < end; i++) {
+					if (from[i] != null) {
+						to.set(i, copier.copy(from[i]));
+					}
+				}
+			} catch (Exception e) {
+				failure.compareAndSet(null, e);
+			}
+		}
+
+		/**
+		 * This method throws the first failure of the copy, if any.
+		 */
+		void rethrowFailure() throws InstantiationException, IllegalAccessException {
+			Exception e = failure.get();
+			if (e instanceof InstantiationException)
+				throw (InstantiationException) e;
+			if (e instanceof IllegalAccessException)
+				throw (IllegalAccessException) e;
+			if (e instanceof RuntimeException)
+				throw (RuntimeException) e;
+			if (e != null)
+				throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * This task copies a batch of beans for
+	 * {@link ReflectionUtil#copyAllAsync(Class, Collection, boolean, Map, Executor, int)}.
+	 * The same task is run by each worker, which takes the next origin bean until
+	 * none is left, and the last worker to finish completes the future.
+	 */
+	private static final class AsyncCopyTask<T> implements Runnable {
+
+		private final Class<T> toClazz;
+		private final boolean strictCopy;
+		private final ClassMappings excludeClassesMap;
+		private final Object[] from;
+		private final List<T> to;
+		private final CompletableFuture<List<T>> result;
+		private final AtomicInteger next = new AtomicInteger();
+		private final AtomicInteger running;
+
+		AsyncCopyTask(Class<T> toClazz, boolean strictCopy, ClassMappings excludeClassesMap, Object[] from,
+				List<T> to, CompletableFuture<List<T>> result, int workers) {
+			this.toClazz = toClazz;
+			this.strictCopy = strictCopy;
+			this.excludeClassesMap = excludeClassesMap;
+			this.from = from;
+			this.to = to;
+			this.result = result;
+			this.running = new AtomicInteger(workers);
+		}
+
+		@Override
+		public void run() {
+			try {
+				BatchCopier<T> copier = new BatchCopier<T>(toClazz, strictCopy, excludeClassesMap);
+				for (int i = next.getAndIncrement(); i < from.length && !result.isDone(); i = next.getAndIncrement()) {
+					if (from[i] != null) {
+						to.set(i, copier.copy(from[i]));
+					}
+				}
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			} finally {
+				if (running.decrementAndGet() == 0) {
+					result.complete(to);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Copies the elements of a top level collection, map or array whose class is
+	 * excluded into their destination class. The {@link BatchCopier} of last
+	 * copied element is reused while the destination class does not change.
+	 */
+	private static final class ElementCopier {
+
+		private final ClassMappings excludeClassesMap;
+		private BatchCopier<?> copier;
+
+		ElementCopier(ClassMappings excludeClassesMap) {
+			this.excludeClassesMap = excludeClassesMap;
+		}
+
+		/**
+		 * @return copy of given element if its class is excluded, else the element
+		 *         itself
+		 */
+		Object copy(Object element) throws InstantiationException, IllegalAccessException {
+			if (element == null || excludeClassesMap == null) {
+				return element;
+			}
+			Class<?> destination = excludeClassesMap.getElementDestination(element.getClass());
+			if (destination == null) {
+				return element;
+			}
+			copier = BatchCopier.reuse(copier, destination);
+			return copier.copy(element);
+		}
+
+		/**
+		 * @return copy of given element into given class, reusing the copier of
+		 *         last element
+		 */
+		Object copyInto(Class<?> toClazz, Object element) throws InstantiationException, IllegalAccessException {
+			copier = BatchCopier.reuse(copier, toClazz);
+			return copier.copy(element);
+		}
 	}
 
+	/**
+	 * This task adds the copied elements of a deep copy to a set once they are
+	 * populated, so their hash codes are final.
+	 */
+	private static final class DeferredAdd implements CopyContext.Task {
+
+		private final Collection<Object> to;
+		private final Collection<?> elements;
+
+		@SuppressWarnings("unchecked")
+		DeferredAdd(Collection<?> to, Collection<?> elements) {
+			this.to = (Collection<Object>) to;
+			this.elements = elements;
+		}
+
+		@Override
+		public void run() {
+			to.addAll(elements);
+		}
+	}
+
+	/**
+	 * This task puts the copied entries of a deep copy into a map once their
+	 * beans are populated, so their hash codes are final. Entries are kept as
+	 * key, value pairs in a list until then.
+	 */
+	private static final class DeferredPut implements CopyContext.Task {
+
+		private final Map<Object, Object> to;
+		private final List<Object> entries;
+
+		DeferredPut(Map<Object, Object> to, List<Object> entries) {
+			this.to = to;
+			this.entries = entries;
+		}
+
+		@Override
+		public void run() {
+			for (int i = 0; i < entries.size(); i += 2) {
+				to.put(entries.get(i), entries.get(i + 1));
+			}
+		}
+	}
+
+	/**
+	 * This task sets a set property of a deep copy once its copied elements are
+	 * populated, so their hash codes are final. A set which can not be set fails
+	 * the deep copy as {@link IllegalStateException}, as any other property does.
+	 */
+	private static final class DeferredSet implements CopyContext.Task {
+
+		private final PropertyMapping mapping;
+		private final Object to;
+		private final Object value;
+		private final Collection<Object> set;
+		private final Collection<?> elements;
+		private final ClassMappings excludeClassesMap;
+
+		DeferredSet(PropertyMapping mapping, Object to, Object value, Collection<Object> set,
+				Collection<?> elements, ClassMappings excludeClassesMap) {
+			this.mapping = mapping;
+			this.to = to;
+			this.value = value;
+			this.set = set;
+			this.elements = elements;
+			this.excludeClassesMap = excludeClassesMap;
+		}
+
+		@Override
+		public void run() {
+			try {
+				set.addAll(elements);
+				mapping.getSetter().set(to, set);
+			} catch (Exception e) {
+				try {
+					setValueFailed(value, mapping, to, e, excludeClassesMap);
+				} catch (InvocationTargetException e1) {
+					throw new IllegalStateException("Not able to set " + mapping.getToMethod().getName() + " of "
+							+ to.getClass().getName(), e1);
+				}
+			}
+		}
+	}
 }
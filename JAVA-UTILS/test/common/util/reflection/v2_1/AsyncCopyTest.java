@@ -0,0 +1,204 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import common.util.reflection.v2_1.InstantiatorTest.Singleton;
+import common.util.reflection.v2_1.TestBeans.Person;
+import common.util.reflection.v2_1.TestBeans.PersonDto;
+
+/**
+ * Tests {@link ReflectionUtil#copyAsync(Class, Object, java.util.concurrent.Executor)}
+ * and {@link ReflectionUtil#copyAllAsync(Class, java.util.Collection, java.util.concurrent.Executor, int)}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class AsyncCopyTest {
+
+	private static final int THREADS = 8;
+
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(THREADS);
+		SlowPerson.reset();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		executor.shutdownNow();
+		executor.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void copiesOneBeanInExecutor() throws Exception {
+		Person person = TestBeans.person(3);
+
+		PersonDto copy = ReflectionUtil.copyAsync(PersonDto.class, person, executor).get(5, TimeUnit.SECONDS);
+
+		assertTrue(copy.isCopyOf(person));
+	}
+
+	@Test
+	public void completesExceptionallyWhenBeanCanNotBeCreated() throws Exception {
+		try {
+			ReflectionUtil.copyAsync(Singleton.class, TestBeans.person(3), executor).get(5, TimeUnit.SECONDS);
+			fail("destination bean created without public constructor");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+			assertTrue(e.getCause().getCause() instanceof IllegalAccessException);
+		}
+	}
+
+	@Test
+	public void keepsOrderAndNulls() throws Exception {
+		List<Person> persons = new ArrayList<Person>(TestBeans.persons(100));
+		persons.set(0, null);
+		persons.set(42, null);
+
+		List<PersonDto> copies = ReflectionUtil.copyAllAsync(PersonDto.class, persons, executor, 3)
+				.get(5, TimeUnit.SECONDS);
+
+		assertEquals(persons.size(), copies.size());
+		for (int i = 0; i < persons.size(); i++) {
+			Person person = persons.get(i);
+			if (person == null) {
+				assertNull(copies.get(i));
+			} else {
+				assertTrue("copy " + i, copies.get(i).isCopyOf(person));
+			}
+		}
+	}
+
+	@Test
+	public void overlapsBlockingGetters() throws Exception {
+		List<Person> persons = slowPersons(THREADS);
+
+		List<PersonDto> copies = ReflectionUtil.copyAllAsync(PersonDto.class, persons, executor, THREADS)
+				.get(5, TimeUnit.SECONDS);
+
+		assertEquals(THREADS, copies.size());
+		assertTrue("peak " + SlowPerson.peak, SlowPerson.peak.get() > 1);
+	}
+
+	@Test
+	public void copiesNoMoreThanMaxConcurrencyAtOnce() throws Exception {
+		List<Person> persons = slowPersons(THREADS * 2);
+
+		List<PersonDto> copies = ReflectionUtil.copyAllAsync(PersonDto.class, persons, executor, 2)
+				.get(5, TimeUnit.SECONDS);
+
+		assertEquals(THREADS * 2, copies.size());
+		assertTrue(copies.get(THREADS).isCopyOf(persons.get(THREADS)));
+		assertTrue("peak " + SlowPerson.peak, SlowPerson.peak.get() <= 2);
+	}
+
+	@Test
+	public void completesExceptionallyOnFirstFailure() throws Exception {
+		try {
+			ReflectionUtil.copyAllAsync(Singleton.class, TestBeans.persons(10), executor, 2).get(5, TimeUnit.SECONDS);
+			fail("destination beans created without public constructor");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalAccessException);
+		}
+	}
+
+	@Test
+	public void completesEmptyBatchAtOnce() throws Exception {
+		assertEquals(Collections.emptyList(),
+				ReflectionUtil.copyAllAsync(PersonDto.class, Collections.emptyList(), executor, 1).getNow(null));
+	}
+
+	@Test
+	public void rejectsInvalidArguments() throws Exception {
+		List<Person> persons = TestBeans.persons(10);
+		try {
+			ReflectionUtil.copyAsync(PersonDto.class, null, executor);
+			fail("null bean accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			ReflectionUtil.copyAsync(PersonDto.class, persons.get(0), null);
+			fail("null executor accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			ReflectionUtil.copyAllAsync(PersonDto.class, persons, null, 2);
+			fail("null executor accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			ReflectionUtil.copyAllAsync(PersonDto.class, persons, executor, 0);
+			fail("maximum concurrency 0 accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private static List<Person> slowPersons(int size) {
+		List<Person> persons = new ArrayList<Person>(size);
+		for (Person person : TestBeans.persons(size)) {
+			SlowPerson slow = new SlowPerson();
+			slow.setName(person.getName());
+			slow.setAge(person.getAge());
+			slow.setId(person.getId());
+			slow.setScore(person.getScore());
+			slow.setActive(person.isActive());
+			persons.add(slow);
+		}
+		return persons;
+	}
+
+	/**
+	 * Origin bean whose name getter blocks, as one loading its data lazily, and
+	 * records the highest number of getters blocked at once.
+	 */
+	public static class SlowPerson extends Person {
+
+		static final AtomicInteger running = new AtomicInteger();
+		static final AtomicInteger peak = new AtomicInteger();
+
+		static void reset() {
+			running.set(0);
+			peak.set(0);
+		}
+
+		@Override
+		public String getName() {
+			int now = running.incrementAndGet();
+			try {
+				int max = peak.get();
+				while (now > max && !peak.compareAndSet(max, now)) {
+					max = peak.get();
+				}
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				running.decrementAndGet();
+			}
+			return super.getName();
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import common.util.reflection.v2_1.TestBeans.Person;
+import common.util.reflection.v2_1.TestBeans.PersonDto;
+
+/**
+ * Tests the copier classes generated by {@link CopierGenerator} for
+ * {@link AccessorBackend#BYTECODE}, against the copies of the other backends.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class BytecodeCopyTest {
+
+	private final AccessorBackend backend = ReflectionUtil.getAccessorBackend();
+
+	@After
+	public void restoreBackend() {
+		ReflectionUtil.setAccessorBackend(backend);
+	}
+
+	@Test
+	public void copiesEveryProperty() throws Exception {
+		ReflectionUtil.setAccessorBackend(AccessorBackend.BYTECODE);
+		for (int i = 0; i < 10; i++) {
+			Person person = TestBeans.person(i);
+
+			assertTrue(ReflectionUtil.copy(PersonDto.class, person).isCopyOf(person));
+		}
+	}
+
+	@Test
+	public void skipsNullValuesUnlessStrict() throws Exception {
+		ReflectionUtil.setAccessorBackend(AccessorBackend.BYTECODE);
+		Person from = TestBeans.person(1);
+		from.setName(null);
+		PersonDto to = new PersonDto();
+		to.setName("kept");
+
+		ReflectionUtil.copy(to, from);
+		assertEquals("kept", to.getName());
+
+		PersonDto strict = ReflectionUtil.copy(PersonDto.class, from, true);
+		assertNull(strict.getName());
+	}
+
+	@Test
+	public void generatesCopier() {
+		assertNotNull(plan(AccessorBackend.BYTECODE).getCopier());
+		assertNull(plan(AccessorBackend.REFLECTION).getCopier());
+	}
+
+	@Test
+	public void reportsFailingGetterLikeOtherBackends() throws Exception {
+		for (AccessorBackend each : AccessorBackend.values()) {
+			CopyPlan plan = plan(each);
+			for (String failing : new String[] { "name", "count" }) {
+				try {
+					copyProperties(new Holder(), new FailingHolder(failing), plan);
+					fail(each + " copied failing getter of " + failing);
+				} catch (InvocationTargetException e) {
+					assertTrue(each + " lost getter exception", hasCause(e, FailingHolder.FAILURE));
+				}
+			}
+		}
+	}
+
+	private static CopyPlan plan(AccessorBackend backend) {
+		return CopyPlan.create(Holder.class, FailingHolder.class, false, null, backend);
+	}
+
+	/**
+	 * Copies the way {@link ReflectionUtil} copies a plan, which is not visible
+	 * as the public copy methods only log a failure.
+	 */
+	private static void copyProperties(Object to, Object from, CopyPlan plan) throws Exception {
+		if (plan.getCopier() != null) {
+			plan.getCopier().copyProperties(to, from);
+		} else {
+			for (PropertyMapping mapping : plan.getMappings()) {
+				ReflectionUtil.copyProperty(mapping, to, from, false, null);
+			}
+		}
+	}
+
+	private static boolean hasCause(Throwable e, Throwable cause) {
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			if (t == cause) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public static class Holder {
+
+		private String name;
+		private long count;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public void setCount(long count) {
+			this.count = count;
+		}
+	}
+
+	public static class FailingHolder {
+
+		static final IllegalStateException FAILURE = new IllegalStateException("getter failed");
+
+		private final String failing;
+
+		public FailingHolder() {
+			this(null);
+		}
+
+		public FailingHolder(String failing) {
+			this.failing = failing;
+		}
+
+		public String getName() {
+			if ("name".equals(failing)) {
+				throw FAILURE;
+			}
+			return "name";
+		}
+
+		public long getCount() {
+			if ("count".equals(failing)) {
+				throw FAILURE;
+			}
+			return 1L;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import common.util.reflection.v2_1.CollectionCopyTest.Item;
+import common.util.reflection.v2_1.CollectionCopyTest.ItemDto;
+
+/**
+ * Tests the lookups of {@link ClassMappings} and the way plain
+ * <code>excludeClassesMap</code> maps are read by {@link ReflectionUtil}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class ClassMappingsTest {
+
+	@Test
+	public void looksUpSuperClassesAndInterfaces() {
+		ClassMappings mappings = ClassMappings.builder().map(Item.class, ItemDto.class)
+				.map(Serializable.class, String.class).build();
+
+		assertEquals(ItemDto.class, mappings.getDestination(Item.class));
+		assertEquals(ItemDto.class, mappings.getDestination(SpecialItem.class));
+		assertEquals(String.class, mappings.getDestination(SerialBean.class));
+		assertNull(mappings.getDestination(ItemDto.class));
+	}
+
+	@Test
+	public void mapsValueOfPlainMapToItsKeyOnly() {
+		ClassMappings mappings = ClassMappings.of(itemMapping());
+
+		assertEquals(ItemDto.class, mappings.getDestination(Item.class));
+		assertNull("key class must not be mapped back", mappings.getDestination(ItemDto.class));
+	}
+
+	@Test
+	public void reusesRegistryOfSameMap() {
+		Map<Class<?>, Class<?>> map = itemMapping();
+		ClassMappings first = ClassMappings.of(map);
+
+		assertSame(first, ClassMappings.of(map));
+		ClassMappings other = ClassMappings.of(itemMapping());
+		assertNotSame(first, other);
+		assertEquals(first, other);
+		assertEquals(first.hashCode(), other.hashCode());
+	}
+
+	@Test
+	public void rebuildsRegistryWhenMapChanges() {
+		Map<Class<?>, Class<?>> map = itemMapping();
+		ClassMappings first = ClassMappings.of(map);
+		map.put(String.class, StringBuilder.class);
+
+		ClassMappings second = ClassMappings.of(map);
+
+		assertNotSame(first, second);
+		assertFalse(first.equals(second));
+		assertEquals(String.class, second.getDestination(StringBuilder.class));
+		assertNull(first.getDestination(StringBuilder.class));
+	}
+
+	@Test
+	public void holdsPlainMapsWeakly() throws Exception {
+		Map<Class<?>, Class<?>> map = itemMapping();
+		WeakReference<Map<Class<?>, Class<?>>> reference = new WeakReference<Map<Class<?>, Class<?>>>(map);
+		ClassMappings.of(map);
+		map = null;
+
+		for (int i = 0; i < 50 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull("map kept by its registry", reference.get());
+	}
+
+	@Test
+	public void isNotEqualToPlainMapOrItsReverse() {
+		ClassMappings built = ClassMappings.builder().map(Item.class, ItemDto.class).build();
+		ClassMappings plain = ClassMappings.of(itemMapping());
+		Map<Class<?>, Class<?>> reverse = new HashMap<Class<?>, Class<?>>();
+		reverse.put(Item.class, ItemDto.class);
+
+		assertFalse(built.equals(reverse));
+		assertFalse(built.equals(plain));
+		assertEquals(plain.getDestination(Item.class), built.getDestination(Item.class));
+		assertNull(ClassMappings.of(null));
+	}
+
+	@Test
+	public void passesElementsOfKeyClassAsTheyAre() throws Exception {
+		ItemDto dto = new ItemDto();
+		dto.setName("a");
+		DtoHolder from = new DtoHolder();
+		from.setItems(Arrays.asList(dto));
+
+		ObjectHolder to = ReflectionUtil.copy(ObjectHolder.class, from, itemMapping());
+
+		assertEquals(1, to.getItems().size());
+		assertSame(dto, to.getItems().get(0));
+	}
+
+	@Test
+	public void copiesElementsOfWholeListByKeysOfPlainMap() throws Exception {
+		ItemDto dto = new ItemDto();
+		dto.setName("a");
+		List<Object> to = new ArrayList<Object>();
+
+		ReflectionUtil.copy(to, Arrays.asList(dto), itemMapping());
+
+		assertEquals(1, to.size());
+		assertTrue(to.get(0) instanceof Item);
+		assertEquals("a", ((Item) to.get(0)).getName());
+	}
+
+	@Test
+	public void copiesElementsOfWholeListByBuiltMappings() throws Exception {
+		Item item = new Item("b");
+		List<Object> to = new ArrayList<Object>();
+
+		ReflectionUtil.copy(to, Arrays.asList(item), ClassMappings.builder().map(Item.class, ItemDto.class).build());
+
+		assertEquals(1, to.size());
+		assertTrue(to.get(0) instanceof ItemDto);
+		assertEquals("b", ((ItemDto) to.get(0)).getName());
+	}
+
+	private static Map<Class<?>, Class<?>> itemMapping() {
+		Map<Class<?>, Class<?>> mapping = new HashMap<Class<?>, Class<?>>();
+		mapping.put(ItemDto.class, Item.class);
+		return mapping;
+	}
+
+	public static class SpecialItem extends Item {
+	}
+
+	public static class SerialBean implements Serializable {
+		private static final long serialVersionUID = 1L;
+	}
+
+	public static class DtoHolder {
+
+		private List<ItemDto> items;
+
+		public List<ItemDto> getItems() {
+			return items;
+		}
+
+		public void setItems(List<ItemDto> items) {
+			this.items = items;
+		}
+	}
+
+	public static class ObjectHolder {
+
+		private List<Object> items;
+
+		public List<Object> getItems() {
+			return items;
+		}
+
+		public void setItems(List<Object> items) {
+			this.items = items;
+		}
+	}
+}
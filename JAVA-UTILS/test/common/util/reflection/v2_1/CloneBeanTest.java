@@ -0,0 +1,133 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ReflectionUtil#cloneBean(Object)} and
+ * {@link ReflectionUtil#cloneBean(Object, int)}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class CloneBeanTest {
+
+	@Test
+	public void copiesEveryFieldWithoutAccessors() throws Exception {
+		Node from = node("a");
+		from.setOwner("owner");
+		from.next = node("b");
+
+		Node clone = ReflectionUtil.cloneBean(from);
+
+		assertNotSame(from, clone);
+		assertEquals("a", clone.name);
+		assertEquals(7, clone.count);
+		assertEquals("owner", clone.getOwner());
+		assertEquals(from.stamp, clone.stamp);
+		assertSame(from.next, clone.next);
+		assertSame(from.values, clone.values);
+		assertSame(from.tags, clone.tags);
+	}
+
+	@Test
+	public void clonesNestedBeansUpToDepth() throws Exception {
+		Node from = node("a");
+		from.next = node("b");
+		from.next.next = node("c");
+
+		Node clone = ReflectionUtil.cloneBean(from, 1);
+
+		assertNotSame(from.next, clone.next);
+		assertEquals("b", clone.next.name);
+		assertSame(from.next.next, clone.next.next);
+		assertNotSame(from.values, clone.values);
+		assertArrayEquals(from.values, clone.values);
+		assertSame("JDK classes are shared", from.tags, clone.tags);
+	}
+
+	@Test
+	public void keepsSharedReferencesAndCycles() throws Exception {
+		Node from = node("a");
+		Node shared = node("b");
+		from.next = shared;
+		from.other = shared;
+		shared.next = from;
+
+		Node clone = ReflectionUtil.cloneBean(from, 5);
+
+		assertSame(clone.next, clone.other);
+		assertSame(clone, clone.next.next);
+		assertNotSame(shared, clone.next);
+	}
+
+	@Test
+	public void rejectsInvalidArguments() throws Exception {
+		assertInvalid(null, 0);
+		assertInvalid("text", 0);
+		assertInvalid(new ArrayList<String>(), 0);
+		assertInvalid(node("a"), -1);
+	}
+
+	private static void assertInvalid(Object from, int depth) throws Exception {
+		try {
+			ReflectionUtil.cloneBean(from, depth);
+			fail("cloned " + from + " to depth " + depth);
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private static Node node(String name) {
+		Node node = new Node();
+		node.name = name;
+		node.count = 7;
+		node.values = new int[] { 1, 2, 3 };
+		node.tags = new ArrayList<String>();
+		node.tags.add(name);
+		return node;
+	}
+
+	public static class Base {
+
+		private static int created;
+
+		private String owner;
+		final int stamp = ++created;
+
+		public String getOwner() {
+			return owner;
+		}
+
+		public void setOwner(String owner) {
+			this.owner = owner;
+		}
+	}
+
+	public static class Node extends Base {
+
+		String name;
+		int count;
+		int[] values;
+		List<String> tags;
+		Node next;
+		Node other;
+
+		public String getName() {
+			throw new UnsupportedOperationException("getters are not called by clone");
+		}
+
+		public void setName(String name) {
+			throw new UnsupportedOperationException("setters are not called by clone");
+		}
+	}
+}
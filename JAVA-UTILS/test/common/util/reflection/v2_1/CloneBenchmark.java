@@ -0,0 +1,131 @@
+package common.util.reflection.v2_1;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a shallow copy of a bean into a new bean of its own class by
+ * {@link Object#clone()}, by {@link ReflectionUtil#cloneBean(Object)} and by
+ * {@link ReflectionUtil#copy(Class, Object)} with its default backend:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=CloneBenchmark
+ * </pre>
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CloneBenchmark {
+
+	private Account account;
+
+	@Setup
+	public void setUp() {
+		account = new Account();
+		account.setName("account");
+		account.setOwner("owner");
+		account.setNumber(1234567890L);
+		account.setBranch(42);
+		account.setBalance(98765.4321);
+		account.setActive(true);
+	}
+
+	@Benchmark
+	public Account objectClone() {
+		return account.clone();
+	}
+
+	@Benchmark
+	public Account cloneBean() throws Exception {
+		return ReflectionUtil.cloneBean(account);
+	}
+
+	@Benchmark
+	public Account copy() throws Exception {
+		return ReflectionUtil.copy(Account.class, account);
+	}
+
+	public static class Account implements Cloneable {
+
+		private String name;
+		private String owner;
+		private long number;
+		private int branch;
+		private double balance;
+		private boolean active;
+
+		@Override
+		public Account clone() {
+			try {
+				return (Account) super.clone();
+			} catch (CloneNotSupportedException e) {
+				throw new AssertionError(e);
+			}
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getOwner() {
+			return owner;
+		}
+
+		public void setOwner(String owner) {
+			this.owner = owner;
+		}
+
+		public long getNumber() {
+			return number;
+		}
+
+		public void setNumber(long number) {
+			this.number = number;
+		}
+
+		public int getBranch() {
+			return branch;
+		}
+
+		public void setBranch(int branch) {
+			this.branch = branch;
+		}
+
+		public double getBalance() {
+			return balance;
+		}
+
+		public void setBalance(double balance) {
+			this.balance = balance;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package common.util.reflection.v2_1;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import common.util.reflection.v2_1.CollectionCopyTest.Item;
+import common.util.reflection.v2_1.CollectionCopyTest.ItemDto;
+import common.util.reflection.v2_1.CollectionCopyTest.Order;
+import common.util.reflection.v2_1.CollectionCopyTest.OrderDto;
+
+/**
+ * Measures the collection copies of {@link ReflectionUtil} against the element
+ * by element iterator loop into a bare <code>new ArrayList()</code> or
+ * <code>new HashSet()</code> the copy engine used before:
+ * <ul>
+ * <li><code>beanCollections</code> copies a bean whose list and set
+ * properties hold mapped beans, <code>iteratorBeanCollections</code> builds the
+ * same bean copying each element by
+ * {@link ReflectionUtil#copy(Class, Object, java.util.Map)}.
+ * </li>
+ * <li><code>bulkList</code> copies a list of strings into a list,
+ * <code>iteratorList</code> adds each non null element.</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=CollectionCopyBenchmark
+ * </pre>
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionCopyBenchmark {
+
+	@Param({ "100", "10000" })
+	public int size;
+
+	private ClassMappings mappings;
+	private Order order;
+	private List<String> names;
+
+	@Setup
+	public void setUp() {
+		mappings = ClassMappings.builder().map(Item.class, ItemDto.class).build();
+		List<Item> lines = new ArrayList<Item>(size);
+		Set<Item> items = new HashSet<Item>();
+		names = new ArrayList<String>(size);
+		for (int i = 0; i < size; i++) {
+			lines.add(new Item("line-" + i));
+			items.add(new Item("item-" + i));
+			names.add("name-" + i);
+		}
+		order = new Order();
+		order.setLines(lines);
+		order.setItems(items);
+	}
+
+	@Benchmark
+	public OrderDto beanCollections() throws Exception {
+		return ReflectionUtil.copy(OrderDto.class, order, mappings);
+	}
+
+	@Benchmark
+	public OrderDto iteratorBeanCollections() throws Exception {
+		OrderDto dto = new OrderDto();
+		List<ItemDto> lines = new ArrayList<ItemDto>();
+		for (Item item : order.getLines()) {
+			lines.add(ReflectionUtil.copy(ItemDto.class, item, mappings));
+		}
+		dto.setLines(lines);
+		Set<ItemDto> items = new HashSet<ItemDto>();
+		for (Item item : order.getItems()) {
+			items.add(ReflectionUtil.copy(ItemDto.class, item, mappings));
+		}
+		dto.setItems(items);
+		return dto;
+	}
+
+	@Benchmark
+	public List<String> bulkList() {
+		List<String> to = new ArrayList<String>();
+		ReflectionUtil.copy(to, names);
+		return to;
+	}
+
+	@Benchmark
+	public List<String> iteratorList() {
+		List<String> to = new ArrayList<String>();
+		for (String name : names) {
+			if (name != null) {
+				to.add(name);
+			}
+		}
+		return to;
+	}
+}
@@ -0,0 +1,193 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+/**
+ * Tests the collection properties copied by {@link ReflectionUtil}: the
+ * destination collection type, its order and the copy of its elements.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class CollectionCopyTest {
+
+	@Test
+	public void copiesSortedSetOfComparableElementsIntoSetOfNonComparableElements() throws Exception {
+		Order order = new Order();
+		order.setItems(new TreeSet<Item>(Arrays.asList(new Item("c"), new Item("a"), new Item("b"))));
+
+		OrderDto dto = ReflectionUtil.copy(OrderDto.class, order, itemMapping());
+
+		assertNotNull("set property was dropped", dto.getItems());
+		assertEquals(Arrays.asList("a", "b", "c"), names(dto.getItems()));
+	}
+
+	@Test
+	public void keepsComparatorOfSortedSetWhenElementsAreNotCopied() throws Exception {
+		TreeSet<String> tags = new TreeSet<String>(Collections.<String> reverseOrder());
+		tags.addAll(Arrays.asList("a", "c", "b"));
+		Order order = new Order();
+		order.setTags(tags);
+
+		OrderDto dto = ReflectionUtil.copy(OrderDto.class, order, itemMapping());
+
+		assertTrue(dto.getTags() instanceof SortedSet);
+		assertSame(tags.comparator(), ((SortedSet<String>) dto.getTags()).comparator());
+		assertEquals(Arrays.asList("c", "b", "a"), new ArrayList<String>(dto.getTags()));
+	}
+
+	@Test
+	public void keepsOrderOfLinkedHashSet() throws Exception {
+		Order order = new Order();
+		order.setItems(new LinkedHashSet<Item>(Arrays.asList(new Item("z"), new Item("x"), new Item("y"))));
+
+		OrderDto dto = ReflectionUtil.copy(OrderDto.class, order, itemMapping());
+
+		assertTrue(dto.getItems() instanceof LinkedHashSet);
+		assertEquals(Arrays.asList("z", "x", "y"), names(dto.getItems()));
+	}
+
+	@Test
+	public void copiesListElementsInOrder() throws Exception {
+		Order order = new Order();
+		order.setLines(Arrays.asList(new Item("b"), new Item("a")));
+
+		OrderDto dto = ReflectionUtil.copy(OrderDto.class, order, itemMapping());
+
+		assertEquals(2, dto.getLines().size());
+		assertEquals("b", dto.getLines().get(0).getName());
+		assertEquals("a", dto.getLines().get(1).getName());
+	}
+
+	private static Map<Class<?>, Class<?>> itemMapping() {
+		Map<Class<?>, Class<?>> mapping = new HashMap<Class<?>, Class<?>>();
+		mapping.put(ItemDto.class, Item.class);
+		return mapping;
+	}
+
+	private static List<String> names(Set<ItemDto> items) {
+		List<String> names = new ArrayList<String>();
+		for (Iterator<ItemDto> it = items.iterator(); it.hasNext();) {
+			names.add(it.next().getName());
+		}
+		return names;
+	}
+
+	public static class Item implements Comparable<Item> {
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public int compareTo(Item other) {
+			return name.compareTo(other.name);
+		}
+	}
+
+	public static class ItemDto {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Order {
+
+		private Set<Item> items;
+		private Set<String> tags;
+		private List<Item> lines;
+
+		public Set<Item> getItems() {
+			return items;
+		}
+
+		public void setItems(Set<Item> items) {
+			this.items = items;
+		}
+
+		public Set<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(Set<String> tags) {
+			this.tags = tags;
+		}
+
+		public List<Item> getLines() {
+			return lines;
+		}
+
+		public void setLines(List<Item> lines) {
+			this.lines = lines;
+		}
+	}
+
+	public static class OrderDto {
+
+		private Set<ItemDto> items;
+		private Set<String> tags;
+		private List<ItemDto> lines;
+
+		public Set<ItemDto> getItems() {
+			return items;
+		}
+
+		public void setItems(Set<ItemDto> items) {
+			this.items = items;
+		}
+
+		public Set<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(Set<String> tags) {
+			this.tags = tags;
+		}
+
+		public List<ItemDto> getLines() {
+			return lines;
+		}
+
+		public void setLines(List<ItemDto> lines) {
+			this.lines = lines;
+		}
+	}
+}
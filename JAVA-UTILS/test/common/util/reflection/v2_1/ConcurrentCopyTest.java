@@ -0,0 +1,87 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+
+import common.util.reflection.v2_1.TestBeans.Person;
+import common.util.reflection.v2_1.TestBeans.PersonDto;
+
+/**
+ * Tests that {@link ReflectionUtil#copy(Class, Object)} copies correctly from
+ * many threads at once, with every {@link AccessorBackend}, while the copy
+ * plans are being built.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class ConcurrentCopyTest {
+
+	private static final int THREADS = 16;
+	private static final int COPIES = 2000;
+
+	private final AccessorBackend backend = ReflectionUtil.getAccessorBackend();
+
+	@After
+	public void restoreBackend() {
+		ReflectionUtil.setAccessorBackend(backend);
+	}
+
+	@Test
+	public void copiesFromManyThreadsWithReflection() throws Exception {
+		copyFromManyThreads(AccessorBackend.REFLECTION);
+	}
+
+	@Test
+	public void copiesFromManyThreadsWithMethodHandles() throws Exception {
+		copyFromManyThreads(AccessorBackend.METHOD_HANDLE);
+	}
+
+	@Test
+	public void copiesFromManyThreadsWithBytecode() throws Exception {
+		copyFromManyThreads(AccessorBackend.BYTECODE);
+	}
+
+	private void copyFromManyThreads(AccessorBackend backend) throws Exception {
+		ReflectionUtil.setAccessorBackend(backend);
+		final CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+			for (int t = 0; t < THREADS; t++) {
+				final int offset = t * COPIES;
+				results.add(executor.submit(new Callable<Integer>() {
+					@Override
+					public Integer call() throws Exception {
+						start.await();
+						int copied = 0;
+						for (int i = 0; i < COPIES; i++) {
+							Person person = TestBeans.person(offset + i);
+							PersonDto dto = ReflectionUtil.copy(PersonDto.class, person);
+							assertTrue(dto.isCopyOf(person));
+							copied++;
+						}
+						return copied;
+					}
+				}));
+			}
+			start.countDown();
+			for (Future<Integer> result : results) {
+				assertEquals(COPIES, result.get().intValue());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
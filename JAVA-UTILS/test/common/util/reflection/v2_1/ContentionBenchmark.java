@@ -0,0 +1,62 @@
+package common.util.reflection.v2_1;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import common.util.reflection.v2_1.TestBeans.Person;
+import common.util.reflection.v2_1.TestBeans.PersonDto;
+
+/**
+ * Measures the throughput of {@link ReflectionUtil#copy(Class, Object)} called
+ * by many threads at once. <code>classLocked</code> takes the class monitor of
+ * {@link ReflectionUtil} around each copy, as the former
+ * <code>synchronized static</code> copy methods did, so both results of a run
+ * compare the copy engine before and after the lock was dropped. Run it once
+ * per thread count to get the scaling curve:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark="ContentionBenchmark -t 1"
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark="ContentionBenchmark -t 8"
+ * </pre>
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+
+	private Person person;
+
+	@Setup
+	public void setUp() {
+		person = TestBeans.person(42);
+	}
+
+	@Benchmark
+	public PersonDto lockFree() throws Exception {
+		return ReflectionUtil.copy(PersonDto.class, person);
+	}
+
+	@Benchmark
+	public PersonDto classLocked() throws Exception {
+		synchronized (ReflectionUtil.class) {
+			return ReflectionUtil.copy(PersonDto.class, person);
+		}
+	}
+}
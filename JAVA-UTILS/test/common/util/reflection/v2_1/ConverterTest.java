@@ -0,0 +1,220 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the converters chosen by {@link ReflectionUtil} when getter and setter
+ * types differ. Narrowing number conversions must never truncate a value.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class ConverterTest {
+
+	@After
+	public void removeConverter() {
+		ReflectionUtil.registerConverter(Long.class, Integer.class, null);
+	}
+
+	@Test
+	public void narrowsNumbersInRange() throws Exception {
+		Wide wide = new Wide();
+		wide.setCount(42L);
+		wide.setAmount(7.0);
+		wide.setTotal(new BigDecimal("12"));
+		wide.setSize(Integer.valueOf(-3));
+
+		Narrow narrow = ReflectionUtil.copy(Narrow.class, wide);
+
+		assertEquals(42, narrow.getCount());
+		assertEquals(Long.valueOf(7L), narrow.getAmount());
+		assertEquals(Integer.valueOf(12), narrow.getTotal());
+		assertEquals(-3, narrow.getSize());
+	}
+
+	@Test
+	public void doesNotTruncateLongBeyondIntRange() throws Exception {
+		Wide wide = new Wide();
+		wide.setCount(Integer.MAX_VALUE + 1L);
+
+		Narrow narrow = ReflectionUtil.copy(Narrow.class, wide);
+
+		assertEquals(0, narrow.getCount());
+	}
+
+	@Test
+	public void doesNotTruncateFractions() throws Exception {
+		Wide wide = new Wide();
+		wide.setAmount(2.5);
+		wide.setTotal(new BigDecimal("12.75"));
+		wide.setRatio(new BigDecimal("0.5"));
+
+		Narrow narrow = ReflectionUtil.copy(Narrow.class, wide);
+
+		assertNull(narrow.getAmount());
+		assertNull(narrow.getTotal());
+		assertNull(narrow.getRatio());
+	}
+
+	@Test
+	public void doesNotTruncateIntBeyondByteRange() throws Exception {
+		Wide wide = new Wide();
+		wide.setSize(Integer.valueOf(300));
+
+		Narrow narrow = ReflectionUtil.copy(Narrow.class, wide);
+
+		assertEquals(0, narrow.getSize());
+	}
+
+	@Test
+	public void widensAndParses() throws Exception {
+		Narrow narrow = new Narrow();
+		narrow.setCount(5);
+		narrow.setCode("17");
+
+		Wide wide = ReflectionUtil.copy(Wide.class, narrow);
+
+		assertEquals(Long.valueOf(5L), wide.getCount());
+		assertEquals(17, wide.getCode());
+	}
+
+	@Test
+	public void registeredConverterMayNarrow() throws Exception {
+		ReflectionUtil.registerConverter(Long.class, Integer.class, new Converter<Long, Integer>() {
+			@Override
+			public Integer convert(Long value) {
+				return Integer.valueOf((int) Math.min(value.longValue(), Integer.MAX_VALUE));
+			}
+		});
+		Wide wide = new Wide();
+		wide.setCount(Long.MAX_VALUE);
+
+		Narrow narrow = ReflectionUtil.copy(Narrow.class, wide);
+
+		assertEquals(Integer.MAX_VALUE, narrow.getCount());
+	}
+
+	public static class Wide {
+
+		private Long count;
+		private Double amount;
+		private BigDecimal total;
+		private Integer size;
+		private BigDecimal ratio;
+		private int code;
+
+		public Long getCount() {
+			return count;
+		}
+
+		public void setCount(Long count) {
+			this.count = count;
+		}
+
+		public Double getAmount() {
+			return amount;
+		}
+
+		public void setAmount(Double amount) {
+			this.amount = amount;
+		}
+
+		public BigDecimal getTotal() {
+			return total;
+		}
+
+		public void setTotal(BigDecimal total) {
+			this.total = total;
+		}
+
+		public Integer getSize() {
+			return size;
+		}
+
+		public void setSize(Integer size) {
+			this.size = size;
+		}
+
+		public BigDecimal getRatio() {
+			return ratio;
+		}
+
+		public void setRatio(BigDecimal ratio) {
+			this.ratio = ratio;
+		}
+
+		public int getCode() {
+			return code;
+		}
+
+		public void setCode(int code) {
+			this.code = code;
+		}
+	}
+
+	public static class Narrow {
+
+		private int count;
+		private Long amount;
+		private Integer total;
+		private byte size;
+		private BigInteger ratio;
+		private String code;
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public Long getAmount() {
+			return amount;
+		}
+
+		public void setAmount(Long amount) {
+			this.amount = amount;
+		}
+
+		public Integer getTotal() {
+			return total;
+		}
+
+		public void setTotal(Integer total) {
+			this.total = total;
+		}
+
+		public byte getSize() {
+			return size;
+		}
+
+		public void setSize(byte size) {
+			this.size = size;
+		}
+
+		public BigInteger getRatio() {
+			return ratio;
+		}
+
+		public void setRatio(BigInteger ratio) {
+			this.ratio = ratio;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public void setCode(String code) {
+			this.code = code;
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import common.util.reflection.v2_1.TestBeans.Person;
+import common.util.reflection.v2_1.TestBeans.PersonDto;
+
+/**
+ * Tests {@link ReflectionUtil#copyAll(Class, Iterable)} and the failures of the
+ * batch copies.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class CopyAllTest {
+
+	private final AccessorBackend backend = ReflectionUtil.getAccessorBackend();
+
+	@After
+	public void tearDown() {
+		ReflectionUtil.setAccessorBackend(backend);
+	}
+
+	@Test
+	public void copiesValuesOfEachBean() throws Exception {
+		for (AccessorBackend each : AccessorBackend.values()) {
+			ReflectionUtil.setAccessorBackend(each);
+			List<Person> persons = new ArrayList<Person>(TestBeans.persons(50));
+			persons.set(7, null);
+			persons.set(20, new FailingPerson(-1));
+
+			List<PersonDto> copies = ReflectionUtil.copyAll(PersonDto.class, persons);
+
+			assertEquals(persons.size(), copies.size());
+			for (int i = 0; i < persons.size(); i++) {
+				if (persons.get(i) == null) {
+					assertNull(each + " copy " + i, copies.get(i));
+				} else {
+					assertTrue(each + " copy " + i, copies.get(i).isCopyOf(persons.get(i)));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void copiesIterableOfUnknownSize() throws Exception {
+		final List<Person> persons = new LinkedList<Person>(TestBeans.persons(5));
+		Iterable<Person> iterable = new Iterable<Person>() {
+			@Override
+			public Iterator<Person> iterator() {
+				return persons.iterator();
+			}
+		};
+
+		List<PersonDto> copies = ReflectionUtil.copyAll(PersonDto.class, iterable);
+
+		assertEquals(5, copies.size());
+		assertTrue(copies.get(4).isCopyOf(persons.get(4)));
+	}
+
+	@Test
+	public void copiesNullValuesOnlyWhenStrict() throws Exception {
+		List<Person> persons = TestBeans.persons(2);
+		persons.get(1).setName(null);
+
+		assertEquals("unnamed", ReflectionUtil.copyAll(NamedDto.class, persons, false).get(1).getName());
+		List<NamedDto> copies = ReflectionUtil.copyAll(NamedDto.class, persons, true);
+		assertEquals("name-0", copies.get(0).getName());
+		assertNull(copies.get(1).getName());
+	}
+
+	@Test
+	public void throwsWhenGetterFails() throws Exception {
+		for (AccessorBackend each : AccessorBackend.values()) {
+			ReflectionUtil.setAccessorBackend(each);
+			try {
+				ReflectionUtil.copyAll(PersonDto.class, failingBatch());
+				fail(each + ": bean copied without the value of its failing getter");
+			} catch (IllegalStateException e) {
+				assertFailedGetter(e);
+			}
+		}
+	}
+
+	@Test
+	public void throwsWhenGetterFailsInParallel() throws Exception {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			for (AccessorBackend each : AccessorBackend.values()) {
+				ReflectionUtil.setAccessorBackend(each);
+				try {
+					ReflectionUtil.copyAllParallel(PersonDto.class, failingBatch(), pool, 4);
+					fail(each + ": bean copied without the value of its failing getter");
+				} catch (IllegalStateException e) {
+					assertFailedGetter(e);
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void completesExceptionallyWhenGetterFails() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (AccessorBackend each : AccessorBackend.values()) {
+				ReflectionUtil.setAccessorBackend(each);
+				try {
+					ReflectionUtil.copyAllAsync(PersonDto.class, failingBatch(), executor, 2).get(5,
+							TimeUnit.SECONDS);
+					fail(each + ": bean copied without the value of its failing getter");
+				} catch (ExecutionException e) {
+					assertTrue(e.getCause() instanceof IllegalStateException);
+					assertFailedGetter((IllegalStateException) e.getCause());
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * @return batch of persons whose 10th bean fails to return its name
+	 */
+	private static List<Person> failingBatch() {
+		List<Person> persons = new ArrayList<Person>(TestBeans.persons(20));
+		persons.set(10, new FailingPerson(10));
+		return persons;
+	}
+
+	/**
+	 * Asserts that given failure reports the bean which could not be copied and
+	 * keeps the exception of its getter.
+	 */
+	private static void assertFailedGetter(IllegalStateException e) {
+		assertTrue(e.getMessage(), e.getMessage().contains(FailingPerson.class.getName()));
+		Throwable cause = e.getCause();
+		while (cause != null && !(cause instanceof UnsupportedOperationException)) {
+			cause = cause.getCause();
+		}
+		assertSame("getter failure lost: " + e, FailingPerson.FAILURE, cause);
+	}
+
+	/**
+	 * Origin bean whose name getter fails when its seed is not negative.
+	 */
+	public static class FailingPerson extends Person {
+
+		static final UnsupportedOperationException FAILURE = new UnsupportedOperationException("name not loaded");
+
+		private final int seed;
+
+		public FailingPerson(int seed) {
+			this.seed = seed;
+			Person person = TestBeans.person(Math.abs(seed));
+			setName(person.getName());
+			setAge(person.getAge());
+			setId(person.getId());
+			setScore(person.getScore());
+			setActive(person.isActive());
+		}
+
+		@Override
+		public String getName() {
+			if (seed >= 0) {
+				throw FAILURE;
+			}
+			return super.getName();
+		}
+	}
+
+	/**
+	 * Destination bean whose name is not null until it is copied.
+	 */
+	public static class NamedDto {
+
+		private String name = "unnamed";
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
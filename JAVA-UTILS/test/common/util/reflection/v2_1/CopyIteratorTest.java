@@ -0,0 +1,198 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import common.util.reflection.v2_1.CopyAllTest.FailingPerson;
+import common.util.reflection.v2_1.InstantiatorTest.Singleton;
+import common.util.reflection.v2_1.TestBeans.Person;
+import common.util.reflection.v2_1.TestBeans.PersonDto;
+
+/**
+ * Tests {@link ReflectionUtil#copyIterator(Class, Iterator)} and
+ * {@link ReflectionUtil#copyStream(Class, Stream)}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class CopyIteratorTest {
+
+	@Before
+	public void setUp() {
+		CountingPerson.reads.set(0);
+	}
+
+	@Test
+	public void copiesEachBeanWhenIteratorReturnsIt() {
+		List<Person> persons = countingPersons(3);
+
+		Iterator<PersonDto> copies = ReflectionUtil.copyIterator(PersonDto.class, persons.iterator());
+		assertEquals("bean copied before iteration", 0, CountingPerson.reads.get());
+
+		assertTrue(copies.hasNext());
+		assertEquals(0, CountingPerson.reads.get());
+		PersonDto first = copies.next();
+		assertEquals(1, CountingPerson.reads.get());
+		PersonDto second = copies.next();
+		assertEquals(2, CountingPerson.reads.get());
+		PersonDto third = copies.next();
+		assertFalse(copies.hasNext());
+		assertEquals(3, CountingPerson.reads.get());
+		assertTrue(first.isCopyOf(persons.get(0)));
+		assertTrue(second.isCopyOf(persons.get(1)));
+		assertTrue(third.isCopyOf(persons.get(2)));
+	}
+
+	@Test
+	public void copiesEachBeanWhenStreamConsumesIt() {
+		List<Person> persons = countingPersons(3);
+
+		Stream<PersonDto> copies = ReflectionUtil.copyStream(PersonDto.class, persons.stream());
+		assertEquals("bean copied before terminal operation", 0, CountingPerson.reads.get());
+
+		PersonDto first = copies.findFirst().get();
+		assertEquals("beans copied after first one was found", 1, CountingPerson.reads.get());
+		assertTrue(first.isCopyOf(persons.get(0)));
+	}
+
+	@Test
+	public void copiesNullBeansAsNull() {
+		List<Person> persons = Arrays.asList(TestBeans.person(0), null, TestBeans.person(2));
+
+		Iterator<PersonDto> copies = ReflectionUtil.copyIterator(PersonDto.class, persons.iterator());
+		assertTrue(copies.next().isCopyOf(persons.get(0)));
+		assertNull(copies.next());
+		assertTrue(copies.next().isCopyOf(persons.get(2)));
+
+		List<PersonDto> streamed = ReflectionUtil.copyStream(PersonDto.class, persons)
+				.collect(Collectors.<PersonDto> toList());
+		assertEquals(3, streamed.size());
+		assertNull(streamed.get(1));
+		assertTrue(streamed.get(2).isCopyOf(persons.get(2)));
+	}
+
+	@Test
+	public void removesFromOriginIterator() {
+		List<Person> persons = new ArrayList<Person>(TestBeans.persons(3));
+		Person last = persons.get(2);
+
+		Iterator<PersonDto> copies = ReflectionUtil.copyIterator(PersonDto.class, persons.iterator());
+		copies.next();
+		copies.remove();
+		copies.next();
+		copies.remove();
+
+		assertEquals(Arrays.asList(last), persons);
+		assertTrue(copies.next().isCopyOf(last));
+		assertFalse(copies.hasNext());
+	}
+
+	@Test
+	public void removeFailsAsOriginIteratorDoes() {
+		Iterator<PersonDto> copies = ReflectionUtil.copyIterator(PersonDto.class,
+				new ArrayList<Person>(TestBeans.persons(1)).iterator());
+		try {
+			copies.remove();
+			fail("removed before next");
+		} catch (IllegalStateException e) {
+			// expected, nothing returned yet
+		}
+		copies = ReflectionUtil.copyIterator(PersonDto.class,
+				Collections.unmodifiableList(TestBeans.persons(1)).iterator());
+		copies.next();
+		try {
+			copies.remove();
+			fail("removed from unmodifiable list");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void throwsFailureFromNextAndGoesOn() {
+		List<Person> persons = Arrays.asList(TestBeans.person(0), new FailingPerson(1), TestBeans.person(2));
+
+		Iterator<PersonDto> copies = ReflectionUtil.copyIterator(PersonDto.class, persons.iterator());
+		assertTrue(copies.next().isCopyOf(persons.get(0)));
+		try {
+			copies.next();
+			fail("bean copied without the value of its failing getter");
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains(FailingPerson.class.getName()));
+		}
+		assertTrue(copies.next().isCopyOf(persons.get(2)));
+	}
+
+	@Test
+	public void throwsFailureFromTerminalOperation() {
+		Stream<PersonDto> copies = ReflectionUtil.copyStream(PersonDto.class,
+				Stream.of(TestBeans.person(0), new FailingPerson(1)));
+		try {
+			copies.collect(Collectors.<PersonDto> toList());
+			fail("bean copied without the value of its failing getter");
+		} catch (IllegalStateException e) {
+			assertSame(FailingPerson.FAILURE, rootCause(e));
+		}
+
+		Iterator<Singleton> singletons = ReflectionUtil.copyIterator(Singleton.class,
+				Arrays.asList(TestBeans.person(0)).iterator());
+		try {
+			singletons.next();
+			fail("destination bean created without public constructor");
+		} catch (IllegalStateException e) {
+			assertTrue(e.getCause() instanceof IllegalAccessException);
+		}
+	}
+
+	private static Throwable rootCause(Throwable e) {
+		while (e.getCause() != null) {
+			e = e.getCause();
+		}
+		return e;
+	}
+
+	private static List<Person> countingPersons(int size) {
+		List<Person> persons = new ArrayList<Person>(size);
+		for (Person person : TestBeans.persons(size)) {
+			CountingPerson counting = new CountingPerson();
+			counting.setName(person.getName());
+			counting.setAge(person.getAge());
+			counting.setId(person.getId());
+			counting.setScore(person.getScore());
+			counting.setActive(person.isActive());
+			persons.add(counting);
+		}
+		return persons;
+	}
+
+	/**
+	 * Origin bean counting the reads of its name by the copies.
+	 */
+	public static class CountingPerson extends Person {
+
+		static final AtomicInteger reads = new AtomicInteger();
+
+		@Override
+		public String getName() {
+			reads.incrementAndGet();
+			return super.getName();
+		}
+	}
+}
@@ -0,0 +1,173 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+import common.util.reflection.v2_1.CollectionCopyTest.Item;
+import common.util.reflection.v2_1.CollectionCopyTest.ItemDto;
+import common.util.reflection.v2_1.TestBeans.Person;
+import common.util.reflection.v2_1.TestBeans.PersonDto;
+
+/**
+ * Tests the cache of {@link CopyPlan#of(Class, Class, boolean, ClassMappings, AccessorBackend)}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class CopyPlanTest {
+
+	private final AccessorBackend backend = ReflectionUtil.getAccessorBackend();
+
+	@After
+	public void tearDown() {
+		ReflectionUtil.setAccessorBackend(backend);
+		ReflectionUtil.registerConverter(Long.class, String.class, null);
+	}
+
+	@Test
+	public void reusesPlanOfSameClasses() {
+		CopyPlan plan = plan(false, null);
+
+		assertSame(plan, plan(false, null));
+		assertNotSame(plan, plan(true, null));
+		assertNotSame(plan, CopyPlan.of(PersonDto.class, Person.class, false, null, AccessorBackend.METHOD_HANDLE));
+	}
+
+	@Test
+	public void reusesPlanOfSameMappings() {
+		Map<Class<?>, Class<?>> map = new HashMap<Class<?>, Class<?>>();
+		map.put(ItemDto.class, Item.class);
+		CopyPlan plan = plan(false, ClassMappings.of(map));
+
+		assertSame(plan, plan(false, ClassMappings.of(map)));
+		ClassMappings built = ClassMappings.builder().map(Item.class, ItemDto.class).build();
+		assertNotSame(plan, plan(false, built));
+		assertSame(plan(false, built), plan(false, ClassMappings.builder().map(Item.class, ItemDto.class).build()));
+	}
+
+	@Test
+	public void rebuildsPlanAfterConverterIsRegistered() {
+		CopyPlan plan = plan(false, null);
+
+		ReflectionUtil.registerConverter(Long.class, String.class, new Converter<Long, String>() {
+			@Override
+			public String convert(Long value) {
+				return "#" + value;
+			}
+		});
+
+		CopyPlan rebuilt = plan(false, null);
+		assertNotSame(plan, rebuilt);
+		assertSame(rebuilt, plan(false, null));
+	}
+
+	@Test
+	public void dropsPlansOfUnusedClassLoader() throws Exception {
+		ReflectionUtil.setAccessorBackend(AccessorBackend.REFLECTION);
+		WeakReference<ClassLoader> loader = copyWideBeans();
+
+		for (int i = 0; i < 50 && loader.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull("class loader kept by the copy caches", loader.get());
+	}
+
+	@Test
+	public void matchesSetterOfGetterType() {
+		Coded from = new Coded();
+		OverloadedTarget to = new OverloadedTarget();
+
+		ReflectionUtil.copy(to, from);
+
+		assertEquals("String:code,int:7", to.calls);
+	}
+
+	@Test
+	public void doesNotCopyObjectMembers() {
+		assertEquals(2, BeanProperties.of(Coded.class).getterCount());
+		assertNull(BeanProperties.of(Coded.class).getGetter("Class"));
+
+		OverloadedTarget to = new OverloadedTarget();
+		ReflectionUtil.copy(to, new Coded());
+		assertFalse(to.calls.contains("Class"));
+	}
+
+	/**
+	 * Copies beans of classes loaded by their own class loader and returns that
+	 * loader, leaving no other reference to it.
+	 */
+	private static WeakReference<ClassLoader> copyWideBeans() throws Exception {
+		Class<?>[] classes = WideBeans.compile(8);
+		Object from = WideBeans.newBean(classes[0], 3);
+		Object to = classes[1].getConstructor().newInstance();
+
+		ReflectionUtil.copy(to, from);
+
+		assertEquals(classes[0].getMethod("getP2").invoke(from), classes[1].getMethod("getP2").invoke(to));
+		return new WeakReference<ClassLoader>(classes[0].getClassLoader());
+	}
+
+	public static class Coded {
+
+		public String getCode() {
+			return "code";
+		}
+
+		public Integer getSize() {
+			return Integer.valueOf(7);
+		}
+	}
+
+	/**
+	 * Destination bean whose setters are overloaded and record which one is
+	 * called, declared in an order other than the chosen one.
+	 */
+	public static class OverloadedTarget {
+
+		String calls = "";
+
+		public void setCode(Object code) {
+			record("Object:" + code);
+		}
+
+		public void setCode(CharSequence code) {
+			record("CharSequence:" + code);
+		}
+
+		public void setCode(String code) {
+			record("String:" + code);
+		}
+
+		public void setSize(Number size) {
+			record("Number:" + size);
+		}
+
+		public void setSize(int size) {
+			record("int:" + size);
+		}
+
+		public void setClass(Class<?> clazz) {
+			record("Class:" + clazz);
+		}
+
+		private void record(String call) {
+			calls = calls.isEmpty() ? call : calls + "," + call;
+		}
+	}
+
+	private static CopyPlan plan(boolean strictCopy, ClassMappings mappings) {
+		return CopyPlan.of(PersonDto.class, Person.class, strictCopy, mappings, AccessorBackend.REFLECTION);
+	}
+}
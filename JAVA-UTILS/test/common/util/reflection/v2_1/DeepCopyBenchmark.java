@@ -0,0 +1,81 @@
+package common.util.reflection.v2_1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import common.util.reflection.v2_1.DeepCopyTest.Node;
+import common.util.reflection.v2_1.DeepCopyTest.NodeDto;
+
+/**
+ * Measures the throughput of {@link ReflectionUtil#deepCopy(Class, Object, ClassMappings)},
+ * which tracks copied beans and queues the ones nested too deep, against the
+ * recursive {@link ReflectionUtil#copy(Class, Object, ClassMappings)} on a tree
+ * both can copy: each node has ten children in a list, down to
+ * <code>size</code> nodes.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=DeepCopyBenchmark
+ * </pre>
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepCopyBenchmark {
+
+	private static final int CHILDREN = 10;
+
+	@Param({ "100", "10000" })
+	public int size;
+
+	private ClassMappings mappings;
+	private Node root;
+
+	@Setup
+	public void setUp() {
+		mappings = ClassMappings.builder().map(Node.class, NodeDto.class).build();
+		root = new Node("0");
+		List<Node> parents = new ArrayList<Node>();
+		parents.add(root);
+		int count = 1;
+		for (int p = 0; count < size; p++) {
+			Node parent = parents.get(p);
+			List<Node> children = new ArrayList<Node>(CHILDREN);
+			for (int i = 0; i < CHILDREN && count < size; i++) {
+				Node child = new Node(String.valueOf(count++));
+				children.add(child);
+				parents.add(child);
+			}
+			parent.setChildren(children);
+		}
+	}
+
+	@Benchmark
+	public NodeDto deepCopy() throws Exception {
+		return ReflectionUtil.deepCopy(NodeDto.class, root, mappings);
+	}
+
+	@Benchmark
+	public NodeDto recursiveCopy() throws Exception {
+		return ReflectionUtil.copy(NodeDto.class, root, mappings);
+	}
+}
@@ -0,0 +1,358 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests {@link ReflectionUtil#deepCopy(Class, Object, ClassMappings)}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class DeepCopyTest {
+
+	private static final ClassMappings MAPPINGS = ClassMappings.builder().map(Node.class, NodeDto.class).build();
+
+	private final AccessorBackend backend = ReflectionUtil.getAccessorBackend();
+
+	@After
+	public void tearDown() {
+		ReflectionUtil.setAccessorBackend(backend);
+	}
+
+	@Test
+	public void rebuildsCycles() throws Exception {
+		for (AccessorBackend each : AccessorBackend.values()) {
+			ReflectionUtil.setAccessorBackend(each);
+			Node a = new Node("a");
+			Node b = new Node("b");
+			a.setNext(b);
+			b.setNext(a);
+			Node self = new Node("self");
+			self.setNext(self);
+
+			NodeDto copy = ReflectionUtil.deepCopy(NodeDto.class, a, MAPPINGS);
+
+			assertEquals(each + "", "a", copy.getName());
+			assertEquals("b", copy.getNext().getName());
+			assertSame(copy, copy.getNext().getNext());
+			NodeDto selfCopy = ReflectionUtil.deepCopy(NodeDto.class, self, MAPPINGS);
+			assertSame(selfCopy, selfCopy.getNext());
+		}
+	}
+
+	@Test
+	public void copiesSharedBeanOnce() throws Exception {
+		Node shared = new Node("shared");
+		Node root = new Node("root");
+		root.setNext(shared);
+		root.setChildren(Arrays.asList(shared, new Node("other"), shared));
+		root.setPartners(new HashMap<Node, Node>());
+		root.getPartners().put(root, shared);
+
+		NodeDto copy = ReflectionUtil.deepCopy(NodeDto.class, root, MAPPINGS);
+
+		NodeDto sharedCopy = copy.getNext();
+		assertEquals("shared", sharedCopy.getName());
+		assertSame(sharedCopy, copy.getChildren().get(0));
+		assertSame(sharedCopy, copy.getChildren().get(2));
+		assertEquals("other", copy.getChildren().get(1).getName());
+		Map.Entry<NodeDto, NodeDto> partner = copy.getPartners().entrySet().iterator().next();
+		assertSame(copy, partner.getKey());
+		assertSame(sharedCopy, partner.getValue());
+	}
+
+	@Test
+	public void copiesCyclesWithoutMappings() throws Exception {
+		Node a = new Node("a");
+		a.setNext(new Node("b"));
+		a.getNext().setNext(a);
+
+		NodeDto copy = ReflectionUtil.deepCopy(NodeDto.class, a);
+
+		assertSame(copy, copy.getNext().getNext());
+	}
+
+	@Test
+	public void copiesLongChainWithoutRecursion() throws Exception {
+		int length = 100000;
+		Node head = new Node("0");
+		Node tail = head;
+		for (int i = 1; i < length; i++) {
+			Node node = new Node(String.valueOf(i));
+			tail.setNext(node);
+			tail = node;
+		}
+
+		NodeDto copy = ReflectionUtil.deepCopy(NodeDto.class, head, MAPPINGS);
+
+		int i = 0;
+		for (NodeDto node = copy; node != null; node = node.getNext()) {
+			assertEquals(String.valueOf(i++), node.getName());
+		}
+		assertEquals(length, i);
+	}
+
+	@Test
+	public void setsSetPropertyOncePopulated() throws Exception {
+		Node root = new Node("root");
+		Node b = new Node("b");
+		Node c = new Node("c");
+		root.setNext(b);
+		root.setTags(new HashSet<Node>(Arrays.asList(b, c)));
+		c.setTags(new HashSet<Node>(Arrays.asList(root)));
+
+		NodeDto copy = ReflectionUtil.deepCopy(NodeDto.class, root, MAPPINGS);
+
+		Set<NodeDto> tags = copy.getTags();
+		assertEquals(2, tags.size());
+		assertHashed(tags);
+		assertTrue(containsSame(tags, copy.getNext()));
+		NodeDto cCopy = find(tags, "c");
+		assertNotNull(cCopy);
+		assertSame("cycle through set not rebuilt", copy, cCopy.getTags().iterator().next());
+	}
+
+	@Test
+	public void addsSetElementsOncePopulated() throws Exception {
+		Node root = new Node("root");
+		Node a = new Node("a");
+		Node b = new Node("b");
+		root.setGroups(Arrays.<Set<Node>> asList(new HashSet<Node>(Arrays.asList(a, b)),
+				new HashSet<Node>(Arrays.asList(b, root))));
+
+		NodeDto copy = ReflectionUtil.deepCopy(NodeDto.class, root, MAPPINGS);
+
+		List<Set<NodeDto>> groups = copy.getGroups();
+		assertEquals(2, groups.size());
+		for (Set<NodeDto> group : groups) {
+			assertEquals(2, group.size());
+			assertHashed(group);
+		}
+		assertSame(find(groups.get(0), "b"), find(groups.get(1), "b"));
+		assertSame(copy, find(groups.get(1), "root"));
+	}
+
+	@Test
+	public void putsEntriesOncePopulated() throws Exception {
+		Node root = new Node("root");
+		Node a = new Node("a");
+		Node b = new Node("b");
+		b.setNext(root);
+		root.setPartners(new HashMap<Node, Node>());
+		root.getPartners().put(a, b);
+		root.getPartners().put(b, a);
+		root.getPartners().put(root, null);
+
+		NodeDto copy = ReflectionUtil.deepCopy(NodeDto.class, root, MAPPINGS);
+
+		Map<NodeDto, NodeDto> partners = copy.getPartners();
+		assertEquals(3, partners.size());
+		NodeDto aCopy = partners.get(new NodeDto("b"));
+		NodeDto bCopy = partners.get(new NodeDto("a"));
+		assertEquals("a", aCopy.getName());
+		assertEquals("b", bCopy.getName());
+		assertSame(copy, bCopy.getNext());
+		assertTrue(partners.containsKey(copy));
+		assertNull(partners.get(copy));
+	}
+
+	/**
+	 * Asserts that each element of given set is found by its hash code, which
+	 * fails if it was added before it was populated.
+	 */
+	private static void assertHashed(Set<NodeDto> set) {
+		for (NodeDto element : new ArrayList<NodeDto>(set)) {
+			assertTrue(element.getName() + " added before it was populated", set.contains(element));
+		}
+	}
+
+	private static boolean containsSame(Set<NodeDto> set, NodeDto node) {
+		Map<NodeDto, Boolean> identities = new IdentityHashMap<NodeDto, Boolean>();
+		for (NodeDto element : set) {
+			identities.put(element, Boolean.TRUE);
+		}
+		return identities.containsKey(node);
+	}
+
+	private static NodeDto find(Set<NodeDto> set, String name) {
+		for (NodeDto element : set) {
+			if (name.equals(element.getName())) {
+				return element;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Origin bean of a graph, equal to the nodes of same name.
+	 */
+	public static class Node {
+
+		private String name;
+		private Node next;
+		private List<Node> children;
+		private Set<Node> tags;
+		private List<Set<Node>> groups;
+		private Map<Node, Node> partners;
+
+		public Node() {
+		}
+
+		public Node(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Node getNext() {
+			return next;
+		}
+
+		public void setNext(Node next) {
+			this.next = next;
+		}
+
+		public List<Node> getChildren() {
+			return children;
+		}
+
+		public void setChildren(List<Node> children) {
+			this.children = children;
+		}
+
+		public Set<Node> getTags() {
+			return tags;
+		}
+
+		public void setTags(Set<Node> tags) {
+			this.tags = tags;
+		}
+
+		public List<Set<Node>> getGroups() {
+			return groups;
+		}
+
+		public void setGroups(List<Set<Node>> groups) {
+			this.groups = groups;
+		}
+
+		public Map<Node, Node> getPartners() {
+			return partners;
+		}
+
+		public void setPartners(Map<Node, Node> partners) {
+			this.partners = partners;
+		}
+
+		@Override
+		public int hashCode() {
+			return name == null ? 0 : name.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Node && String.valueOf(name).equals(String.valueOf(((Node) obj).name));
+		}
+	}
+
+	/**
+	 * Destination bean of {@link Node}, equal to the nodes of same name.
+	 */
+	public static class NodeDto {
+
+		private String name;
+		private NodeDto next;
+		private List<NodeDto> children;
+		private Set<NodeDto> tags;
+		private List<Set<NodeDto>> groups;
+		private Map<NodeDto, NodeDto> partners;
+
+		public NodeDto() {
+		}
+
+		public NodeDto(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public NodeDto getNext() {
+			return next;
+		}
+
+		public void setNext(NodeDto next) {
+			this.next = next;
+		}
+
+		public List<NodeDto> getChildren() {
+			return children;
+		}
+
+		public void setChildren(List<NodeDto> children) {
+			this.children = children;
+		}
+
+		public Set<NodeDto> getTags() {
+			return tags;
+		}
+
+		public void setTags(Set<NodeDto> tags) {
+			this.tags = tags;
+		}
+
+		public List<Set<NodeDto>> getGroups() {
+			return groups;
+		}
+
+		public void setGroups(List<Set<NodeDto>> groups) {
+			this.groups = groups;
+		}
+
+		public Map<NodeDto, NodeDto> getPartners() {
+			return partners;
+		}
+
+		public void setPartners(Map<NodeDto, NodeDto> partners) {
+			this.partners = partners;
+		}
+
+		@Override
+		public int hashCode() {
+			return name == null ? 0 : name.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof NodeDto && String.valueOf(name).equals(String.valueOf(((NodeDto) obj).name));
+		}
+	}
+}
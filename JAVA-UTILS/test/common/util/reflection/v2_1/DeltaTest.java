@@ -0,0 +1,184 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import common.util.reflection.v2_1.ConverterTest.Narrow;
+import common.util.reflection.v2_1.ConverterTest.Wide;
+import common.util.reflection.v2_1.DeepCopyTest.Node;
+import common.util.reflection.v2_1.DeepCopyTest.NodeDto;
+import common.util.reflection.v2_1.TestBeans.Person;
+import common.util.reflection.v2_1.TestBeans.PersonDto;
+
+/**
+ * Tests {@link ReflectionUtil#diff(Object, Object, boolean, ClassMappings)} and
+ * {@link ReflectionUtil#applyDelta(Object, BeanDelta)} with each backend.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class DeltaTest {
+
+	private final AccessorBackend backend = ReflectionUtil.getAccessorBackend();
+
+	@After
+	public void restoreBackend() {
+		ReflectionUtil.setAccessorBackend(backend);
+	}
+
+	@Test
+	public void findsNoChangeBetweenEqualBeans() throws Exception {
+		for (AccessorBackend each : AccessorBackend.values()) {
+			ReflectionUtil.setAccessorBackend(each);
+			Person person = TestBeans.person(5);
+
+			BeanDelta delta = ReflectionUtil.diff(ReflectionUtil.copy(PersonDto.class, person), person);
+
+			assertTrue(each + " " + delta, delta.isEmpty());
+		}
+	}
+
+	@Test
+	public void appliesChangedPropertiesOnly() throws Exception {
+		for (AccessorBackend each : AccessorBackend.values()) {
+			ReflectionUtil.setAccessorBackend(each);
+			Person person = TestBeans.person(5);
+			RecordingDto to = new RecordingDto();
+			ReflectionUtil.copy(to, person);
+			person.setName("changed");
+			person.setScore(99.5);
+			to.calls.clear();
+
+			BeanDelta delta = ReflectionUtil.diff(to, person);
+			assertEquals(new HashSet<String>(Arrays.asList("Name", "Score")),
+					new HashSet<String>(delta.getPropertyNames()));
+
+			ReflectionUtil.applyDelta(to, delta);
+			assertEquals(new HashSet<String>(Arrays.asList("Name", "Score")), new HashSet<String>(to.calls));
+			assertEquals(2, to.calls.size());
+			assertTrue(to.isCopyOf(person));
+			assertTrue(ReflectionUtil.diff(to, person).isEmpty());
+		}
+	}
+
+	@Test
+	public void comparesNullValuesOnlyWhenStrict() throws Exception {
+		Person person = TestBeans.person(5);
+		PersonDto to = ReflectionUtil.copy(PersonDto.class, person);
+		person.setName(null);
+
+		assertTrue(ReflectionUtil.diff(to, person).isEmpty());
+
+		BeanDelta delta = ReflectionUtil.diff(to, person, true);
+		assertEquals(Arrays.asList("Name"), delta.getPropertyNames());
+		ReflectionUtil.applyDelta(to, delta);
+		assertNull(to.getName());
+	}
+
+	@Test
+	public void reportsPropertiesWithoutDestinationGetter() throws Exception {
+		Person person = TestBeans.person(5);
+		NameOnly to = new NameOnly();
+		to.setName(person.getName());
+
+		assertEquals(Arrays.asList("Name"), ReflectionUtil.diff(to, person).getPropertyNames());
+	}
+
+	@Test
+	public void refusesDeltaOfOtherClass() throws Exception {
+		Person person = TestBeans.person(5);
+		BeanDelta delta = ReflectionUtil.diff(new PersonDto(), person);
+		try {
+			ReflectionUtil.applyDelta(new RecordingDto(), delta);
+			fail("delta applied to other class");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void throwsWhenConverterFails() throws Exception {
+		Wide wide = new Wide();
+		wide.setCount(Integer.MAX_VALUE + 1L);
+		try {
+			ReflectionUtil.diff(new Narrow(), wide);
+			fail("value not convertible reported as change");
+		} catch (InvocationTargetException e) {
+			assertTrue(e.getMessage(), e.getMessage().endsWith("Count"));
+			assertTrue(e.getCause() instanceof ArithmeticException);
+		}
+	}
+
+	@Test
+	public void appliesChangesWithClassMappings() throws Exception {
+		ClassMappings mappings = ClassMappings.builder().map(Node.class, NodeDto.class).build();
+		Node node = new Node("a");
+		node.setNext(new Node("b"));
+		NodeDto to = new NodeDto("a");
+
+		BeanDelta delta = ReflectionUtil.diff(to, node, mappings);
+		assertEquals(Arrays.asList("Next"), delta.getPropertyNames());
+		assertSame(node.getNext(), delta.getValue(0));
+
+		ReflectionUtil.applyDelta(to, delta);
+		assertEquals("b", to.getNext().getName());
+		assertNull(to.getNext().getNext());
+	}
+
+	public static class RecordingDto extends PersonDto {
+
+		final List<String> calls = new ArrayList<String>();
+
+		@Override
+		public void setName(String name) {
+			calls.add("Name");
+			super.setName(name);
+		}
+
+		@Override
+		public void setAge(int age) {
+			calls.add("Age");
+			super.setAge(age);
+		}
+
+		@Override
+		public void setId(long id) {
+			calls.add("Id");
+			super.setId(id);
+		}
+
+		@Override
+		public void setScore(double score) {
+			calls.add("Score");
+			super.setScore(score);
+		}
+
+		@Override
+		public void setActive(boolean active) {
+			calls.add("Active");
+			super.setActive(active);
+		}
+	}
+
+	public static class NameOnly {
+
+		private String name;
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
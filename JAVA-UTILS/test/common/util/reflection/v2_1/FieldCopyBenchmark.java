@@ -0,0 +1,66 @@
+package common.util.reflection.v2_1;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import common.util.reflection.v2_1.CloneBenchmark.Account;
+
+/**
+ * Measures a copy of a bean into an existing bean of its own class by
+ * {@link ReflectionUtil#copyFields(Object, Object, boolean)}, which moves field
+ * values through cached field handles, and by
+ * {@link ReflectionUtil#copy(Object, Object)}, which calls getters and setters:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=FieldCopyBenchmark
+ * </pre>
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldCopyBenchmark {
+
+	private Account account;
+	private Account target;
+
+	@Setup
+	public void setUp() {
+		account = new Account();
+		account.setName("account");
+		account.setOwner("owner");
+		account.setNumber(1234567890L);
+		account.setBranch(42);
+		account.setBalance(98765.4321);
+		account.setActive(true);
+		target = new Account();
+	}
+
+	@Benchmark
+	public Account copyFields() {
+		ReflectionUtil.copyFields(target, account, false);
+		return target;
+	}
+
+	@Benchmark
+	public Account copy() throws Exception {
+		ReflectionUtil.copy(target, account);
+		return target;
+	}
+}
@@ -0,0 +1,192 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import common.util.reflection.v2_1.FieldProperties.FieldAccessor;
+
+/**
+ * Tests {@link ReflectionUtil#copyFields(Object, Object, boolean)},
+ * {@link FieldCopyPlan} and {@link FieldProperties}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class FieldCopyTest {
+
+	@Test
+	public void indexesPrivateAndInheritedFields() {
+		FieldProperties fields = FieldProperties.of(Source.class);
+
+		List<String> names = new ArrayList<String>();
+		for (int i = 0; i < fields.size(); i++) {
+			names.add(fields.get(i).getField().getName());
+		}
+		assertEquals("declared fields first, static fields skipped", "name", names.get(0));
+		assertEquals(names.toString(), 14, names.size());
+		assertSame("subclass field hides super class one", Source.class,
+				fields.get("hidden").getField().getDeclaringClass());
+		assertSame(Base.class, fields.get("id").getField().getDeclaringClass());
+		assertNull(fields.get("LIMIT"));
+		assertNull(fields.get("missing"));
+	}
+
+	@Test
+	public void readsFieldsAndWritesOnlyNonFinalOnes() throws Exception {
+		FieldProperties fields = FieldProperties.of(Source.class);
+		Source source = source();
+
+		FieldAccessor code = fields.get("code");
+		assertEquals("source", code.get(source));
+		assertNull("final field written", code.getSetter());
+		assertNotNull(fields.get("name").getSetter());
+		assertEquals(Integer.valueOf(7), fields.get("size").get(source));
+	}
+
+	@Test
+	public void copiesPrivateAndInheritedFields() {
+		Source source = source();
+
+		Target target = new Target();
+		ReflectionUtil.copyFields(target, source, false);
+
+		assertEquals("name", target.name);
+		assertEquals("id", target.getId());
+		assertEquals(3, target.version);
+		assertEquals("source hidden", target.hidden);
+		assertEquals("final field copied", "target", target.code);
+	}
+
+	@Test
+	public void copiesNullValuesOnlyWhenStrict() {
+		Source source = source();
+		source.name = null;
+		source.count = null;
+
+		Target target = new Target();
+		ReflectionUtil.copyFields(target, source, false);
+		assertEquals("default", target.name);
+		assertEquals(-1, target.count);
+
+		target = new Target();
+		ReflectionUtil.copyFields(target, source, true);
+		assertNull(target.name);
+		assertEquals("null unboxed into primitive field", -1, target.count);
+		assertEquals(7, target.size.intValue());
+	}
+
+	@Test
+	public void copiesBoxedAndPrimitiveFields() {
+		Source source = source();
+
+		Target target = new Target();
+		ReflectionUtil.copyFields(target, source, false);
+
+		assertEquals("Integer into int", 5, target.count);
+		assertEquals("int into Integer", Integer.valueOf(7), target.size);
+		assertEquals("Integer into long", 11L, target.widened);
+		assertEquals("int into long", 13L, target.total);
+		assertEquals("long into Long", Long.valueOf(17L), target.amount);
+		assertEquals("int into Number", Integer.valueOf(19), target.number);
+		assertEquals("long narrowed into int", -1, target.narrowed);
+		assertNull("int boxed into Long", target.boxedWider);
+	}
+
+	@Test
+	public void copiesIntoNewBean() throws Exception {
+		Target target = ReflectionUtil.copyFields(Target.class, source());
+
+		assertEquals("name", target.name);
+		assertEquals(11L, target.widened);
+	}
+
+	@Test
+	public void findsInheritedPublicField() {
+		assertEquals("shared", ReflectionUtil.find(source(), "label"));
+	}
+
+	private static Source source() {
+		Source source = new Source();
+		source.name = "name";
+		source.setId("id");
+		source.version = 3;
+		source.hidden = "source hidden";
+		source.count = Integer.valueOf(5);
+		source.size = 7;
+		source.widened = Integer.valueOf(11);
+		source.total = 13;
+		source.amount = 17L;
+		source.number = 19;
+		source.narrowed = 23L;
+		source.boxedWider = 29;
+		source.label = "shared";
+		return source;
+	}
+
+	/**
+	 * Super class of origin and destination beans, with fields of each access
+	 * and an accessor for the private id only.
+	 */
+	public static class Base {
+
+		private String id;
+		int version;
+		String hidden = "base hidden";
+		public String label;
+
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+	}
+
+	/**
+	 * Origin bean without accessors.
+	 */
+	public static class Source extends Base {
+
+		static final int LIMIT = 10;
+
+		private String name;
+		private final String code = "source";
+		private String hidden;
+		private Integer count;
+		private int size;
+		private Integer widened;
+		private int total;
+		private long amount;
+		private int number;
+		private long narrowed;
+		private int boxedWider;
+	}
+
+	/**
+	 * Destination bean without accessors, whose fields have other types than
+	 * the ones of {@link Source}.
+	 */
+	public static class Target extends Base {
+
+		private String name = "default";
+		private final String code = "target";
+		private String hidden;
+		private int count = -1;
+		private Integer size;
+		private long widened;
+		private long total;
+		private Long amount;
+		private Number number;
+		private int narrowed = -1;
+		private Long boxedWider;
+	}
+}
@@ -0,0 +1,289 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests the resolution of {@link GenericType} and the destination classes it
+ * chooses for elements.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class GenericTypeTest {
+
+	private static final ClassMappings MAPPINGS = ClassMappings.builder().map(Bean.class, BeanDto.class)
+			.map(SubBean.class, SubBeanDto.class).build();
+
+	@Test
+	public void resolvesWildcardsToTheirBounds() throws Exception {
+		assertType("List<Bean>", GenericType.Kind.COLLECTION, returnType(Types.class, "getExtending"));
+		assertType("List<SubBean>", GenericType.Kind.COLLECTION, returnType(Types.class, "getSuper"));
+		assertType("List<Object>", GenericType.Kind.COLLECTION, returnType(Types.class, "getUnbounded"));
+		assertType("List<Object>", GenericType.Kind.COLLECTION, returnType(Types.class, "getRaw"));
+	}
+
+	@Test
+	public void resolvesTypeVariablesBoundInSubclasses() throws Exception {
+		assertType("List<SubBean>", GenericType.Kind.COLLECTION, returnType(SubBeanPage.class, "getItems"));
+		assertType("Map<String, SubBean>", GenericType.Kind.MAP, returnType(SubBeanPage.class, "getIndex"));
+		assertType("SubBean", GenericType.Kind.VALUE, returnType(SubBeanPage.class, "getFirst"));
+		assertType("List<Bean>", GenericType.Kind.COLLECTION, returnType(Page.class, "getItems"));
+		assertType("List<SubBean>", GenericType.Kind.COLLECTION,
+				GenericType.ofParameterType(Page.class.getMethod("setItems", List.class), SubBeanPage.class));
+	}
+
+	@Test
+	public void resolvesNestedCollections() throws Exception {
+		GenericType type = returnType(Types.class, "getNested");
+
+		assertType("List<List<SubBean>>", GenericType.Kind.COLLECTION, type);
+		assertSame(List.class, type.getElementType().getRawType());
+		assertSame(GenericType.Kind.COLLECTION, type.getElementType().getKind());
+		assertSame(SubBean.class, type.getElementType().getElementType().getRawType());
+	}
+
+	@Test
+	public void resolvesMapKeysAndValues() throws Exception {
+		GenericType type = returnType(Types.class, "getGroups");
+
+		assertType("Map<String, List<Bean>>", GenericType.Kind.MAP, type);
+		assertSame(String.class, type.getKeyType().getRawType());
+		assertSame(GenericType.Kind.COLLECTION, type.getElementType().getKind());
+		assertSame(Bean.class, type.getElementType().getElementType().getRawType());
+	}
+
+	@Test
+	public void resolvesArrays() throws Exception {
+		GenericType beans = returnType(Types.class, "getBeans");
+		assertType("Bean[]", GenericType.Kind.ARRAY, beans);
+		assertSame(Bean[].class, beans.getRawType());
+		assertSame(Bean.class, beans.getElementType().getRawType());
+
+		GenericType lists = returnType(Types.class, "getLists");
+		assertSame(GenericType.Kind.ARRAY, lists.getKind());
+		assertSame(List[].class, lists.getRawType());
+		assertType("List<Bean>", GenericType.Kind.COLLECTION, lists.getElementType());
+
+		GenericType variables = returnType(SubBeanPage.class, "getArray");
+		assertSame(SubBean[].class, variables.getRawType());
+		assertSame(SubBean.class, variables.getElementType().getRawType());
+	}
+
+	@Test
+	public void copiesElementsOfMappedClasses() throws Exception {
+		GenericType beans = returnType(Types.class, "getGroups");
+		GenericType dtos = returnType(DtoTypes.class, "getGroups");
+
+		assertTrue(beans.isCopiedInto(dtos, MAPPINGS));
+		assertFalse(beans.isCopiedInto(dtos, null));
+		assertFalse(returnType(Types.class, "getNames").isCopiedInto(returnType(DtoTypes.class, "getNames"),
+				MAPPINGS));
+		assertSame(BeanDto.class,
+				beans.getElementType().getElementType().getDestination(dtos.getElementType().getElementType(),
+						MAPPINGS));
+		assertNull("destination not assignable to element type", returnType(Types.class, "getNested")
+				.getElementType().getElementType().getDestination(GenericType.of(String.class, Types.class), MAPPINGS));
+	}
+
+	@Test
+	public void copiesSubclassElementIntoDestinationOfDeclaredElementType() throws Exception {
+		Types from = new Types();
+		SubBean sub = new SubBean();
+		sub.setName("sub");
+		sub.setExtra("extra");
+		from.setExtending(Arrays.asList(sub));
+
+		DtoTypes to = ReflectionUtil.copy(DtoTypes.class, from, MAPPINGS);
+
+		BeanDto copy = to.getExtending().get(0);
+		assertSame("declared element class decides the destination", BeanDto.class, copy.getClass());
+		assertEquals("sub", copy.getName());
+	}
+
+	private static GenericType returnType(Class<?> beanClass, String getter) throws Exception {
+		return GenericType.ofReturnType(beanClass.getMethod(getter), beanClass);
+	}
+
+	private static void assertType(String expected, GenericType.Kind kind, GenericType type) {
+		assertEquals(expected, type.toString());
+		assertSame(expected, kind, type.getKind());
+	}
+
+	public static class Bean {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class SubBean extends Bean {
+
+		private String extra;
+
+		public String getExtra() {
+			return extra;
+		}
+
+		public void setExtra(String extra) {
+			this.extra = extra;
+		}
+	}
+
+	public static class BeanDto {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class SubBeanDto extends BeanDto {
+
+		private String extra;
+
+		public String getExtra() {
+			return extra;
+		}
+
+		public void setExtra(String extra) {
+			this.extra = extra;
+		}
+	}
+
+	/**
+	 * Generic bean whose type variable is bound by subclasses.
+	 */
+	public static class Page<T extends Bean> {
+
+		private List<T> items = new ArrayList<T>();
+
+		public List<T> getItems() {
+			return items;
+		}
+
+		public void setItems(List<T> items) {
+			this.items = items;
+		}
+
+		public Map<String, T> getIndex() {
+			return null;
+		}
+
+		public T getFirst() {
+			return null;
+		}
+
+		public T[] getArray() {
+			return null;
+		}
+	}
+
+	public static class SubBeanPage extends Page<SubBean> {
+	}
+
+	/**
+	 * Origin bean with properties of each shape.
+	 */
+	public static class Types {
+
+		private List<? extends Bean> extending;
+		private Map<String, List<Bean>> groups;
+
+		public List<? extends Bean> getExtending() {
+			return extending;
+		}
+
+		public void setExtending(List<? extends Bean> extending) {
+			this.extending = extending;
+		}
+
+		public List<? super SubBean> getSuper() {
+			return null;
+		}
+
+		public List<?> getUnbounded() {
+			return null;
+		}
+
+		@SuppressWarnings("rawtypes")
+		public List getRaw() {
+			return null;
+		}
+
+		public List<List<SubBean>> getNested() {
+			return null;
+		}
+
+		public Map<String, List<Bean>> getGroups() {
+			return groups;
+		}
+
+		public void setGroups(Map<String, List<Bean>> groups) {
+			this.groups = groups;
+		}
+
+		public List<String> getNames() {
+			return null;
+		}
+
+		public Bean[] getBeans() {
+			return null;
+		}
+
+		public List<Bean>[] getLists() {
+			return null;
+		}
+	}
+
+	/**
+	 * Destination bean of {@link Types}.
+	 */
+	public static class DtoTypes {
+
+		private List<BeanDto> extending;
+		private Map<String, List<BeanDto>> groups;
+
+		public List<BeanDto> getExtending() {
+			return extending;
+		}
+
+		public void setExtending(List<BeanDto> extending) {
+			this.extending = extending;
+		}
+
+		public Map<String, List<BeanDto>> getGroups() {
+			return groups;
+		}
+
+		public void setGroups(Map<String, List<BeanDto>> groups) {
+			this.groups = groups;
+		}
+
+		public List<String> getNames() {
+			return null;
+		}
+	}
+}
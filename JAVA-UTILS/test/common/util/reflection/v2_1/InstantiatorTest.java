@@ -0,0 +1,135 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests how {@link ReflectionUtil} creates destination beans: by their public
+ * no-arg constructor or by a registered {@link Instantiator} only.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class InstantiatorTest {
+
+	@After
+	public void unregister() {
+		ReflectionUtil.registerInstantiator(Singleton.class, null);
+		ReflectionUtil.registerInstantiator(Named.class, null);
+	}
+
+	@Test
+	public void createsBeanByPublicConstructor() throws Exception {
+		Named from = new Named("a");
+
+		Named to = ReflectionUtil.copy(Named.class, from);
+
+		assertEquals("a", to.getName());
+	}
+
+	@Test
+	public void refusesPrivateConstructor() throws Exception {
+		try {
+			ReflectionUtil.copy(Singleton.class, new Named("a"));
+			fail("private constructor called");
+		} catch (IllegalAccessException e) {
+			// expected
+		}
+		assertEquals(1, Singleton.created);
+	}
+
+	@Test
+	public void refusesPrivateConstructorWhenCloning() throws Exception {
+		try {
+			ReflectionUtil.cloneBean(Singleton.INSTANCE);
+			fail("private constructor called");
+		} catch (IllegalAccessException e) {
+			// expected
+		}
+		assertEquals(1, Singleton.created);
+	}
+
+	@Test
+	public void refusesClassWithoutDefaultConstructor() throws Exception {
+		try {
+			ReflectionUtil.copy(Named.class, new Named("a"));
+			ReflectionUtil.copy(Unnamed.class, new Named("a"));
+			fail("class without default constructor instantiated");
+		} catch (InstantiationException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void createsBeanByRegisteredInstantiator() throws Exception {
+		ReflectionUtil.registerInstantiator(Singleton.class, new Instantiator<Singleton>() {
+			@Override
+			public Singleton newInstance() {
+				return Singleton.INSTANCE;
+			}
+		});
+
+		Singleton to = ReflectionUtil.copy(Singleton.class, new Named("b"));
+
+		assertEquals(Singleton.INSTANCE, to);
+		assertEquals("b", to.getName());
+		assertEquals(1, Singleton.created);
+	}
+
+	public static class Singleton {
+
+		static int created;
+		static final Singleton INSTANCE = new Singleton();
+
+		private String name;
+
+		private Singleton() {
+			created++;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Named {
+
+		private String name;
+
+		public Named() {
+		}
+
+		public Named(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Unnamed {
+
+		private String name;
+
+		public Unnamed(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import common.util.reflection.v2_1.CollectionCopyTest.Item;
+import common.util.reflection.v2_1.CollectionCopyTest.ItemDto;
+
+/**
+ * Tests the map and array properties copied by {@link ReflectionUtil} and
+ * {@link ReflectionUtil#copyArray(Class, Object, Map)}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class MapCopyTest {
+
+	@Test
+	public void copiesSortedMapOfComparableKeysIntoMapOfNonComparableKeys() throws Exception {
+		TreeMap<Item, String> stock = new TreeMap<Item, String>();
+		stock.put(new Item("c"), "3");
+		stock.put(new Item("a"), "1");
+		stock.put(new Item("b"), "2");
+		Store store = new Store();
+		store.setStock(stock);
+
+		StoreDto dto = ReflectionUtil.copy(StoreDto.class, store, itemMapping());
+
+		assertNotNull("map property was dropped", dto.getStock());
+		List<String> keys = new ArrayList<String>();
+		List<String> values = new ArrayList<String>();
+		for (Map.Entry<ItemDto, String> entry : dto.getStock().entrySet()) {
+			keys.add(entry.getKey().getName());
+			values.add(entry.getValue());
+		}
+		assertEquals(Arrays.asList("a", "b", "c"), keys);
+		assertEquals(Arrays.asList("1", "2", "3"), values);
+	}
+
+	@Test
+	public void keepsComparatorOfSortedMapWhenKeysAreNotCopied() throws Exception {
+		TreeMap<String, Item> byName = new TreeMap<String, Item>(Collections.<String> reverseOrder());
+		byName.put("a", new Item("a"));
+		byName.put("b", new Item("b"));
+		Store store = new Store();
+		store.setByName(byName);
+
+		StoreDto dto = ReflectionUtil.copy(StoreDto.class, store, itemMapping());
+
+		assertTrue(dto.getByName() instanceof SortedMap);
+		assertEquals(byName.comparator(), ((SortedMap<String, ItemDto>) dto.getByName()).comparator());
+		assertEquals(Arrays.asList("b", "a"), new ArrayList<String>(dto.getByName().keySet()));
+		assertEquals("b", dto.getByName().get("b").getName());
+	}
+
+	@Test
+	public void copiesArrayOfMappedBeans() throws Exception {
+		Item[] items = { new Item("x"), null, new Item("y") };
+
+		ItemDto[] dtos = ReflectionUtil.copyArray(ItemDto[].class, items, itemMapping());
+
+		assertEquals(3, dtos.length);
+		assertEquals("x", dtos[0].getName());
+		assertEquals(null, dtos[1]);
+		assertEquals("y", dtos[2].getName());
+	}
+
+	@Test
+	public void widensPrimitiveArray() throws Exception {
+		int[] from = { 1, 2, 3 };
+
+		long[] to = ReflectionUtil.copyArray(long[].class, from);
+
+		assertArrayEquals(new long[] { 1L, 2L, 3L }, to);
+		assertNotSame(from, to);
+	}
+
+	private static Map<Class<?>, Class<?>> itemMapping() {
+		Map<Class<?>, Class<?>> mapping = new HashMap<Class<?>, Class<?>>();
+		mapping.put(ItemDto.class, Item.class);
+		return mapping;
+	}
+
+	public static class Store {
+
+		private Map<Item, String> stock;
+		private Map<String, Item> byName;
+
+		public Map<Item, String> getStock() {
+			return stock;
+		}
+
+		public void setStock(Map<Item, String> stock) {
+			this.stock = stock;
+		}
+
+		public Map<String, Item> getByName() {
+			return byName;
+		}
+
+		public void setByName(Map<String, Item> byName) {
+			this.byName = byName;
+		}
+	}
+
+	public static class StoreDto {
+
+		private Map<ItemDto, String> stock;
+		private Map<String, ItemDto> byName;
+
+		public Map<ItemDto, String> getStock() {
+			return stock;
+		}
+
+		public void setStock(Map<ItemDto, String> stock) {
+			this.stock = stock;
+		}
+
+		public Map<String, ItemDto> getByName() {
+			return byName;
+		}
+
+		public void setByName(Map<String, ItemDto> byName) {
+			this.byName = byName;
+		}
+	}
+}
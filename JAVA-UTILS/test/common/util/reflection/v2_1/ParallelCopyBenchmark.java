@@ -0,0 +1,75 @@
+package common.util.reflection.v2_1;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import common.util.reflection.v2_1.TestBeans.Person;
+import common.util.reflection.v2_1.TestBeans.PersonDto;
+
+/**
+ * Measures {@link ReflectionUtil#copyAllParallel(Class, java.util.Collection,
+ * ForkJoinPool, int)} copying one batch in a pool of 1 to 32 threads, against
+ * {@link ReflectionUtil#copyAll(Class, Iterable)} copying it in calling thread.
+ * The speed up is bound by the number of cores of the machine:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ParallelCopyBenchmark
+ * </pre>
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelCopyBenchmark {
+
+	@Param({ "1", "2", "4", "8", "16", "32" })
+	public int parallelism;
+
+	@Param({ "200000" })
+	public int size;
+
+	private List<Person> persons;
+	private ForkJoinPool pool;
+
+	@Setup
+	public void setUp() {
+		persons = TestBeans.persons(size);
+		pool = new ForkJoinPool(parallelism);
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public List<PersonDto> parallel() throws Exception {
+		return ReflectionUtil.copyAllParallel(PersonDto.class, persons, pool,
+				ReflectionUtil.DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	@Benchmark
+	public List<PersonDto> sequential() throws Exception {
+		return ReflectionUtil.copyAll(PersonDto.class, persons);
+	}
+}
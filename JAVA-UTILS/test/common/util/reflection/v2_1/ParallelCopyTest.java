@@ -0,0 +1,113 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Test;
+
+import common.util.reflection.v2_1.InstantiatorTest.Singleton;
+import common.util.reflection.v2_1.TestBeans.Person;
+import common.util.reflection.v2_1.TestBeans.PersonDto;
+
+/**
+ * Tests {@link ReflectionUtil#copyAllParallel(Class, java.util.Collection)} and
+ * its variants taking a pool and threshold.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class ParallelCopyTest {
+
+	private static final int SIZE = 10000;
+
+	private final AccessorBackend backend = ReflectionUtil.getAccessorBackend();
+	private final ForkJoinPool pool = new ForkJoinPool(4);
+
+	@After
+	public void tearDown() {
+		ReflectionUtil.setAccessorBackend(backend);
+		pool.shutdown();
+	}
+
+	@Test
+	public void keepsOrderAndNullsWithEachBackend() throws Exception {
+		List<Person> persons = new ArrayList<Person>(TestBeans.persons(SIZE));
+		persons.set(17, null);
+		persons.set(SIZE - 1, null);
+		for (AccessorBackend each : AccessorBackend.values()) {
+			ReflectionUtil.setAccessorBackend(each);
+
+			List<PersonDto> copies = ReflectionUtil.copyAllParallel(PersonDto.class, persons, pool, 100);
+
+			assertEquals(SIZE, copies.size());
+			for (int i = 0; i < SIZE; i++) {
+				Person person = persons.get(i);
+				if (person == null) {
+					assertNull(copies.get(i));
+				} else {
+					assertTrue(each + " copy " + i, copies.get(i).isCopyOf(person));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void copiesWithCommonPool() throws Exception {
+		List<Person> persons = TestBeans.persons(ReflectionUtil.DEFAULT_PARALLEL_THRESHOLD * 3 + 1);
+
+		List<PersonDto> copies = ReflectionUtil.copyAllParallel(PersonDto.class, persons);
+
+		assertEquals(persons.size(), copies.size());
+		for (int i = 0; i < persons.size(); i++) {
+			assertTrue(copies.get(i).isCopyOf(persons.get(i)));
+		}
+	}
+
+	@Test
+	public void copiesSmallBatchInCallingThread() throws Exception {
+		List<Person> persons = TestBeans.persons(10);
+
+		List<PersonDto> copies = ReflectionUtil.copyAllParallel(PersonDto.class, persons, pool, 100);
+
+		assertEquals(10, copies.size());
+		assertTrue(copies.get(9).isCopyOf(persons.get(9)));
+		assertEquals(Collections.emptyList(),
+				ReflectionUtil.copyAllParallel(PersonDto.class, Collections.emptyList(), pool, 1));
+	}
+
+	@Test
+	public void throwsFailureOfAnyRange() throws Exception {
+		try {
+			ReflectionUtil.copyAllParallel(Singleton.class, TestBeans.persons(1000), pool, 10);
+			fail("destination beans created without public constructor");
+		} catch (IllegalAccessException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void rejectsInvalidArguments() throws Exception {
+		List<Person> persons = TestBeans.persons(10);
+		try {
+			ReflectionUtil.copyAllParallel(PersonDto.class, persons, null, 10);
+			fail("null pool accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			ReflectionUtil.copyAllParallel(PersonDto.class, persons, pool, 0);
+			fail("threshold 0 accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ReflectionUtil#copy(Object, Object)} of a bean having only
+ * primitive properties into an existing bean, with each
+ * {@link AccessorBackend}. <code>boxedInvoke</code> moves the same properties
+ * with {@link Method#invoke(Object, Object...)}, boxing each value, as the copy
+ * engine did before the primitive transfers. Run it with the allocation
+ * profiler and compare the <code>gc.alloc.rate.norm</code> lines:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark="PrimitiveCopyBenchmark -prof gc"
+ * </pre>
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveCopyBenchmark {
+
+	@Param({ "REFLECTION", "METHOD_HANDLE", "BYTECODE" })
+	public AccessorBackend backend;
+
+	private Numbers from;
+	private Numbers to;
+	private Method[] getters;
+	private Method[] setters;
+
+	@Setup
+	public void setUp() throws Exception {
+		ReflectionUtil.setAccessorBackend(backend);
+		from = new Numbers();
+		from.setCount(1234567);
+		from.setId(1234567890123L);
+		from.setAmount(98765.4321);
+		from.setActive(true);
+		to = new Numbers();
+		String[] names = { "Count", "Id", "Amount", "Active" };
+		Class<?>[] types = { int.class, long.class, double.class, boolean.class };
+		getters = new Method[names.length];
+		setters = new Method[names.length];
+		for (int i = 0; i < names.length; i++) {
+			getters[i] = Numbers.class.getMethod((types[i] == boolean.class ? "is" : "get") + names[i]);
+			setters[i] = Numbers.class.getMethod("set" + names[i], types[i]);
+		}
+	}
+
+	@Benchmark
+	public Numbers copy() {
+		ReflectionUtil.copy(to, from);
+		return to;
+	}
+
+	@Benchmark
+	public Numbers boxedInvoke() throws Exception {
+		for (int i = 0; i < getters.length; i++) {
+			setters[i].invoke(to, getters[i].invoke(from));
+		}
+		return to;
+	}
+
+	/**
+	 * Bean with one property of each primitive type having a transfer. Values
+	 * are out of the ranges of cached wrapper instances.
+	 */
+	public static class Numbers {
+
+		private int count;
+		private long id;
+		private double amount;
+		private boolean active;
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public double getAmount() {
+			return amount;
+		}
+
+		public void setAmount(double amount) {
+			this.amount = amount;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import common.util.reflection.v2_1.TestBeans.Person;
+
+/**
+ * Tests {@link ReflectionUtil#project(List, String...)}: the column types, the
+ * values of each row and the refusal of getters not fitting a column.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class ProjectionTest {
+
+	private final AccessorBackend backend = ReflectionUtil.getAccessorBackend();
+
+	@After
+	public void restoreBackend() {
+		ReflectionUtil.setAccessorBackend(backend);
+	}
+
+	@Test
+	public void projectsPropertiesIntoTypedColumns() throws Exception {
+		for (AccessorBackend each : AccessorBackend.values()) {
+			ReflectionUtil.setAccessorBackend(each);
+			List<Person> persons = new ArrayList<Person>(TestBeans.persons(3));
+			persons.add(1, null);
+
+			BeanColumns columns = ReflectionUtil.project(persons, "age", "id", "score", "active", "name");
+
+			assertEquals(4, columns.size());
+			assertArrayEquals(new int[] { 0, 0, 1, 2 }, columns.getInts("age"));
+			assertArrayEquals(new long[] { 1000000L, 0L, 1000001L, 1000002L }, columns.getLongs("id"));
+			assertArrayEquals(new double[] { 0.0, 0.0, 0.25, 0.5 }, columns.getDoubles("score"), 0.0);
+			assertArrayEquals(new boolean[] { true, false, false, true }, columns.getBooleans("active"));
+			assertArrayEquals(new String[] { "name-0", null, "name-1", "name-2" }, columns.getStrings("name"));
+		}
+	}
+
+	@Test
+	public void widensIntoWiderColumnOfFirstClass() throws Exception {
+		List<Object> beans = Arrays.<Object> asList(new LongCount(5L), new IntCount(7));
+
+		BeanColumns columns = ReflectionUtil.project(beans, "count");
+
+		assertArrayEquals(new long[] { 5L, 7L }, columns.getLongs("count"));
+	}
+
+	@Test
+	public void refusesLongGetterForIntColumn() throws Exception {
+		List<Object> beans = Arrays.<Object> asList(new IntCount(1), new LongCount(Integer.MAX_VALUE + 1L));
+		try {
+			ReflectionUtil.project(beans, "count");
+			fail("long value narrowed into int column");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void refusesObjectGetterForNumberColumn() throws Exception {
+		List<Object> beans = Arrays.<Object> asList(new IntCount(1), new ObjectCount(Long.MAX_VALUE));
+		try {
+			ReflectionUtil.project(beans, "count");
+			fail("object value narrowed into int column");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	public static class IntCount {
+
+		private final int count;
+
+		public IntCount(int count) {
+			this.count = count;
+		}
+
+		public int getCount() {
+			return count;
+		}
+	}
+
+	public static class LongCount {
+
+		private final Long count;
+
+		public LongCount(Long count) {
+			this.count = count;
+		}
+
+		public Long getCount() {
+			return count;
+		}
+	}
+
+	public static class ObjectCount {
+
+		private final Object count;
+
+		public ObjectCount(Object count) {
+			this.count = count;
+		}
+
+		public Object getCount() {
+			return count;
+		}
+	}
+}
@@ -0,0 +1,226 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests the parsing, caching and evaluation of {@link PropertyPath} and the
+ * path lookups of {@link ReflectionUtil#find(Object, String)} and
+ * {@link ReflectionUtil#findPut(Object, Class, String, Object)}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class PropertyPathTest {
+
+	@Test
+	public void readsNestedPropertiesIndexesAndKeys() {
+		Customer customer = customer();
+
+		assertEquals("Pune", ReflectionUtil.find(customer, "address.city"));
+		assertEquals("second", ReflectionUtil.find(customer, "orders[1].name"));
+		assertEquals("gold", ReflectionUtil.find(customer, "attributes['tier']"));
+		assertEquals("gold", ReflectionUtil.find(customer, "attributes[\"tier\"]"));
+		assertEquals(Integer.valueOf(7), ReflectionUtil.find(customer, "codes[0]"));
+		assertEquals("public", ReflectionUtil.find(customer, "label"));
+	}
+
+	@Test
+	public void readsNullWhenPathReachesNull() {
+		Customer customer = customer();
+		customer.setAddress(null);
+
+		assertNull(ReflectionUtil.find(customer, "address.city"));
+	}
+
+	@Test
+	public void writesAtEndOfPath() {
+		Customer customer = customer();
+
+		ReflectionUtil.findPut(customer, Customer.class, "address.city", "Mumbai");
+		ReflectionUtil.findPut(customer, Customer.class, "orders[0].name", "changed");
+		ReflectionUtil.findPut(customer, Customer.class, "attributes['tier']", "silver");
+
+		assertEquals("Mumbai", customer.getAddress().getCity());
+		assertEquals("changed", customer.getOrders().get(0).getName());
+		assertEquals("silver", customer.getAttributes().get("tier"));
+	}
+
+	@Test
+	public void returnsSameCompiledPath() {
+		assertSame(PropertyPath.compile("address.city"), PropertyPath.compile("address.city"));
+	}
+
+	@Test
+	public void rejectsEmptySteps() {
+		assertInvalid(null);
+		assertInvalid("");
+		assertInvalid("a..b");
+		assertInvalid(".a");
+		assertInvalid("a.");
+		assertInvalid("a.[0]");
+		assertInvalid("a[]");
+		assertInvalid("a[x]");
+		assertInvalid("a[0");
+		assertInvalid("a]");
+	}
+
+	@Test
+	public void readsQuotedKeysWithBracketsAndEscapes() {
+		Customer customer = customer();
+		customer.getAttributes().put("a]b", "bracket");
+		customer.getAttributes().put("it's", "quote");
+		customer.getAttributes().put("say \"hi\"", "double quote");
+		customer.getAttributes().put("c:\\dir", "backslash");
+
+		assertEquals("bracket", ReflectionUtil.find(customer, "attributes['a]b']"));
+		assertEquals("quote", ReflectionUtil.find(customer, "attributes['it\\'s']"));
+		assertEquals("quote", ReflectionUtil.find(customer, "attributes[\"it's\"]"));
+		assertEquals("double quote", ReflectionUtil.find(customer, "attributes[\"say \\\"hi\\\"\"]"));
+		assertEquals("backslash", ReflectionUtil.find(customer, "attributes['c:\\\\dir']"));
+		assertEquals("backslash", ReflectionUtil.find(customer, "attributes['c:\\dir']"));
+		assertEquals("bracket", ReflectionUtil.find(customer, "attributes[ 'a]b' ]"));
+
+		ReflectionUtil.findPut(customer, Customer.class, "attributes['x]y']", "written");
+		assertEquals("written", customer.getAttributes().get("x]y"));
+	}
+
+	@Test
+	public void rejectsStepRightAfterBracket() {
+		assertInvalid("orders[0]name");
+		assertInvalid("attributes['tier']name");
+		assertInvalid("attributes['tier']]");
+		assertInvalid("attributes['tier'");
+		assertInvalid("attributes['tier]");
+		assertInvalid("attributes['tier' x]");
+	}
+
+	@Test
+	public void keepsPathsInUseCached() {
+		PropertyPath hot = PropertyPath.compile("address.city");
+		for (int i = 0; i < PropertyPath.MAX_CACHED_PATHS * 3; i++) {
+			PropertyPath.compile("attributes['key" + i + "']");
+			assertSame("path in use dropped after " + i + " paths", hot, PropertyPath.compile("address.city"));
+		}
+	}
+
+	@Test
+	public void boundsCacheOfDynamicPaths() {
+		for (int i = 0; i < PropertyPath.MAX_CACHED_PATHS * 3; i++) {
+			PropertyPath.compile("attributes['key" + i + "']");
+		}
+
+		assertTrue(PropertyPath.cacheSize() <= PropertyPath.MAX_CACHED_PATHS);
+	}
+
+	private static void assertInvalid(String path) {
+		try {
+			PropertyPath.compile(path);
+			fail("Path accepted: " + path);
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private static Customer customer() {
+		Address address = new Address();
+		address.setCity("Pune");
+		List<Order> orders = new ArrayList<Order>();
+		orders.add(new Order("first"));
+		orders.add(new Order("second"));
+		Map<String, String> attributes = new HashMap<String, String>();
+		attributes.put("tier", "gold");
+		Customer customer = new Customer();
+		customer.setAddress(address);
+		customer.setOrders(orders);
+		customer.setAttributes(attributes);
+		customer.setCodes(new int[] { 7, 8 });
+		customer.label = "public";
+		return customer;
+	}
+
+	public static class Customer {
+
+		public String label;
+		private Address address;
+		private List<Order> orders;
+		private Map<String, String> attributes;
+		private int[] codes;
+
+		public Address getAddress() {
+			return address;
+		}
+
+		public void setAddress(Address address) {
+			this.address = address;
+		}
+
+		public List<Order> getOrders() {
+			return orders;
+		}
+
+		public void setOrders(List<Order> orders) {
+			this.orders = orders;
+		}
+
+		public Map<String, String> getAttributes() {
+			return attributes;
+		}
+
+		public void setAttributes(Map<String, String> attributes) {
+			this.attributes = attributes;
+		}
+
+		public int[] getCodes() {
+			return codes;
+		}
+
+		public void setCodes(int[] codes) {
+			this.codes = codes;
+		}
+	}
+
+	public static class Address {
+
+		private String city;
+
+		public String getCity() {
+			return city;
+		}
+
+		public void setCity(String city) {
+			this.city = city;
+		}
+	}
+
+	public static class Order {
+
+		private String name;
+
+		public Order() {
+		}
+
+		public Order(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+import common.util.reflection.v2_1.TestBeans.Person;
+
+/**
+ * Tests {@link ReflectionUtil#toMap(Object)},
+ * {@link ReflectionUtil#fromMap(Class, Map)} and
+ * {@link ReflectionUtil#findNPut(Object, Map)} with each backend, and the cache
+ * of {@link PropertyTable}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class PropertyTableTest {
+
+	private final AccessorBackend backend = ReflectionUtil.getAccessorBackend();
+
+	@After
+	public void restoreBackend() {
+		ReflectionUtil.setAccessorBackend(backend);
+	}
+
+	@Test
+	public void readsPropertiesInFieldOrder() throws Exception {
+		for (AccessorBackend each : AccessorBackend.values()) {
+			ReflectionUtil.setAccessorBackend(each);
+
+			Map<String, Object> map = ReflectionUtil.toMap(TestBeans.person(3));
+
+			assertEquals(Arrays.asList("name", "age", "id", "score", "active"),
+					Arrays.asList(map.keySet().toArray()));
+			assertEquals("name-3", map.get("name"));
+			assertEquals(Integer.valueOf(3), map.get("age"));
+			assertEquals(Long.valueOf(1000003L), map.get("id"));
+			assertEquals(Double.valueOf(0.75), map.get("score"));
+			assertEquals(Boolean.FALSE, map.get("active"));
+		}
+	}
+
+	@Test
+	public void writesKnownPropertiesAndSkipsOthers() throws Exception {
+		for (AccessorBackend each : AccessorBackend.values()) {
+			ReflectionUtil.setAccessorBackend(each);
+			Map<String, Object> map = new HashMap<String, Object>();
+			map.put("name", "x");
+			map.put("age", Integer.valueOf(42));
+			map.put("id", "not a long");
+			map.put("unknown", "ignored");
+
+			Person person = ReflectionUtil.fromMap(Person.class, map);
+
+			assertEquals("x", person.getName());
+			assertEquals(42, person.getAge());
+			assertEquals(0L, person.getId());
+
+			map.put("name", null);
+			ReflectionUtil.findNPut(person, map);
+			assertNull(person.getName());
+		}
+	}
+
+	@Test
+	public void roundTripsThroughMap() throws Exception {
+		Person person = TestBeans.person(8);
+
+		Person copy = ReflectionUtil.fromMap(Person.class, ReflectionUtil.toMap(person));
+
+		assertEquals(ReflectionUtil.toMap(person), ReflectionUtil.toMap(copy));
+		assertTrue(copy.isActive());
+	}
+
+	@Test
+	public void keepsOneTablePerBackend() {
+		PropertyTable reflection = PropertyTable.of(Person.class, AccessorBackend.REFLECTION);
+		PropertyTable bytecode = PropertyTable.of(Person.class, AccessorBackend.BYTECODE);
+
+		assertNotSame(reflection, bytecode);
+		assertSame(reflection, PropertyTable.of(Person.class, AccessorBackend.REFLECTION));
+		assertSame(bytecode, PropertyTable.of(Person.class, AccessorBackend.BYTECODE));
+	}
+}
@@ -0,0 +1,160 @@
+package common.util.reflection.v2_1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class holds the beans shared by the tests and benchmarks of
+ * {@link ReflectionUtil}.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public final class TestBeans {
+
+	private TestBeans() {
+	}
+
+	/**
+	 * @param i
+	 *            seed of property values
+	 * @return person whose properties are derived from given seed
+	 */
+	public static Person person(int i) {
+		Person person = new Person();
+		person.setName("name-" + i);
+		person.setAge(i % 100);
+		person.setId(1000000L + i);
+		person.setScore(i / 4.0);
+		person.setActive(i % 2 == 0);
+		return person;
+	}
+
+	/**
+	 * @param size
+	 *            number of persons
+	 * @return list of persons seeded 0 to size - 1
+	 */
+	public static List<Person> persons(int size) {
+		List<Person> persons = new ArrayList<Person>(size);
+		for (int i = 0; i < size; i++) {
+			persons.add(person(i));
+		}
+		return persons;
+	}
+
+	/**
+	 * Origin bean with primitive and object properties.
+	 */
+	public static class Person {
+
+		private String name;
+		private int age;
+		private long id;
+		private double score;
+		private boolean active;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public double getScore() {
+			return score;
+		}
+
+		public void setScore(double score) {
+			this.score = score;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+	}
+
+	/**
+	 * Destination bean of {@link Person}, with the same properties.
+	 */
+	public static class PersonDto {
+
+		private String name;
+		private int age;
+		private long id;
+		private double score;
+		private boolean active;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public double getScore() {
+			return score;
+		}
+
+		public void setScore(double score) {
+			this.score = score;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		/**
+		 * @param person
+		 *            origin person
+		 * @return true if all properties are the ones of given person
+		 */
+		public boolean isCopyOf(Person person) {
+			return name.equals(person.getName()) && age == person.getAge() && id == person.getId()
+					&& score == person.getScore() && active == person.isActive();
+		}
+	}
+}
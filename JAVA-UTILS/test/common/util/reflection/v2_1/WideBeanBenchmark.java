@@ -0,0 +1,112 @@
+package common.util.reflection.v2_1;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one copy of beans generated by {@link WideBeans} with 50, 200 and
+ * 1000 properties. <code>indexed</code> copies with
+ * {@link AccessorBackend#REFLECTION}, whose setters are found through the
+ * property name index of the copy plan. <code>nestedScan</code> pairs the
+ * methods the way the copy engine did before the index: every getter scans the
+ * remaining destination methods and compares the names cut by
+ * <code>substring</code>. <code>paired</code> invokes the same reflective
+ * methods from getter and setter pairs resolved in setup, so it is the cost of
+ * the calls alone and the other results less this one are the cost of pairing.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=WideBeanBenchmark
+ * </pre>
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WideBeanBenchmark {
+
+	@Param({ "50", "200", "1000" })
+	public int width;
+
+	private Class<?> toClass;
+	private Object from;
+	private Method[] getters;
+	private Method[] setters;
+
+	@Setup
+	public void setUp() throws Exception {
+		Class<?>[] classes = WideBeans.compile(width);
+		toClass = classes[1];
+		from = WideBeans.newBean(classes[0], 42);
+		getters = new Method[width];
+		setters = new Method[width];
+		for (int i = 0; i < width; i++) {
+			getters[i] = classes[0].getMethod("getP" + i);
+			setters[i] = toClass.getMethod("setP" + i, getters[i].getReturnType());
+		}
+		ReflectionUtil.setAccessorBackend(AccessorBackend.REFLECTION);
+	}
+
+	@Benchmark
+	public Object indexed() throws Exception {
+		return ReflectionUtil.copy(toClass, from);
+	}
+
+	@Benchmark
+	public Object paired() throws Exception {
+		Object to = toClass.getConstructor().newInstance();
+		for (int i = 0; i < getters.length; i++) {
+			setters[i].invoke(to, getters[i].invoke(from));
+		}
+		return to;
+	}
+
+	@Benchmark
+	public Object nestedScan() throws Exception {
+		Object to = toClass.getConstructor().newInstance();
+		Set<Method> toMethods = new LinkedHashSet<Method>(Arrays.asList(toClass.getMethods()));
+		for (Method fromMethod : from.getClass().getMethods()) {
+			boolean isBoolean = fromMethod.getName().startsWith("is") && fromMethod.getReturnType() == boolean.class;
+			if (!fromMethod.getName().startsWith(isBoolean ? "is" : "get") || fromMethod.getParameterTypes().length != 0
+					|| fromMethod.getReturnType() == void.class) {
+				continue;
+			}
+			Object value = fromMethod.invoke(from);
+			if (value == null) {
+				continue;
+			}
+			Iterator<Method> iterator = toMethods.iterator();
+			while (iterator.hasNext()) {
+				Method toMethod = iterator.next();
+				if (toMethod.getName().startsWith("set") && toMethod.getParameterTypes().length == 1
+						&& toMethod.getName().substring(3).equals(fromMethod.getName().substring(isBoolean ? 2 : 3))) {
+					toMethod.invoke(to, value);
+					iterator.remove();
+					break;
+				}
+			}
+		}
+		return to;
+	}
+}
@@ -0,0 +1,63 @@
+package common.util.reflection.v2_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests copies of beans generated by {@link WideBeans} with every
+ * {@link AccessorBackend}, including generated copiers split into chunk
+ * methods.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public class WideBeanTest {
+
+	private static final int WIDTH = 250;
+
+	private static Class<?> fromClass;
+	private static Class<?> toClass;
+
+	private final AccessorBackend backend = ReflectionUtil.getAccessorBackend();
+
+	@BeforeClass
+	public static void compileBeans() throws Exception {
+		Class<?>[] classes = WideBeans.compile(WIDTH);
+		fromClass = classes[0];
+		toClass = classes[1];
+	}
+
+	@After
+	public void restoreBackend() {
+		ReflectionUtil.setAccessorBackend(backend);
+	}
+
+	@Test
+	public void copiesEveryPropertyWithEachBackend() throws Exception {
+		for (AccessorBackend each : AccessorBackend.values()) {
+			ReflectionUtil.setAccessorBackend(each);
+			Object from = WideBeans.newBean(fromClass, 17);
+
+			Object to = ReflectionUtil.copy(toClass, from);
+
+			Map<String, Object> values = ReflectionUtil.toMap(from);
+			assertEquals(WIDTH, values.size());
+			assertEquals(each.name(), values, ReflectionUtil.toMap(to));
+		}
+	}
+
+	@Test
+	public void generatesChunkedCopier() {
+		CopyPlan plan = CopyPlan.create(toClass, fromClass, false, null, AccessorBackend.BYTECODE);
+
+		assertEquals(WIDTH, plan.getMappings().length);
+		assertNotNull(plan.getCopier());
+	}
+}
@@ -0,0 +1,118 @@
+package common.util.reflection.v2_1;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * This class generates bean classes with a given number of properties, for the
+ * tests and benchmarks of wide beans. The sources are compiled at runtime with
+ * the system Java compiler and loaded by their own class loader.
+ * <p>
+ * Property <code>pN</code> is an <code>int</code>, <code>long</code>,
+ * {@link String} or <code>double</code> by <code>N % 4</code>. Each class has a
+ * <code>fill(int seed)</code> method setting every property from the seed.
+ *
+ * @author Vijay Shegokar
+ * @version 2.1
+ * @date 06-April-2018
+ */
+public final class WideBeans {
+
+	private static final String[] TYPES = { "int", "long", "String", "double" };
+
+	private WideBeans() {
+	}
+
+	/**
+	 * This method generates and loads an origin and a destination class having
+	 * given number of properties.
+	 *
+	 * @param width
+	 *            number of properties
+	 * @return origin class and destination class
+	 * @throws IOException
+	 *             If the sources can not be written or compiled
+	 * @throws ClassNotFoundException
+	 *             If the compiled classes can not be loaded
+	 */
+	public static Class<?>[] compile(int width) throws IOException, ClassNotFoundException {
+		File dir = Files.createTempDirectory("wide-beans").toFile();
+		String from = "WideFrom" + width;
+		String to = "WideTo" + width;
+		File fromFile = write(dir, from, width);
+		File toFile = write(dir, to, width);
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if (compiler == null)
+			throw new IOException("No system Java compiler, run on a JDK");
+		if (compiler.run(null, null, null, "-d", dir.getPath(), fromFile.getPath(), toFile.getPath()) != 0)
+			throw new IOException("Not able to compile " + Arrays.asList(fromFile, toFile));
+		ClassLoader loader = new URLClassLoader(new URL[] { dir.toURI().toURL() }, WideBeans.class.getClassLoader());
+		return new Class<?>[] { loader.loadClass("wide." + from), loader.loadClass("wide." + to) };
+	}
+
+	/**
+	 * @param clazz
+	 *            class generated by {@link #compile(int)}
+	 * @param seed
+	 *            seed of property values
+	 * @return new bean of given class whose properties are set from the seed
+	 */
+	public static Object newBean(Class<?> clazz, int seed) throws Exception {
+		Object bean = clazz.getConstructor().newInstance();
+		clazz.getMethod("fill", int.class).invoke(bean, seed);
+		return bean;
+	}
+
+	private static File write(File dir, String name, int width) throws IOException {
+		StringBuilder source = new StringBuilder("package wide;\n\npublic class ").append(name).append(" {\n");
+		for (int i = 0; i < width; i++) {
+			source.append("\tprivate ").append(TYPES[i % 4]).append(" p").append(i).append(";\n");
+		}
+		source.append("\n\tpublic void fill(int seed) {\n");
+		for (int i = 0; i < width; i++) {
+			source.append("\t\tp").append(i).append(" = ");
+			switch (i % 4) {
+			case 0:
+				source.append("seed + ").append(i);
+				break;
+			case 1:
+				source.append("seed * 1000000L + ").append(i);
+				break;
+			case 2:
+				source.append("\"v\" + seed + \"-").append(i).append('"');
+				break;
+			default:
+				source.append("seed / 4.0 + ").append(i);
+			}
+			source.append(";\n");
+		}
+		source.append("\t}\n");
+		for (int i = 0; i < width; i++) {
+			String type = TYPES[i % 4];
+			source.append("\n\tpublic ").append(type).append(" getP").append(i).append("() {\n\t\treturn p")
+					.append(i).append(";\n\t}\n");
+			source.append("\n\tpublic void setP").append(i).append('(').append(type).append(" p").append(i)
+					.append(") {\n\t\tthis.p").append(i).append(" = p").append(i).append(";\n\t}\n");
+		}
+		source.append("}\n");
+		File packageDir = new File(dir, "wide");
+		packageDir.mkdirs();
+		File file = new File(packageDir, name + ".java");
+		Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+		try {
+			writer.write(source.toString());
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+}